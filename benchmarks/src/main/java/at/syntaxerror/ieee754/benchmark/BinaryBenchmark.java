@@ -0,0 +1,117 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures creating, encoding and decoding binary floating point numbers (per value)
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryBenchmark {
+
+	@Param({
+		"Binary16", "Binary32", "Binary64", "Binary80", "Binary128",
+		"Binary256", "Binary512", "Binary1024", "Binary2048"
+	})
+	public String type;
+	
+	@Param
+	public Input input;
+	
+	private Workload<?> workload;
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		workload = Workload.of(type, input, null);
+	}
+	
+	/**
+	 * {@code FACTORY.create(BigDecimal)}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(Workload.SIZE)
+	public void create(Blackhole blackhole) {
+		workload.create(blackhole);
+	}
+	
+	/**
+	 * {@code CODEC.encode(T)}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(Workload.SIZE)
+	public void encode(Blackhole blackhole) {
+		workload.encode(blackhole);
+	}
+	
+	/**
+	 * {@code CODEC.decode(BigInteger)}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(Workload.SIZE)
+	public void decode(Blackhole blackhole) {
+		workload.decode(blackhole);
+	}
+	
+	/**
+	 * {@code CODEC.decode(BigInteger).getBigDecimal()}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(Workload.SIZE)
+	public void decodeValue(Blackhole blackhole) {
+		workload.decodeValue(blackhole);
+	}
+	
+	/**
+	 * {@code CODEC.encode(FACTORY.create(BigDecimal))}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(Workload.SIZE)
+	public void roundTrip(Blackhole blackhole) {
+		workload.roundTrip(blackhole);
+	}
+	
+}
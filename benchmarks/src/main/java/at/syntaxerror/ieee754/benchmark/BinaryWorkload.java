@@ -0,0 +1,91 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.benchmark;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Random;
+
+import at.syntaxerror.ieee754.FloatingFactory;
+import at.syntaxerror.ieee754.binary.Binary;
+import at.syntaxerror.ieee754.binary.BinaryCodec;
+
+/**
+ * This class generates the inputs for binary types
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class BinaryWorkload<T extends Binary<T>> extends Workload<T> {
+
+	private static final BigDecimal TWO = BigDecimal.valueOf(2);
+	
+	private final BinaryCodec<T> binaryCodec;
+	
+	BinaryWorkload(BinaryCodec<T> codec, FloatingFactory<T> factory, Input input, Random random) {
+		super(codec, factory);
+		
+		binaryCodec = codec;
+		
+		init(input, random);
+	}
+	
+	@Override
+	protected BigDecimal generate(Input input, Random random) {
+		BigDecimal value = switch(input) {
+		case REALISTIC -> realistic(random);
+		
+		case SUBNORMAL -> // exponent bits are all zero
+			binaryCodec.decode(new BigInteger(binaryCodec.getSignificandBits(), random).max(BigInteger.ONE)).getBigDecimal();
+		
+		case HUGE_SCALE -> {
+			Map.Entry<Integer, Integer> range = binaryCodec.get10ExponentRange();
+			
+			BigDecimal digits = new BigDecimal(new BigInteger(binaryCodec.getSignificandBits() + 40, random).setBit(0));
+			
+			int exponent = random.nextBoolean()
+				? range.getValue() + random.nextInt(-2, 2)
+				: range.getKey() + random.nextInt(-2, 2);
+			
+			yield digits.scaleByPowerOfTen(exponent - digits.precision() + 1);
+		}
+		
+		case TIE -> {
+			// midpoint between a number and the next larger number (in magnitude)
+			BigInteger bits = binaryCodec.encode(factory.create(realistic(random).abs()));
+			
+			yield binaryCodec.decode(bits).getBigDecimal()
+				.add(binaryCodec.decode(bits.add(BigInteger.ONE)).getBigDecimal())
+				.divide(TWO);
+		}
+		};
+		
+		return random.nextBoolean() ? value.negate() : value;
+	}
+	
+	private static BigDecimal realistic(Random random) {
+		return BigDecimal.valueOf(random.nextDouble(-1000, 1000));
+	}
+	
+}
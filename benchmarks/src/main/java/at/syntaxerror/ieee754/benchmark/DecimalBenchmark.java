@@ -0,0 +1,119 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import at.syntaxerror.ieee754.decimal.DecimalCoding;
+
+/**
+ * Measures creating, encoding and decoding decimal floating point numbers (per value), using either coding
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecimalBenchmark {
+
+	@Param({ "Decimal32", "Decimal64", "Decimal128" })
+	public String type;
+	
+	@Param
+	public Input input;
+	
+	@Param
+	public DecimalCoding coding;
+	
+	private Workload<?> workload;
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		workload = Workload.of(type, input, coding);
+	}
+	
+	/**
+	 * {@code FACTORY.create(BigDecimal)}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(Workload.SIZE)
+	public void create(Blackhole blackhole) {
+		workload.create(blackhole);
+	}
+	
+	/**
+	 * {@code CODEC.encodeBID(T)} or {@code CODEC.encodeDPD(T)}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(Workload.SIZE)
+	public void encode(Blackhole blackhole) {
+		workload.encode(blackhole);
+	}
+	
+	/**
+	 * {@code CODEC.decodeBID(BigInteger)} or {@code CODEC.decodeDPD(BigInteger)}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(Workload.SIZE)
+	public void decode(Blackhole blackhole) {
+		workload.decode(blackhole);
+	}
+	
+	/**
+	 * {@code CODEC.decodeBID(BigInteger).getBigDecimal()} or {@code CODEC.decodeDPD(BigInteger).getBigDecimal()}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(Workload.SIZE)
+	public void decodeValue(Blackhole blackhole) {
+		workload.decodeValue(blackhole);
+	}
+	
+	/**
+	 * {@code CODEC.encodeBID(FACTORY.create(BigDecimal))} or {@code CODEC.encodeDPD(FACTORY.create(BigDecimal))}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(Workload.SIZE)
+	public void roundTrip(Blackhole blackhole) {
+		workload.roundTrip(blackhole);
+	}
+	
+}
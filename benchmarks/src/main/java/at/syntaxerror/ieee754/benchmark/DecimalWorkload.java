@@ -0,0 +1,105 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.benchmark;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Random;
+
+import at.syntaxerror.ieee754.FloatingFactory;
+import at.syntaxerror.ieee754.decimal.Decimal;
+import at.syntaxerror.ieee754.decimal.DecimalCodec;
+import at.syntaxerror.ieee754.decimal.DecimalCoding;
+
+/**
+ * This class generates the inputs for decimal types and encodes/decodes them using the given coding
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class DecimalWorkload<T extends Decimal<T>> extends Workload<T> {
+
+	private final DecimalCodec<T> decimalCodec;
+	private final DecimalCoding coding;
+	
+	DecimalWorkload(DecimalCodec<T> codec, FloatingFactory<T> factory, Input input, DecimalCoding coding, Random random) {
+		super(codec, factory);
+		
+		decimalCodec = codec;
+		this.coding = coding;
+		
+		init(input, random);
+	}
+	
+	@Override
+	protected BigInteger encode(T value) {
+		return coding == DecimalCoding.DENSLY_PACKED_DECIMAL
+			? decimalCodec.encodeDPD(value)
+			: decimalCodec.encodeBID(value);
+	}
+	
+	@Override
+	protected T decode(BigInteger value) {
+		return coding == DecimalCoding.DENSLY_PACKED_DECIMAL
+			? decimalCodec.decodeDPD(value)
+			: decimalCodec.decodeBID(value);
+	}
+	
+	@Override
+	protected BigDecimal generate(Input input, Random random) {
+		int digits = decimalCodec.getSignificandDigits();
+		int bias = decimalCodec.getBias();
+		
+		BigDecimal value = switch(input) {
+		case REALISTIC -> BigDecimal.valueOf(random.nextDouble(-1000, 1000)).round(new MathContext(digits));
+		
+		case SUBNORMAL -> // fewer than 'digits' digits at the smallest exponent
+			new BigDecimal(coefficient(random, digits - 1).max(BigInteger.ONE), bias);
+		
+		case HUGE_SCALE -> new BigDecimal(
+			coefficient(random, digits * 2),
+			random.nextBoolean()
+				? bias + digits + random.nextInt(-2, 2)
+				: -(bias - digits) + random.nextInt(-2, 2)
+		);
+		
+		case TIE -> new BigDecimal( // one digit more than the precision, ending in 5
+			coefficient(random, digits).multiply(BigInteger.TEN).add(BigInteger.valueOf(5)),
+			random.nextInt(-bias / 2, bias / 2)
+		);
+		};
+		
+		return random.nextBoolean() ? value.negate() : value;
+	}
+	
+	// random coefficient with exactly the given number of digits
+	private static BigInteger coefficient(Random random, int digits) {
+		BigInteger min = BigInteger.TEN.pow(digits - 1);
+		
+		return new BigInteger(digits * 4, random)
+			.mod(min.multiply(BigInteger.valueOf(9)))
+			.add(min);
+	}
+	
+}
@@ -0,0 +1,54 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.benchmark;
+
+/**
+ * The kinds of values used as benchmark inputs
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public enum Input {
+
+	/**
+	 * short decimal literals (as produced by {@link java.math.BigDecimal#valueOf(double)}) between -1000 and 1000
+	 */
+	REALISTIC,
+	
+	/**
+	 * subnormal numbers
+	 */
+	SUBNORMAL,
+	
+	/**
+	 * numbers with more significant digits than the format's precision, close to the largest and smallest
+	 * magnitudes (some of them overflow or underflow)
+	 */
+	HUGE_SCALE,
+	
+	/**
+	 * numbers exactly halfway between two adjacent representable numbers
+	 */
+	TIE
+	
+}
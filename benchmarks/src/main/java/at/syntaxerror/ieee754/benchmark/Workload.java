@@ -0,0 +1,209 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.benchmark;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import at.syntaxerror.ieee754.CodecOptions;
+import at.syntaxerror.ieee754.Floating;
+import at.syntaxerror.ieee754.FloatingCodec;
+import at.syntaxerror.ieee754.FloatingFactory;
+import at.syntaxerror.ieee754.binary.Binary;
+import at.syntaxerror.ieee754.binary.Binary1024;
+import at.syntaxerror.ieee754.binary.Binary128;
+import at.syntaxerror.ieee754.binary.Binary16;
+import at.syntaxerror.ieee754.binary.Binary2048;
+import at.syntaxerror.ieee754.binary.Binary256;
+import at.syntaxerror.ieee754.binary.Binary32;
+import at.syntaxerror.ieee754.binary.Binary512;
+import at.syntaxerror.ieee754.binary.Binary64;
+import at.syntaxerror.ieee754.binary.Binary80;
+import at.syntaxerror.ieee754.binary.BinaryCodec;
+import at.syntaxerror.ieee754.decimal.Decimal;
+import at.syntaxerror.ieee754.decimal.Decimal128;
+import at.syntaxerror.ieee754.decimal.Decimal32;
+import at.syntaxerror.ieee754.decimal.Decimal64;
+import at.syntaxerror.ieee754.decimal.DecimalCodec;
+import at.syntaxerror.ieee754.decimal.DecimalCoding;
+
+/**
+ * This class holds the inputs of a benchmark and performs the measured operations on all of them.
+ * <p>
+ * The types are only initialized when they are used, since initializing the larger binary types takes a long time.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+abstract class Workload<T extends Floating<T>> {
+	
+	/**
+	 * number of values processed by each benchmark invocation
+	 */
+	static final int SIZE = 256;
+	
+	// fixed seed, so that all forks and runs use the same inputs
+	private static final long SEED = 0x1EEE754L;
+	
+	/**
+	 * Creates the workload for the given type, input kind and decimal coding (ignored for binary types)
+	 * 
+	 * @param type the name of the type (e.g. {@code Binary64} or {@code Decimal128})
+	 * @param input the kind of input
+	 * @param coding the decimal coding
+	 * @return the workload
+	 */
+	static Workload<?> of(String type, Input input, DecimalCoding coding) {
+		return of(type, input, coding, null);
+	}
+	
+	/**
+	 * Creates the workload for the given type, input kind and decimal coding (ignored for binary types),
+	 * whose codec is bound to the given options
+	 * 
+	 * @param type the name of the type (e.g. {@code Binary64} or {@code Decimal128})
+	 * @param input the kind of input
+	 * @param coding the decimal coding
+	 * @param options the options, or {@code null} if the codec should use the default options
+	 * @return the workload
+	 */
+	static Workload<?> of(String type, Input input, DecimalCoding coding, CodecOptions options) {
+		Random random = new Random(SEED);
+		
+		return switch(type) {
+		case "Binary16" -> new BinaryWorkload<>(bind(Binary16.CODEC, options), Binary16.FACTORY, input, random);
+		case "Binary32" -> new BinaryWorkload<>(bind(Binary32.CODEC, options), Binary32.FACTORY, input, random);
+		case "Binary64" -> new BinaryWorkload<>(bind(Binary64.CODEC, options), Binary64.FACTORY, input, random);
+		case "Binary80" -> new BinaryWorkload<>(bind(Binary80.CODEC, options), Binary80.FACTORY, input, random);
+		case "Binary128" -> new BinaryWorkload<>(bind(Binary128.CODEC, options), Binary128.FACTORY, input, random);
+		case "Binary256" -> new BinaryWorkload<>(bind(Binary256.CODEC, options), Binary256.FACTORY, input, random);
+		case "Binary512" -> new BinaryWorkload<>(bind(Binary512.CODEC, options), Binary512.FACTORY, input, random);
+		case "Binary1024" -> new BinaryWorkload<>(bind(Binary1024.CODEC, options), Binary1024.FACTORY, input, random);
+		case "Binary2048" -> new BinaryWorkload<>(bind(Binary2048.CODEC, options), Binary2048.FACTORY, input, random);
+		case "Decimal32" -> new DecimalWorkload<>(bind(Decimal32.CODEC, options), Decimal32.FACTORY, input, coding, random);
+		case "Decimal64" -> new DecimalWorkload<>(bind(Decimal64.CODEC, options), Decimal64.FACTORY, input, coding, random);
+		case "Decimal128" -> new DecimalWorkload<>(bind(Decimal128.CODEC, options), Decimal128.FACTORY, input, coding, random);
+		default -> throw new IllegalArgumentException("Unknown type " + type);
+		};
+	}
+	
+	private static <T extends Binary<T>> BinaryCodec<T> bind(BinaryCodec<T> codec, CodecOptions options) {
+		return options == null
+			? codec
+			: codec.withOptions(options);
+	}
+	
+	private static <T extends Decimal<T>> DecimalCodec<T> bind(DecimalCodec<T> codec, CodecOptions options) {
+		return options == null
+			? codec
+			: codec.withOptions(options);
+	}
+	
+	protected final FloatingCodec<T> codec;
+	protected final FloatingFactory<T> factory;
+	
+	private BigDecimal[] values;
+	private List<T> numbers;
+	private BigInteger[] encoded;
+	
+	protected Workload(FloatingCodec<T> codec, FloatingFactory<T> factory) {
+		this.codec = codec;
+		this.factory = factory;
+	}
+	
+	// must be called by the subclass' constructor, after its own fields are initialized
+	protected final void init(Input input, Random random) {
+		values = new BigDecimal[SIZE];
+		numbers = new ArrayList<>(SIZE);
+		encoded = new BigInteger[SIZE];
+		
+		for(int i = 0; i < SIZE; ++i) {
+			values[i] = generate(input, random);
+			numbers.add(factory.create(values[i]));
+			encoded[i] = encode(numbers.get(i));
+		}
+	}
+	
+	/**
+	 * Generates a random input value
+	 * 
+	 * @param input the kind of input
+	 * @param random the random number generator
+	 * @return the value
+	 */
+	protected abstract BigDecimal generate(Input input, Random random);
+	
+	/**
+	 * Encodes the value
+	 * 
+	 * @param value the value
+	 * @return the binary representation
+	 */
+	protected BigInteger encode(T value) {
+		return codec.encode(value);
+	}
+	
+	/**
+	 * Decodes the binary representation
+	 * 
+	 * @param value the binary representation
+	 * @return the value
+	 */
+	protected T decode(BigInteger value) {
+		return codec.decode(value);
+	}
+	
+	void create(Blackhole blackhole) {
+		for(BigDecimal value : values)
+			blackhole.consume(factory.create(value));
+	}
+	
+	void encode(Blackhole blackhole) {
+		for(T number : numbers)
+			blackhole.consume(encode(number));
+	}
+	
+	void decode(Blackhole blackhole) {
+		for(BigInteger value : encoded)
+			blackhole.consume(decode(value));
+	}
+	
+	void decodeValue(Blackhole blackhole) {
+		for(BigInteger value : encoded) {
+			T number = decode(value);
+			
+			blackhole.consume(number.isFinite() ? number.getBigDecimal() : number);
+		}
+	}
+	
+	void roundTrip(Blackhole blackhole) {
+		for(BigDecimal value : values)
+			blackhole.consume(encode(factory.create(value)));
+	}
+	
+}
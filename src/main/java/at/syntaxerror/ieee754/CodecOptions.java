@@ -0,0 +1,81 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754;
+
+import at.syntaxerror.ieee754.decimal.Decimal;
+import at.syntaxerror.ieee754.decimal.DecimalCoding;
+import at.syntaxerror.ieee754.rounding.Rounding;
+import lombok.NonNull;
+
+/**
+ * This class holds the options used for encoding and decoding floating point numbers.
+ * <p>
+ * The options can either be passed to {@link FloatingCodec#encode(Floating, CodecOptions)} and
+ * {@link FloatingCodec#decode(java.math.BigInteger, CodecOptions)} directly, or be bound to a codec via
+ * {@link FloatingCodec#withOptions(CodecOptions)}. Since instances of this class are immutable, they can be
+ * shared between threads, so that different threads can use different options concurrently.
+ * <p>
+ * Codecs without bound options (such as the predefined {@code CODEC} fields) use {@link #defaults()}.
+ * 
+ * @param rounding the rounding mode used for encoding
+ * @param coding the coding used for encoding and decoding decimal floating point numbers (ignored for binary floating point numbers)
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public record CodecOptions(@NonNull Rounding rounding, @NonNull DecimalCoding coding) {
+
+	/**
+	 * Returns a snapshot of the options specified by {@link Rounding#DEFAULT_ROUNDING} and {@link Decimal#DEFAULT_CODING}.
+	 * <p>
+	 * The fields are read at the time of the call, later changes to them do not affect the returned options.
+	 * Since the fields are global and not synchronized, they should only be changed before other threads use them;
+	 * otherwise, use options which are passed or {@link FloatingCodec#withOptions(CodecOptions) bound} explicitly.
+	 * 
+	 * @return the default options
+	 */
+	public static CodecOptions defaults() {
+		return new CodecOptions(Rounding.DEFAULT_ROUNDING, Decimal.DEFAULT_CODING);
+	}
+	
+	/**
+	 * Returns a copy of these options with the given rounding mode
+	 * 
+	 * @param rounding the rounding mode
+	 * @return the new options
+	 */
+	public CodecOptions withRounding(@NonNull Rounding rounding) {
+		return new CodecOptions(rounding, coding);
+	}
+	
+	/**
+	 * Returns a copy of these options with the given decimal coding
+	 * 
+	 * @param coding the decimal coding
+	 * @return the new options
+	 */
+	public CodecOptions withCoding(@NonNull DecimalCoding coding) {
+		return new CodecOptions(rounding, coding);
+	}
+	
+}
@@ -27,6 +27,7 @@ import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.binary.Binary;
 import at.syntaxerror.ieee754.decimal.Decimal;
+import lombok.NonNull;
 
 /**
  * This class represents the base class for IEEE 754 {@link Binary binary} and {@link Decimal decimal} numbers.
@@ -42,9 +43,10 @@ public abstract class Floating<T extends Floating<T>> extends Number implements
 	
 	private final int signum;
 	private final FloatingType type;
-	private final BigDecimal value;
+	private BigDecimal value; // null if not yet decoded
 	
 	private BigInteger encoded;
+	private boolean lazy; // whether the number was created from its binary representation
 
 	/**
 	 * Creates a new floating-point number with the given signum and value.
@@ -65,18 +67,20 @@ public abstract class Floating<T extends Floating<T>> extends Number implements
 		if(value.compareTo(BigDecimal.ZERO) != 0 && signum != value.signum())
 			throw new IllegalArgumentException("Signum mismatch");
 		
-		if(getCodec() == null || !getCodec().initialized) {
+		FloatingCodec<T> codec = getCodec();
+		
+		if(codec == null || !codec.initialized) {
 			this.value = value;
 			this.type = FloatingType.FINITE;
 			return;
 		}
 		
-		if(value.abs().compareTo(getCodec().getMaxValue().getBigDecimal()) > 0) { // overflow => Infinity
+		if(isOverflow(codec, value)) { // overflow => Infinity
 			this.value = null;
 			this.type = FloatingType.INFINITE;
 		}
 		
-		else if(value.abs().compareTo(getCodec().getMinSubnormalValue().getBigDecimal()) < 0) { // underflow => zero
+		else if(isUnderflow(codec, value)) { // underflow => zero
 			this.value = BigDecimal.ZERO;
 			this.type = FloatingType.FINITE;
 		}
@@ -87,6 +91,64 @@ public abstract class Floating<T extends Floating<T>> extends Number implements
 		}
 	}
 	
+	// checks whether |value| > max value. the values are only compared if they are of the same magnitude
+	static boolean isOverflow(FloatingCodec<?> codec, BigDecimal value) {
+		if(value.signum() == 0)
+			return false;
+		
+		long magnitude = FloatingCodec.magnitude(value);
+		
+		if(magnitude != codec.maxMagnitude)
+			return magnitude > codec.maxMagnitude;
+		
+		return value.abs().compareTo(codec.getMaxValue().getBigDecimal()) > 0;
+	}
+	
+	// checks whether |value| < min subnormal value. the values are only compared if they are of the same magnitude
+	static boolean isUnderflow(FloatingCodec<?> codec, BigDecimal value) {
+		if(value.signum() == 0)
+			return true;
+		
+		long magnitude = FloatingCodec.magnitude(value);
+		
+		if(magnitude != codec.minMagnitude)
+			return magnitude < codec.minMagnitude;
+		
+		return value.abs().compareTo(codec.getMinSubnormalValue().getBigDecimal()) < 0;
+	}
+	
+	/**
+	 * Creates a new finite floating-point number backed by its binary representation.
+	 * <p>The value is only decoded when it is first needed (e.g. by {@link #getBigDecimal()}),
+	 * and {@link #encode()} returns the binary representation without re-encoding the value.
+	 * The binary representation must be a valid encoding of a finite number for this number's {@link #getCodec() codec},
+	 * whose sign matches the signum. Since this is not checked, such numbers should only be created by factories
+	 * (see {@link FloatingFactory#createLazy(int, BigInteger)}).
+	 * 
+	 * @param signum the signum (either {@code -1} or {@code 1})
+	 * @param encoded the binary representation
+	 * @see FloatingCodec#decodeLazy(BigInteger)
+	 */
+	protected Floating(int signum, @NonNull BigInteger encoded) {
+		this(signum);
+		this.encoded = encoded;
+		this.lazy = true;
+	}
+	
+	/**
+	 * Creates a new finite floating-point number whose value is only computed (via {@link #decodeValue()})
+	 * when it is first needed.
+	 * 
+	 * @param signum the signum (either {@code -1} or {@code 1})
+	 */
+	protected Floating(int signum) {
+		if(signum != -1 && signum != 1)
+			throw new IllegalArgumentException("Signum out of range");
+		
+		this.signum = signum;
+		this.type = FloatingType.FINITE;
+	}
+	
 	/**
 	 * Creates a new special floating-point number.
 	 * 
@@ -114,9 +176,41 @@ public abstract class Floating<T extends Floating<T>> extends Number implements
 		if(type != FloatingType.FINITE)
 			throw new UnsupportedOperationException("BigDecimal is not supported for non-finite types");
 		
+		BigDecimal value = this.value;
+		
+		// BigDecimals are immutable, concurrent decoding at worst computes the same value twice
+		if(value == null)
+			this.value = value = decodeValue();
+		
 		return value;
 	}
 	
+	/**
+	 * Computes the value of a number whose value was not specified upon creation,
+	 * e.g. by decoding a number created {@link #Floating(int, BigInteger) from its binary representation}
+	 * 
+	 * @return the value
+	 */
+	protected BigDecimal decodeValue() {
+		return getCodec().decode(encoded).getBigDecimal();
+	}
+	
+	/**
+	 * Checks whether the binary representation this number was {@link #Floating(int, BigInteger) created from}
+	 * encodes {@code 0}, without decoding the value
+	 * 
+	 * @param encoded the binary representation
+	 * @return whether the binary representation encodes {@code 0}
+	 */
+	protected boolean isZeroEncoding(BigInteger encoded) {
+		return getCodec().decode(encoded).isZero();
+	}
+	
+	// returns the binary representation this number was created from, or null if it was not created from one
+	BigInteger getLazyEncoding() {
+		return lazy ? encoded : null;
+	}
+	
 	/**
 	 * Returns the signum, which is either {@code -1} (negative), {@code 0} (zero), or {@code 1} (positive)
 	 * 
@@ -213,7 +307,10 @@ public abstract class Floating<T extends Floating<T>> extends Number implements
 	 * @return whether this number is {@code 0}
 	 */
 	public boolean isZero() {
-		return value.compareTo(BigDecimal.ZERO) == 0;
+		if(lazy && value == null) // not yet decoded
+			return isZeroEncoding(encoded);
+		
+		return getBigDecimal().signum() == 0;
 	}
 
 	/**
@@ -236,7 +333,8 @@ public abstract class Floating<T extends Floating<T>> extends Number implements
 	}
 	
 	/**
-	 * Encodes this number into its binary representation
+	 * Encodes this number into its binary representation using the global {@link CodecOptions#defaults() default options}.
+	 * Use {@link FloatingCodec#encode(Floating, CodecOptions)} to encode it using specific options.
 	 * 
 	 * @return the binary representation
 	 */
@@ -281,7 +379,7 @@ public abstract class Floating<T extends Floating<T>> extends Number implements
 				: Double.NEGATIVE_INFINITY;
 			
 		case FINITE:
-			return value.doubleValue();
+			return getBigDecimal().doubleValue();
 			
 		default:
 			return Double.NaN;
@@ -292,7 +390,7 @@ public abstract class Floating<T extends Floating<T>> extends Number implements
 	@Override
 	public int compareTo(T o) {
 		return isFinite() && o.isFinite()
-			? value.compareTo(o.getBigDecimal())
+			? getBigDecimal().compareTo(o.getBigDecimal())
 			: Double.compare(doubleValue(), o.doubleValue());
 	}
 
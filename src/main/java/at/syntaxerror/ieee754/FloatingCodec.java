@@ -22,9 +22,25 @@
  */
 package at.syntaxerror.ieee754;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import at.syntaxerror.ieee754.internal.UnsignedMath;
+import lombok.NonNull;
 
 /**
  * This class represents the base codec for encoding and decoding IEEE 754 floating point numbers.
@@ -36,9 +52,74 @@ import java.util.Map;
  */
 public abstract class FloatingCodec<T extends Floating<T>> {
 
+	private static final VarHandle LONG_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle LONG_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final VarHandle INT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle INT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final VarHandle SHORT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle SHORT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+
+	// per-thread scratch array for encoding values occupying two longs, see encodeWords(T, CodecOptions, ByteBuffer, int)
+	private static final ThreadLocal<long[]> HI_LO = ThreadLocal.withInitial(() -> new long[2]);
+
 	/** @see #initialize() */
 	boolean initialized = false;
 	
+	/*
+	 * magnitudes of the maximum value and the minimum subnormal value (see magnitude).
+	 * used by the Floating constructor to avoid comparing BigDecimals for most values
+	 */
+	long maxMagnitude;
+	long minMagnitude;
+	
+	// options bound to this codec, or null if the default options are used
+	private final CodecOptions options;
+	
+	/**
+	 * Creates a new codec without bound options, i.e. using the {@link CodecOptions#defaults() default options}
+	 */
+	protected FloatingCodec() {
+		options = null;
+	}
+	
+	/**
+	 * Creates a copy of an already initialized codec, bound to the given options
+	 * 
+	 * @param codec the codec
+	 * @param options the options
+	 * @see #withOptions(CodecOptions)
+	 */
+	protected FloatingCodec(@NonNull FloatingCodec<T> codec, @NonNull CodecOptions options) {
+		initialized = codec.initialized;
+		maxMagnitude = codec.maxMagnitude;
+		minMagnitude = codec.minMagnitude;
+		
+		this.options = options;
+	}
+	
+	/**
+	 * Returns the options used by this codec. If there are no options bound to this codec, the
+	 * {@link CodecOptions#defaults() default options} are returned
+	 * 
+	 * @return the options
+	 */
+	public CodecOptions getOptions() {
+		return options == null
+			? CodecOptions.defaults()
+			: options;
+	}
+	
+	/**
+	 * Returns a codec for the same format which uses the given options instead of the {@link CodecOptions#defaults() default options}.
+	 * <p>
+	 * The returned codec shares all precomputed values with this codec, so creating it is cheap.
+	 * Numbers created by the returned codec are still associated with their type's codec (see {@link Floating#getCodec()}).
+	 * 
+	 * @param options the options
+	 * @return the codec bound to the options
+	 */
+	public abstract FloatingCodec<T> withOptions(@NonNull CodecOptions options);
+	
 	/**
 	 * Initializes the codec, so that the max, min and
 	 * subnormal min value are guaranteed to be accessible.
@@ -51,13 +132,22 @@ public abstract class FloatingCodec<T extends Floating<T>> {
 	 * constructor
 	 */
 	protected final void initialize() {
-		getMaxValue();
+		maxMagnitude = magnitude(getMaxValue().getBigDecimal());
+		minMagnitude = magnitude(getMinSubnormalValue().getBigDecimal());
+		
 		getMinValue();
-		getMinSubnormalValue();
 		
 		initialized = true;
 	}
 	
+	/*
+	 * returns precision() - scale() of the value, which is the number m with 10^(m-1) <= |value| < 10^m
+	 * (for non-zero values). values with different magnitudes can be compared without comparing their digits
+	 */
+	static long magnitude(BigDecimal value) {
+		return (long) value.precision() - value.scale();
+	}
+	
 	/**
 	 * Decodes the floating point's binary representation
 	 * 
@@ -65,7 +155,94 @@ public abstract class FloatingCodec<T extends Floating<T>> {
 	 * @return the decoded floating point number
 	 */
 	public abstract T decode(BigInteger value);
+	
+	/**
+	 * Decodes the floating point's binary representation using the given options
+	 * (instead of the options used by this codec).
+	 * <p>
+	 * The default implementation ignores the options and calls {@link #decode(BigInteger)}.
+	 * 
+	 * @param value the binary representation
+	 * @param options the options
+	 * @return the decoded floating point number
+	 */
+	public T decode(@NonNull BigInteger value, @NonNull CodecOptions options) {
+		return decode(value);
+	}
+	
+	/**
+	 * Decodes the floating point's binary representation and raises the flags according to the result.
+	 * <p>
+	 * Decoding is always exact, so only {@link StatusFlags#INVALID} is raised if the binary representation is a signaling NaN.
+	 * 
+	 * @param value the binary representation
+	 * @param flags the flags
+	 * @return the decoded floating point number
+	 */
+	public T decode(@NonNull BigInteger value, @NonNull StatusFlags flags) {
+		T result = decode(value);
+		
+		if(result.isSignalingNaN())
+			flags.raise(StatusFlags.INVALID);
+		
+		return result;
+	}
+	
+	/**
+	 * Parses the string and encodes its value into the binary representation, rounding it according to the codec's {@link #getOptions() options}.
+	 * <p>
+	 * The string must either be a decimal number (an optional sign, followed by digits with an optional decimal point and an optional exponent,
+	 * see {@link BigDecimal#BigDecimal(String)}), or {@code Infinity} or {@code NaN} (with an optional sign), which is parsed as a quiet NaN.
+	 * Unlike {@link FloatingFactory#create(BigDecimal)}, values are always correctly rounded, i.e. values slightly above the
+	 * {@link #getMaxValue() maximum value} or below the {@link #getMinSubnormalValue() minimum value} are not necessarily
+	 * converted into infinity or zero, respectively.
+	 * <p>
+	 * For most strings, no {@link BigDecimal} is created.
+	 * 
+	 * @param text the string
+	 * @return the encoded binary representation
+	 * @throws NumberFormatException if the string is not a valid number
+	 */
+	public abstract BigInteger parseBits(@NonNull CharSequence text);
+	
+	/**
+	 * Parses the string (see {@link #parseBits(CharSequence)}) and decodes the resulting binary representation
+	 * 
+	 * @param text the string
+	 * @return the floating point number
+	 * @throws NumberFormatException if the string is not a valid number
+	 */
+	public T parse(@NonNull CharSequence text) {
+		return decode(parseBits(text));
+	}
+	
+	/**
+	 * Decodes the floating point's binary representation lazily.
+	 * <p>
+	 * Finite numbers keep their binary representation and are only decoded when their value is first needed
+	 * (see {@link Floating#Floating(int, BigInteger)}), so that {@link Floating#encode()} returns the binary
+	 * representation unchanged without ever decoding it. Non-finite numbers are decoded immediately.
+	 * <p>
+	 * The default implementation decodes the value immediately via {@link #decode(BigInteger)}.
+	 * 
+	 * @param value the binary representation
+	 * @return the (possibly not yet decoded) floating point number
+	 */
+	public T decodeLazy(BigInteger value) {
+		return decode(value);
+	}
 
+	/**
+	 * Returns the binary representation the floating point number was created from (see {@link #decodeLazy(BigInteger)}),
+	 * which the value is encoded into regardless of the rounding mode, since it is exact.
+	 * 
+	 * @param value the floating point number
+	 * @return the binary representation, or {@code null} if the number was not created from its binary representation
+	 */
+	protected static BigInteger getLazyEncoding(@NonNull Floating<?> value) {
+		return value.getLazyEncoding();
+	}
+	
 	/**
 	 * Encodes the floating point into its binary representation
 	 * 
@@ -74,6 +251,42 @@ public abstract class FloatingCodec<T extends Floating<T>> {
 	 */
 	public abstract BigInteger encode(T value);
 	
+	/**
+	 * Encodes the floating point into its binary representation using the given options
+	 * (instead of the options used by this codec)
+	 * 
+	 * @param value the floating point number
+	 * @param options the options
+	 * @return the encoded binary representation
+	 */
+	public BigInteger encode(T value, @NonNull CodecOptions options) {
+		return encode(value, options, null);
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation and raises the flags according to the result
+	 * 
+	 * @param value the floating point number
+	 * @param flags the flags
+	 * @return the encoded binary representation
+	 * @see StatusFlags
+	 */
+	public BigInteger encode(T value, @NonNull StatusFlags flags) {
+		return encode(value, getOptions(), flags);
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation using the given options
+	 * (instead of the options used by this codec) and raises the flags according to the result
+	 * 
+	 * @param value the floating point number
+	 * @param options the options
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 * @return the encoded binary representation
+	 * @see StatusFlags
+	 */
+	public abstract BigInteger encode(T value, CodecOptions options, StatusFlags flags);
+	
 	/**
 	 * Checks if the value is positive
 	 * 
@@ -217,4 +430,1012 @@ public abstract class FloatingCodec<T extends Floating<T>> {
 	 */
 	public abstract Map.Entry<Integer, Integer> getExponentRange();
 	
+	/**
+	 * Returns the number of bits of the binary representation
+	 * 
+	 * @return the number of bits
+	 */
+	public abstract int getWidth();
+	
+	/**
+	 * Returns the number of {@code long}s occupied by a binary representation in {@link #encodeAll(BigDecimal[], int, int, long[], int) bulk encodings}
+	 * 
+	 * @return the number of {@code long}s per value
+	 */
+	public int getLongsPerValue() {
+		return (getWidth() + 63) >>> 6;
+	}
+	
+	/**
+	 * Returns the number of bytes occupied by a binary representation in {@link #encodeAll(BigDecimal[], int, int, byte[], int) bulk encodings}
+	 * 
+	 * @return the number of bytes per value
+	 */
+	public int getBytesPerValue() {
+		return (getWidth() + 7) >>> 3;
+	}
+	
+	/**
+	 * Encodes the finite, non-zero value, whose magnitude is neither too big nor too small for this codec
+	 * (see {@link Floating#Floating(int, BigDecimal)}), into its binary representation
+	 * 
+	 * @param sign whether the value is negative
+	 * @param value the value
+	 * @param options the options
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 * @param words the array (of length {@link #getLongsPerValue()}) where the binary representation is stored (most significant bits first)
+	 */
+	protected abstract void encodeWords(boolean sign, BigDecimal value, CodecOptions options, StatusFlags flags, long[] words);
+	
+	/**
+	 * Encodes the floating point into its binary representation
+	 * 
+	 * @param value the floating point number
+	 * @param options the options
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 * @param words the array (of length {@link #getLongsPerValue()}) where the binary representation is stored (most significant bits first)
+	 */
+	protected void encodeWords(T value, CodecOptions options, StatusFlags flags, long[] words) {
+		UnsignedMath.toWords(encode(value, options, flags), words);
+	}
+	
+	/**
+	 * Decodes the floating point's binary representation
+	 * 
+	 * @param words the array containing the binary representation (most significant bits first)
+	 * @param offset the index of the binary representation's first {@code long}
+	 * @param options the options
+	 * @return the decoded floating point number
+	 */
+	protected T decodeWords(long[] words, int offset, CodecOptions options) {
+		return decode(UnsignedMath.toBigInteger(words, offset, getLongsPerValue()), options);
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation, which occupies a single {@code long}.
+	 * This method is only called if {@link #getLongsPerValue()} is {@code 1}.
+	 * 
+	 * @param value the floating point number
+	 * @param options the options
+	 * @return the binary representation
+	 */
+	protected long encodeWord(T value, CodecOptions options) {
+		long[] words = new long[1];
+		
+		encodeWords(value, options, null, words);
+		
+		return words[0];
+	}
+	
+	/**
+	 * Decodes the floating point's binary representation, which occupies at most two {@code long}s.
+	 * This method is only called if {@link #getLongsPerValue()} is at most {@code 2}.
+	 * 
+	 * @param hi the most significant 64 bits of the binary representation ({@code 0} if it occupies a single {@code long})
+	 * @param lo the least significant 64 bits of the binary representation
+	 * @param options the options
+	 * @return the decoded floating point number
+	 */
+	protected T decodeWords(long hi, long lo, CodecOptions options) {
+		long[] words = getLongsPerValue() == 1
+			? new long[] { lo }
+			: new long[] { hi, lo };
+		
+		return decodeWords(words, 0, options);
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation, which occupies at most two {@code long}s, and stores it
+	 * in the buffer using the buffer's {@link ByteBuffer#order() byte order}. The buffer's position is not modified.
+	 * This method is only called if {@link #getLongsPerValue()} is at most {@code 2}.
+	 * <p>
+	 * Unlike {@link #encodeWords(Floating, CodecOptions, StatusFlags, long[])}, this method does not allocate an array for each value.
+	 * 
+	 * @param value the floating point number
+	 * @param options the options
+	 * @param dest the buffer where the binary representation is stored
+	 * @param index the index where the binary representation is stored
+	 */
+	protected void encodeWords(T value, CodecOptions options, ByteBuffer dest, int index) {
+		int n = getBytesPerValue();
+		
+		if(getLongsPerValue() == 1) {
+			putWord(encodeWord(value, options), dest, index, n, 0);
+			return;
+		}
+		
+		long[] hiLo = HI_LO.get();
+		
+		encodeWords(value, options, null, hiLo);
+		
+		putWord(hiLo[0], dest, index, n, 1);
+		putWord(hiLo[1], dest, index, n, 0);
+	}
+	
+	/**
+	 * Encodes the values into their binary representations, as if each value was encoded via {@code encode(FACTORY.create(value))}.
+	 * <p>Each binary representation occupies {@link #getLongsPerValue()} consecutive {@code long}s (most significant bits first).
+	 * 
+	 * @param values the values
+	 * @param offset the index of the first value
+	 * @param length the number of values
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 */
+	public void encodeAll(@NonNull BigDecimal[] values, int offset, int length, @NonNull long[] dest, int destOffset) {
+		encodeAll(values, offset, length, dest, destOffset, null);
+	}
+	
+	/**
+	 * Same as {@link #encodeAll(BigDecimal[], int, int, long[], int)}, but raises the flags of all values,
+	 * including the flags raised by {@link FloatingFactory#create(BigDecimal, StatusFlags) creating} the floating point numbers
+	 * 
+	 * @param values the values
+	 * @param offset the index of the first value
+	 * @param length the number of values
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 */
+	public void encodeAll(@NonNull BigDecimal[] values, int offset, int length, @NonNull long[] dest, int destOffset, StatusFlags flags) {
+		int n = getLongsPerValue();
+		
+		Objects.checkFromIndexSize(offset, length, values.length);
+		Objects.checkFromIndexSize(destOffset, Math.multiplyExact(length, n), dest.length);
+		
+		Batch batch = new Batch(flags);
+		
+		for(int i = 0; i < length; ++i, destOffset += n) {
+			batch.encode(values[offset + i]);
+			System.arraycopy(batch.words, 0, dest, destOffset, n);
+		}
+	}
+
+	/**
+	 * Encodes the floating point numbers into their binary representations.
+	 * <p>Each binary representation occupies {@link #getLongsPerValue()} consecutive {@code long}s (most significant bits first).
+	 * 
+	 * @param values the floating point numbers
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 */
+	public void encodeAll(@NonNull List<? extends T> values, @NonNull long[] dest, int destOffset) {
+		encodeAll(values, dest, destOffset, null);
+	}
+	
+	/**
+	 * Same as {@link #encodeAll(List, long[], int)}, but raises the flags of all values
+	 * 
+	 * @param values the floating point numbers
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 */
+	public void encodeAll(@NonNull List<? extends T> values, @NonNull long[] dest, int destOffset, StatusFlags flags) {
+		int n = getLongsPerValue();
+		
+		Objects.checkFromIndexSize(destOffset, Math.multiplyExact(values.size(), n), dest.length);
+		
+		Batch batch = new Batch(flags);
+		
+		for(T value : values) {
+			batch.encode(value);
+			System.arraycopy(batch.words, 0, dest, destOffset, n);
+			destOffset += n;
+		}
+	}
+
+	/**
+	 * Encodes the values into their binary representations, as if each value was encoded via {@code encode(FACTORY.create(value))}.
+	 * <p>Each binary representation occupies {@link #getBytesPerValue()} consecutive bytes (big endian).
+	 * 
+	 * @param values the values
+	 * @param offset the index of the first value
+	 * @param length the number of values
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 */
+	public void encodeAll(@NonNull BigDecimal[] values, int offset, int length, @NonNull byte[] dest, int destOffset) {
+		encodeAll(values, offset, length, dest, destOffset, null);
+	}
+	
+	/**
+	 * Same as {@link #encodeAll(BigDecimal[], int, int, byte[], int)}, but raises the flags of all values,
+	 * including the flags raised by {@link FloatingFactory#create(BigDecimal, StatusFlags) creating} the floating point numbers
+	 * 
+	 * @param values the values
+	 * @param offset the index of the first value
+	 * @param length the number of values
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 */
+	public void encodeAll(@NonNull BigDecimal[] values, int offset, int length, @NonNull byte[] dest, int destOffset, StatusFlags flags) {
+		int n = getBytesPerValue();
+		
+		Objects.checkFromIndexSize(offset, length, values.length);
+		Objects.checkFromIndexSize(destOffset, Math.multiplyExact(length, n), dest.length);
+		
+		Batch batch = new Batch(flags);
+		
+		for(int i = 0; i < length; ++i, destOffset += n) {
+			batch.encode(values[offset + i]);
+			toBytes(batch.words, dest, destOffset, n, ByteOrder.BIG_ENDIAN);
+		}
+	}
+
+	/**
+	 * Encodes the floating point numbers into their binary representations.
+	 * <p>Each binary representation occupies {@link #getBytesPerValue()} consecutive bytes (big endian).
+	 * 
+	 * @param values the floating point numbers
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 */
+	public void encodeAll(@NonNull List<? extends T> values, @NonNull byte[] dest, int destOffset) {
+		encodeAll(values, dest, destOffset, null);
+	}
+	
+	/**
+	 * Same as {@link #encodeAll(List, byte[], int)}, but raises the flags of all values
+	 * 
+	 * @param values the floating point numbers
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 */
+	public void encodeAll(@NonNull List<? extends T> values, @NonNull byte[] dest, int destOffset, StatusFlags flags) {
+		int n = getBytesPerValue();
+		
+		Objects.checkFromIndexSize(destOffset, Math.multiplyExact(values.size(), n), dest.length);
+		
+		Batch batch = new Batch(flags);
+		
+		for(T value : values) {
+			batch.encode(value);
+			toBytes(batch.words, dest, destOffset, n, ByteOrder.BIG_ENDIAN);
+			destOffset += n;
+		}
+	}
+	
+	/**
+	 * Decodes the binary representations, each occupying {@link #getLongsPerValue()} consecutive {@code long}s (most significant bits first).
+	 * 
+	 * @param src the binary representations
+	 * @param offset the index of the first binary representation
+	 * @param length the number of binary representations
+	 * @return the decoded floating point numbers
+	 */
+	public List<T> decodeAll(@NonNull long[] src, int offset, int length) {
+		int n = getLongsPerValue();
+		
+		Objects.checkFromIndexSize(offset, Math.multiplyExact(length, n), src.length);
+		
+		CodecOptions options = getOptions();
+		List<T> values = new ArrayList<>(length);
+		
+		for(int i = 0; i < length; ++i, offset += n)
+			values.add(decodeWords(src, offset, options));
+		
+		return values;
+	}
+
+	/**
+	 * Decodes the binary representations, each occupying {@link #getLongsPerValue()} consecutive {@code long}s (most significant bits first),
+	 * into their {@link Floating#getBigDecimal() values}.
+	 * 
+	 * @param src the binary representations
+	 * @param offset the index of the first binary representation
+	 * @param length the number of binary representations
+	 * @param dest the array where the values are stored
+	 * @param destOffset the index where the first value is stored
+	 * @throws UnsupportedOperationException if a binary representation does not represent a finite number
+	 */
+	public void decodeAll(@NonNull long[] src, int offset, int length, @NonNull BigDecimal[] dest, int destOffset) {
+		int n = getLongsPerValue();
+		
+		Objects.checkFromIndexSize(offset, Math.multiplyExact(length, n), src.length);
+		Objects.checkFromIndexSize(destOffset, length, dest.length);
+		
+		CodecOptions options = getOptions();
+		
+		for(int i = 0; i < length; ++i, offset += n)
+			dest[destOffset + i] = decodeWords(src, offset, options).getBigDecimal();
+	}
+	
+	/**
+	 * Decodes the binary representations, each occupying {@link #getBytesPerValue()} consecutive bytes (big endian).
+	 * 
+	 * @param src the binary representations
+	 * @param offset the index of the first binary representation
+	 * @param length the number of binary representations
+	 * @return the decoded floating point numbers
+	 */
+	public List<T> decodeAll(@NonNull byte[] src, int offset, int length) {
+		int n = getBytesPerValue();
+		
+		Objects.checkFromIndexSize(offset, Math.multiplyExact(length, n), src.length);
+		
+		CodecOptions options = getOptions();
+		List<T> values = new ArrayList<>(length);
+		long[] words = new long[getLongsPerValue()];
+		
+		for(int i = 0; i < length; ++i, offset += n) {
+			fromBytes(src, offset, n, words, ByteOrder.BIG_ENDIAN);
+			values.add(decodeWords(words, 0, options));
+		}
+		
+		return values;
+	}
+
+	/**
+	 * Decodes the binary representations, each occupying {@link #getBytesPerValue()} consecutive bytes (big endian),
+	 * into their {@link Floating#getBigDecimal() values}.
+	 * 
+	 * @param src the binary representations
+	 * @param offset the index of the first binary representation
+	 * @param length the number of binary representations
+	 * @param dest the array where the values are stored
+	 * @param destOffset the index where the first value is stored
+	 * @throws UnsupportedOperationException if a binary representation does not represent a finite number
+	 */
+	public void decodeAll(@NonNull byte[] src, int offset, int length, @NonNull BigDecimal[] dest, int destOffset) {
+		int n = getBytesPerValue();
+		
+		Objects.checkFromIndexSize(offset, Math.multiplyExact(length, n), src.length);
+		Objects.checkFromIndexSize(destOffset, length, dest.length);
+		
+		CodecOptions options = getOptions();
+		long[] words = new long[getLongsPerValue()];
+		
+		for(int i = 0; i < length; ++i, offset += n) {
+			fromBytes(src, offset, n, words, ByteOrder.BIG_ENDIAN);
+			dest[destOffset + i] = decodeWords(words, 0, options).getBigDecimal();
+		}
+	}
+	
+	/*
+	 * number of values converted sequentially by a single task of the parallel bulk conversions.
+	 * the cost of converting a value grows roughly quadratically with the codec's width
+	 */
+	private int getParallelThreshold() {
+		int width = getWidth();
+		
+		return Math.max(1, (1 << 22) / width / width);
+	}
+	
+	// converts the values [0, length) in parallel, calling the conversion for disjoint ranges
+	private void parallel(ForkJoinPool pool, int length, RangeConversion conversion) {
+		int threshold = getParallelThreshold();
+		
+		if(length <= threshold)
+			conversion.convert(0, length);
+		
+		else pool.invoke(new RangeTask(conversion, 0, length, threshold));
+	}
+	
+	/*
+	 * same as parallel, but each range tracks its flags separately (StatusFlags is not thread-safe).
+	 * the flags raised by any of the ranges are raised afterwards
+	 */
+	private void parallel(ForkJoinPool pool, int length, StatusFlags flags, FlagConversion conversion) {
+		if(flags == null) {
+			parallel(pool, length, (from, to) -> conversion.convert(from, to, null));
+			return;
+		}
+		
+		AtomicInteger raised = new AtomicInteger();
+		
+		parallel(pool, length, (from, to) -> {
+			StatusFlags local = new StatusFlags();
+			
+			conversion.convert(from, to, local);
+			raised.getAndAccumulate(local.getFlags(), (a, b) -> a | b);
+		});
+		
+		flags.raise(raised.get());
+	}
+	
+	/**
+	 * Same as {@link #encodeAll(BigDecimal[], int, int, long[], int, StatusFlags)}, but uses the given pool
+	 * (e.g. the {@link ForkJoinPool#commonPool() common pool}) to encode the values in parallel.
+	 * The result and the raised flags are identical to the sequential encoding.
+	 * 
+	 * @param values the values
+	 * @param offset the index of the first value
+	 * @param length the number of values
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 * @param pool the pool used for encoding
+	 */
+	public void encodeAllParallel(@NonNull BigDecimal[] values, int offset, int length, @NonNull long[] dest, int destOffset,
+			StatusFlags flags, @NonNull ForkJoinPool pool) {
+		int n = getLongsPerValue();
+		
+		Objects.checkFromIndexSize(offset, length, values.length);
+		Objects.checkFromIndexSize(destOffset, Math.multiplyExact(length, n), dest.length);
+		
+		parallel(pool, length, flags, (from, to, local) -> encodeAll(values, offset + from, to - from, dest, destOffset + from * n, local));
+	}
+	
+	/**
+	 * Same as {@link #encodeAll(List, long[], int, StatusFlags)}, but uses the given pool
+	 * (e.g. the {@link ForkJoinPool#commonPool() common pool}) to encode the floating point numbers in parallel.
+	 * The result and the raised flags are identical to the sequential encoding. The list should support fast random access.
+	 * 
+	 * @param values the floating point numbers
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 * @param pool the pool used for encoding
+	 */
+	public void encodeAllParallel(@NonNull List<? extends T> values, @NonNull long[] dest, int destOffset, StatusFlags flags,
+			@NonNull ForkJoinPool pool) {
+		int n = getLongsPerValue();
+		
+		Objects.checkFromIndexSize(destOffset, Math.multiplyExact(values.size(), n), dest.length);
+		
+		parallel(pool, values.size(), flags, (from, to, local) -> encodeAll(values.subList(from, to), dest, destOffset + from * n, local));
+	}
+	
+	/**
+	 * Same as {@link #encodeAll(BigDecimal[], int, int, byte[], int, StatusFlags)}, but uses the given pool
+	 * (e.g. the {@link ForkJoinPool#commonPool() common pool}) to encode the values in parallel.
+	 * The result and the raised flags are identical to the sequential encoding.
+	 * 
+	 * @param values the values
+	 * @param offset the index of the first value
+	 * @param length the number of values
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 * @param pool the pool used for encoding
+	 */
+	public void encodeAllParallel(@NonNull BigDecimal[] values, int offset, int length, @NonNull byte[] dest, int destOffset,
+			StatusFlags flags, @NonNull ForkJoinPool pool) {
+		int n = getBytesPerValue();
+		
+		Objects.checkFromIndexSize(offset, length, values.length);
+		Objects.checkFromIndexSize(destOffset, Math.multiplyExact(length, n), dest.length);
+		
+		parallel(pool, length, flags, (from, to, local) -> encodeAll(values, offset + from, to - from, dest, destOffset + from * n, local));
+	}
+	
+	/**
+	 * Same as {@link #encodeAll(List, byte[], int, StatusFlags)}, but uses the given pool
+	 * (e.g. the {@link ForkJoinPool#commonPool() common pool}) to encode the floating point numbers in parallel.
+	 * The result and the raised flags are identical to the sequential encoding. The list should support fast random access.
+	 * 
+	 * @param values the floating point numbers
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 * @param pool the pool used for encoding
+	 */
+	public void encodeAllParallel(@NonNull List<? extends T> values, @NonNull byte[] dest, int destOffset, StatusFlags flags,
+			@NonNull ForkJoinPool pool) {
+		int n = getBytesPerValue();
+		
+		Objects.checkFromIndexSize(destOffset, Math.multiplyExact(values.size(), n), dest.length);
+		
+		parallel(pool, values.size(), flags, (from, to, local) -> encodeAll(values.subList(from, to), dest, destOffset + from * n, local));
+	}
+	
+	/**
+	 * Same as {@link #decodeAll(long[], int, int)}, but uses the given pool
+	 * (e.g. the {@link ForkJoinPool#commonPool() common pool}) to decode the binary representations in parallel
+	 * 
+	 * @param src the binary representations
+	 * @param offset the index of the first binary representation
+	 * @param length the number of binary representations
+	 * @param pool the pool used for decoding
+	 * @return the decoded floating point numbers
+	 */
+	public List<T> decodeAllParallel(@NonNull long[] src, int offset, int length, @NonNull ForkJoinPool pool) {
+		int n = getLongsPerValue();
+		
+		Objects.checkFromIndexSize(offset, Math.multiplyExact(length, n), src.length);
+		
+		CodecOptions options = getOptions();
+		
+		// each task only replaces the elements of its own range
+		List<T> values = new ArrayList<>(Collections.nCopies(length, null));
+		
+		parallel(pool, length, (from, to) -> {
+			for(int i = from; i < to; ++i)
+				values.set(i, decodeWords(src, offset + i * n, options));
+		});
+		
+		return values;
+	}
+	
+	/**
+	 * Same as {@link #decodeAll(long[], int, int, BigDecimal[], int)}, but uses the given pool
+	 * (e.g. the {@link ForkJoinPool#commonPool() common pool}) to decode the binary representations in parallel
+	 * 
+	 * @param src the binary representations
+	 * @param offset the index of the first binary representation
+	 * @param length the number of binary representations
+	 * @param dest the array where the values are stored
+	 * @param destOffset the index where the first value is stored
+	 * @param pool the pool used for decoding
+	 * @throws UnsupportedOperationException if a binary representation does not represent a finite number
+	 */
+	public void decodeAllParallel(@NonNull long[] src, int offset, int length, @NonNull BigDecimal[] dest, int destOffset,
+			@NonNull ForkJoinPool pool) {
+		int n = getLongsPerValue();
+		
+		Objects.checkFromIndexSize(offset, Math.multiplyExact(length, n), src.length);
+		Objects.checkFromIndexSize(destOffset, length, dest.length);
+		
+		parallel(pool, length, (from, to) -> decodeAll(src, offset + from * n, to - from, dest, destOffset + from));
+	}
+	
+	/**
+	 * Same as {@link #decodeAll(byte[], int, int)}, but uses the given pool
+	 * (e.g. the {@link ForkJoinPool#commonPool() common pool}) to decode the binary representations in parallel
+	 * 
+	 * @param src the binary representations
+	 * @param offset the index of the first binary representation
+	 * @param length the number of binary representations
+	 * @param pool the pool used for decoding
+	 * @return the decoded floating point numbers
+	 */
+	public List<T> decodeAllParallel(@NonNull byte[] src, int offset, int length, @NonNull ForkJoinPool pool) {
+		int n = getBytesPerValue();
+		
+		Objects.checkFromIndexSize(offset, Math.multiplyExact(length, n), src.length);
+		
+		CodecOptions options = getOptions();
+		
+		// each task only replaces the elements of its own range
+		List<T> values = new ArrayList<>(Collections.nCopies(length, null));
+		
+		parallel(pool, length, (from, to) -> {
+			long[] words = new long[getLongsPerValue()];
+			
+			for(int i = from; i < to; ++i) {
+				fromBytes(src, offset + i * n, n, words, ByteOrder.BIG_ENDIAN);
+				values.set(i, decodeWords(words, 0, options));
+			}
+		});
+		
+		return values;
+	}
+	
+	/**
+	 * Same as {@link #decodeAll(byte[], int, int, BigDecimal[], int)}, but uses the given pool
+	 * (e.g. the {@link ForkJoinPool#commonPool() common pool}) to decode the binary representations in parallel
+	 * 
+	 * @param src the binary representations
+	 * @param offset the index of the first binary representation
+	 * @param length the number of binary representations
+	 * @param dest the array where the values are stored
+	 * @param destOffset the index where the first value is stored
+	 * @param pool the pool used for decoding
+	 * @throws UnsupportedOperationException if a binary representation does not represent a finite number
+	 */
+	public void decodeAllParallel(@NonNull byte[] src, int offset, int length, @NonNull BigDecimal[] dest, int destOffset,
+			@NonNull ForkJoinPool pool) {
+		int n = getBytesPerValue();
+		
+		Objects.checkFromIndexSize(offset, Math.multiplyExact(length, n), src.length);
+		Objects.checkFromIndexSize(destOffset, length, dest.length);
+		
+		parallel(pool, length, (from, to) -> decodeAll(src, offset + from * n, to - from, dest, destOffset + from));
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation and stores it at the buffer's current position
+	 * using the buffer's {@link ByteBuffer#order() byte order}. The binary representation occupies exactly
+	 * {@link #getBytesPerValue()} bytes, the buffer's position is incremented accordingly.
+	 * 
+	 * @param value the floating point number
+	 * @param dest the buffer where the binary representation is stored
+	 * @throws BufferOverflowException if there are fewer than {@link #getBytesPerValue()} bytes remaining
+	 */
+	public void encodeTo(@NonNull T value, @NonNull ByteBuffer dest) {
+		int n = getBytesPerValue();
+		
+		if(dest.remaining() < n)
+			throw new BufferOverflowException();
+		
+		int position = dest.position();
+		
+		if(getLongsPerValue() <= 2)
+			encodeWords(value, getOptions(), dest, position);
+		
+		else {
+			long[] words = new long[getLongsPerValue()];
+			
+			encodeWords(value, getOptions(), null, words);
+			toBytes(words, dest, position, n);
+		}
+		
+		dest.position(position + n);
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation and stores it in the array using the given byte order.
+	 * The binary representation occupies exactly {@link #getBytesPerValue()} bytes.
+	 * 
+	 * @param value the floating point number
+	 * @param dest the array where the binary representation is stored
+	 * @param offset the index where the binary representation is stored
+	 * @param order the byte order
+	 */
+	public void encodeTo(@NonNull T value, @NonNull byte[] dest, int offset, @NonNull ByteOrder order) {
+		int n = getBytesPerValue();
+		
+		Objects.checkFromIndexSize(offset, n, dest.length);
+		
+		if(getLongsPerValue() == 1) {
+			putWord(encodeWord(value, getOptions()), dest, offset, n, 0, order);
+			return;
+		}
+		
+		long[] words = getLongsPerValue() == 2
+			? HI_LO.get()
+			: new long[getLongsPerValue()];
+		
+		encodeWords(value, getOptions(), null, words);
+		toBytes(words, dest, offset, n, order);
+	}
+	
+	/**
+	 * Decodes the binary representation stored at the buffer's current position using the buffer's
+	 * {@link ByteBuffer#order() byte order}. The buffer's position is incremented by {@link #getBytesPerValue()}.
+	 * 
+	 * @param src the buffer containing the binary representation
+	 * @return the decoded floating point number
+	 * @throws BufferUnderflowException if there are fewer than {@link #getBytesPerValue()} bytes remaining
+	 */
+	public T decodeFrom(@NonNull ByteBuffer src) {
+		int n = getBytesPerValue();
+		
+		if(src.remaining() < n)
+			throw new BufferUnderflowException();
+		
+		int position = src.position();
+		T value;
+		
+		if(getLongsPerValue() <= 2)
+			value = decodeWords(getWord(src, position, n, 1), getWord(src, position, n, 0), getOptions());
+		
+		else {
+			long[] words = new long[getLongsPerValue()];
+			
+			fromBytes(src, position, n, words);
+			value = decodeWords(words, 0, getOptions());
+		}
+		
+		src.position(position + n);
+		
+		return value;
+	}
+	
+	/**
+	 * Decodes the binary representation stored in the array using the given byte order.
+	 * The binary representation occupies exactly {@link #getBytesPerValue()} bytes.
+	 * 
+	 * @param src the array containing the binary representation
+	 * @param offset the index of the binary representation
+	 * @param order the byte order
+	 * @return the decoded floating point number
+	 */
+	public T decodeFrom(@NonNull byte[] src, int offset, @NonNull ByteOrder order) {
+		int n = getBytesPerValue();
+		
+		Objects.checkFromIndexSize(offset, n, src.length);
+		
+		if(getLongsPerValue() <= 2)
+			return decodeWords(getWord(src, offset, n, 1, order), getWord(src, offset, n, 0, order), getOptions());
+		
+		long[] words = new long[getLongsPerValue()];
+		
+		fromBytes(src, offset, n, words, order);
+		
+		return decodeWords(words, 0, getOptions());
+	}
+	
+	/*
+	 * stores the n least significant bytes of the words (most significant first) in the given order.
+	 * in big endian order, the most significant byte is stored first
+	 */
+	static void toBytes(long[] words, byte[] dest, int offset, int n, ByteOrder order) {
+		int count = words.length;
+		boolean bigEndian = order == ByteOrder.BIG_ENDIAN;
+		
+		if(n == count << 3) { // whole words, store the least significant word first for little endian
+			VarHandle handle = bigEndian ? LONG_BIG_ENDIAN : LONG_LITTLE_ENDIAN;
+			
+			for(int i = 0; i < count; ++i)
+				handle.set(dest, offset + ((bigEndian ? i : count - 1 - i) << 3), words[i]);
+			
+			return;
+		}
+		
+		for(int i = 0; i < n; ++i) // i-th least significant byte
+			dest[offset + (bigEndian ? n - 1 - i : i)] = (byte) (words[count - 1 - (i >>> 3)] >>> ((i & 7) << 3));
+	}
+	
+	// loads n bytes stored in the given order into the words (most significant first)
+	static void fromBytes(byte[] src, int offset, int n, long[] words, ByteOrder order) {
+		int count = words.length;
+		boolean bigEndian = order == ByteOrder.BIG_ENDIAN;
+		
+		if(n == count << 3) {
+			VarHandle handle = bigEndian ? LONG_BIG_ENDIAN : LONG_LITTLE_ENDIAN;
+			
+			for(int i = 0; i < count; ++i)
+				words[i] = (long) handle.get(src, offset + ((bigEndian ? i : count - 1 - i) << 3));
+			
+			return;
+		}
+		
+		for(int i = 0; i < count; ++i)
+			words[i] = 0;
+		
+		for(int i = 0; i < n; ++i) // i-th least significant byte
+			words[count - 1 - (i >>> 3)] |= (src[offset + (bigEndian ? n - 1 - i : i)] & 0xFFL) << ((i & 7) << 3);
+	}
+	
+	// same as toBytes, but uses absolute operations on the buffer (using the buffer's byte order)
+	static void toBytes(long[] words, ByteBuffer dest, int index, int n) {
+		int count = words.length;
+		boolean bigEndian = dest.order() == ByteOrder.BIG_ENDIAN;
+		
+		if(n == count << 3) {
+			for(int i = 0; i < count; ++i)
+				dest.putLong(index + ((bigEndian ? i : count - 1 - i) << 3), words[i]);
+			
+			return;
+		}
+		
+		for(int i = 0; i < n; ++i)
+			dest.put(index + (bigEndian ? n - 1 - i : i), (byte) (words[count - 1 - (i >>> 3)] >>> ((i & 7) << 3)));
+	}
+	
+	// same as fromBytes, but uses absolute operations on the buffer (using the buffer's byte order)
+	static void fromBytes(ByteBuffer src, int index, int n, long[] words) {
+		int count = words.length;
+		boolean bigEndian = src.order() == ByteOrder.BIG_ENDIAN;
+		
+		if(n == count << 3) {
+			for(int i = 0; i < count; ++i)
+				words[i] = src.getLong(index + ((bigEndian ? i : count - 1 - i) << 3));
+			
+			return;
+		}
+		
+		for(int i = 0; i < count; ++i)
+			words[i] = 0;
+		
+		for(int i = 0; i < n; ++i)
+			words[count - 1 - (i >>> 3)] |= (src.get(index + (bigEndian ? n - 1 - i : i)) & 0xFFL) << ((i & 7) << 3);
+	}
+	
+	/*
+	 * returns the i-th least significant word of the n bytes stored at the offset in the given order,
+	 * or 0 if there is no such word. the word consists of at most 8 bytes, which are loaded at once if possible
+	 */
+	static long getWord(byte[] src, int offset, int n, int i, ByteOrder order) {
+		int from = i << 3; // number of less significant bytes
+		int size = Math.min(n - from, 8);
+		
+		if(size <= 0)
+			return 0;
+		
+		boolean bigEndian = order == ByteOrder.BIG_ENDIAN;
+		int start = offset + (bigEndian ? n - from - size : from); // index of the word's first byte
+		
+		if(size == 8)
+			return (long) (bigEndian ? LONG_BIG_ENDIAN : LONG_LITTLE_ENDIAN).get(src, start);
+		
+		if(size == 4)
+			return (int) (bigEndian ? INT_BIG_ENDIAN : INT_LITTLE_ENDIAN).get(src, start) & 0xFFFFFFFFL;
+		
+		if(size == 2)
+			return (short) (bigEndian ? SHORT_BIG_ENDIAN : SHORT_LITTLE_ENDIAN).get(src, start) & 0xFFFFL;
+		
+		long word = 0;
+		
+		for(int j = 0; j < size; ++j) // j-th least significant byte
+			word |= (src[start + (bigEndian ? size - 1 - j : j)] & 0xFFL) << (j << 3);
+		
+		return word;
+	}
+	
+	// stores the word as the i-th least significant word of the n bytes at the offset in the given order (see getWord)
+	static void putWord(long word, byte[] dest, int offset, int n, int i, ByteOrder order) {
+		int from = i << 3;
+		int size = Math.min(n - from, 8);
+		
+		if(size <= 0)
+			return;
+		
+		boolean bigEndian = order == ByteOrder.BIG_ENDIAN;
+		int start = offset + (bigEndian ? n - from - size : from);
+		
+		if(size == 8)
+			(bigEndian ? LONG_BIG_ENDIAN : LONG_LITTLE_ENDIAN).set(dest, start, word);
+		
+		else if(size == 4)
+			(bigEndian ? INT_BIG_ENDIAN : INT_LITTLE_ENDIAN).set(dest, start, (int) word);
+		
+		else if(size == 2)
+			(bigEndian ? SHORT_BIG_ENDIAN : SHORT_LITTLE_ENDIAN).set(dest, start, (short) word);
+		
+		else for(int j = 0; j < size; ++j)
+			dest[start + (bigEndian ? size - 1 - j : j)] = (byte) (word >>> (j << 3));
+	}
+	
+	// same as getWord, but uses absolute operations on the buffer (using the buffer's byte order)
+	static long getWord(ByteBuffer src, int index, int n, int i) {
+		int from = i << 3;
+		int size = Math.min(n - from, 8);
+		
+		if(size <= 0)
+			return 0;
+		
+		boolean bigEndian = src.order() == ByteOrder.BIG_ENDIAN;
+		int start = index + (bigEndian ? n - from - size : from);
+		
+		if(size == 8)
+			return src.getLong(start);
+		
+		if(size == 4)
+			return src.getInt(start) & 0xFFFFFFFFL;
+		
+		if(size == 2)
+			return src.getShort(start) & 0xFFFFL;
+		
+		long word = 0;
+		
+		for(int j = 0; j < size; ++j)
+			word |= (src.get(start + (bigEndian ? size - 1 - j : j)) & 0xFFL) << (j << 3);
+		
+		return word;
+	}
+	
+	// same as putWord, but uses absolute operations on the buffer (using the buffer's byte order)
+	static void putWord(long word, ByteBuffer dest, int index, int n, int i) {
+		int from = i << 3;
+		int size = Math.min(n - from, 8);
+		
+		if(size <= 0)
+			return;
+		
+		boolean bigEndian = dest.order() == ByteOrder.BIG_ENDIAN;
+		int start = index + (bigEndian ? n - from - size : from);
+		
+		if(size == 8)
+			dest.putLong(start, word);
+		
+		else if(size == 4)
+			dest.putInt(start, (int) word);
+		
+		else if(size == 2)
+			dest.putShort(start, (short) word);
+		
+		else for(int j = 0; j < size; ++j)
+			dest.put(start + (bigEndian ? size - 1 - j : j), (byte) (word >>> (j << 3)));
+	}
+	
+	// converts the values [from, to)
+	@FunctionalInterface
+	private static interface RangeConversion {
+		
+		void convert(int from, int to);
+		
+	}
+	
+	// converts the values [from, to), raising the given flags
+	@FunctionalInterface
+	private static interface FlagConversion {
+		
+		void convert(int from, int to, StatusFlags flags);
+		
+	}
+	
+	// splits the range [from, to) until it contains at most 'threshold' values
+	private static final class RangeTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final transient RangeConversion conversion;
+		private final int from;
+		private final int to;
+		private final int threshold;
+		
+		RangeTask(RangeConversion conversion, int from, int to, int threshold) {
+			this.conversion = conversion;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+		
+		@Override
+		protected void compute() {
+			if(to - from <= threshold) {
+				conversion.convert(from, to);
+				return;
+			}
+			
+			int mid = (from + to) >>> 1;
+			
+			invokeAll(
+				new RangeTask(conversion, from, mid, threshold),
+				new RangeTask(conversion, mid, to, threshold)
+			);
+		}
+		
+	}
+	
+	/*
+	 * state shared by the conversions of a single batch: the options and the
+	 * binary representations of special values are only looked up once per batch.
+	 * the flags (if present) accumulate the flags of all values
+	 */
+	private final class Batch {
+		
+		private final CodecOptions options = getOptions();
+		private final StatusFlags flags;
+		
+		private final long[] words = new long[getLongsPerValue()];
+		
+		private final long[] positiveZero = toWords(getZero(+1));
+		private final long[] negativeZero = toWords(getZero(-1));
+		private final long[] positiveInfinity = toWords(getPositiveInfinity());
+		private final long[] negativeInfinity = toWords(getNegativeInfinity());
+		
+		Batch(StatusFlags flags) {
+			this.flags = flags;
+		}
+		
+		private long[] toWords(BigInteger value) {
+			long[] words = new long[this.words.length];
+			
+			UnsignedMath.toWords(value, words);
+			
+			return words;
+		}
+		
+		// same result (and flags) as encode(FACTORY.create(value, flags), flags)
+		void encode(BigDecimal value) {
+			int signum = value.signum();
+			boolean sign = signum < 0;
+			
+			if(signum == 0)
+				set(positiveZero);
+			
+			else if(Floating.isOverflow(FloatingCodec.this, value)) {
+				raise(StatusFlags.OVERFLOW | StatusFlags.INEXACT);
+				set(sign ? negativeInfinity : positiveInfinity);
+			}
+			
+			else if(Floating.isUnderflow(FloatingCodec.this, value)) {
+				raise(StatusFlags.UNDERFLOW | StatusFlags.INEXACT);
+				set(sign ? negativeZero : positiveZero);
+			}
+			
+			else encodeWords(sign, value, options, flags, words);
+		}
+		
+		void encode(T value) {
+			encodeWords(value, options, flags, words);
+		}
+		
+		private void raise(int flags) {
+			if(this.flags != null)
+				this.flags.raise(flags);
+		}
+		
+		private void set(long[] special) {
+			System.arraycopy(special, 0, words, 0, words.length);
+		}
+		
+	}
+	
 }
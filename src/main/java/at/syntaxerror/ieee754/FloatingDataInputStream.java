@@ -0,0 +1,262 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import lombok.NonNull;
+
+/**
+ * This class reads floating point numbers from an underlying input stream, analogous to {@link java.io.DataInputStream}.
+ * <p>
+ * Each number occupies exactly {@link FloatingCodec#getBytesPerValue()} bytes, stored in the stream's {@link #getOrder() byte order}.
+ * The input is buffered internally, so there is no need to wrap the underlying stream in a {@link java.io.BufferedInputStream}.
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public class FloatingDataInputStream extends FilterInputStream {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+	
+	private final ByteOrder order;
+	
+	private byte[] buffer;
+	private int position;
+	private int limit;
+	
+	private long[] words = new long[1];
+	
+	/**
+	 * Creates a new stream reading from the given input stream, using the given byte order
+	 * 
+	 * @param in the underlying input stream
+	 * @param order the byte order
+	 */
+	public FloatingDataInputStream(@NonNull InputStream in, @NonNull ByteOrder order) {
+		this(in, order, DEFAULT_BUFFER_SIZE);
+	}
+	
+	/**
+	 * Creates a new stream reading from the given input stream, using the given byte order and buffer size
+	 * 
+	 * @param in the underlying input stream
+	 * @param order the byte order
+	 * @param size the buffer size
+	 */
+	public FloatingDataInputStream(@NonNull InputStream in, @NonNull ByteOrder order, int size) {
+		super(in);
+		
+		if(size <= 0)
+			throw new IllegalArgumentException("Illegal buffer size " + size);
+		
+		this.order = order;
+		
+		buffer = new byte[size];
+	}
+	
+	/**
+	 * Returns the byte order
+	 * 
+	 * @return the byte order
+	 */
+	public ByteOrder getOrder() {
+		return order;
+	}
+	
+	// makes sure that at least n bytes are buffered
+	private void require(int n) throws IOException {
+		int available = limit - position;
+		
+		if(available >= n)
+			return;
+		
+		if(n > buffer.length) {
+			byte[] grown = new byte[n];
+			
+			System.arraycopy(buffer, position, grown, 0, available);
+			buffer = grown;
+		}
+		else System.arraycopy(buffer, position, buffer, 0, available);
+		
+		position = 0;
+		limit = available;
+		
+		while(limit < n) {
+			int read = in.read(buffer, limit, buffer.length - limit);
+			
+			if(read < 0)
+				throw new EOFException();
+			
+			limit += read;
+		}
+	}
+	
+	private long[] words(int n) {
+		if(words.length != n)
+			words = new long[n];
+		
+		return words;
+	}
+	
+	/**
+	 * Reads and decodes a floating point number
+	 * 
+	 * @param codec the codec used for decoding
+	 * @return the floating point number
+	 * @throws EOFException if the end of the stream is reached before all bytes are read
+	 * @throws IOException if an I/O error occurs
+	 */
+	public <T extends Floating<T>> T read(@NonNull FloatingCodec<T> codec) throws IOException {
+		long[] words = words(codec.getLongsPerValue());
+		
+		readBits(codec, words);
+		
+		return codec.decodeWords(words, 0, codec.getOptions());
+	}
+	
+	/**
+	 * Reads and decodes several floating point numbers
+	 * 
+	 * @param codec the codec used for decoding
+	 * @param count the number of floating point numbers
+	 * @return the floating point numbers
+	 * @throws EOFException if the end of the stream is reached before all bytes are read
+	 * @throws IOException if an I/O error occurs
+	 */
+	public <T extends Floating<T>> List<T> read(@NonNull FloatingCodec<T> codec, int count) throws IOException {
+		if(count < 0)
+			throw new IllegalArgumentException("Illegal count " + count);
+		
+		List<T> values = new ArrayList<>(count);
+		
+		for(int i = 0; i < count; ++i)
+			values.add(read(codec));
+		
+		return values;
+	}
+	
+	/**
+	 * Reads the binary representation of a floating point number without decoding it
+	 * 
+	 * @param codec the codec specifying the format
+	 * @param words the array (of length {@link FloatingCodec#getLongsPerValue()}) where the binary representation is stored (most significant bits first)
+	 * @throws EOFException if the end of the stream is reached before all bytes are read
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void readBits(@NonNull FloatingCodec<?> codec, @NonNull long[] words) throws IOException {
+		if(words.length != codec.getLongsPerValue())
+			throw new IllegalArgumentException("Expected an array of length " + codec.getLongsPerValue());
+		
+		int n = codec.getBytesPerValue();
+		
+		require(n);
+		
+		FloatingCodec.fromBytes(buffer, position, n, words, order);
+		
+		position += n;
+	}
+	
+	@Override
+	public int read() throws IOException {
+		if(position == limit) {
+			position = limit = 0;
+			
+			int read = in.read(buffer, 0, buffer.length);
+			
+			if(read <= 0)
+				return -1;
+			
+			limit = read;
+		}
+		
+		return buffer[position++] & 0xFF;
+	}
+	
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		
+		if(len == 0)
+			return 0;
+		
+		int available = limit - position;
+		
+		if(available == 0)
+			return in.read(b, off, len);
+		
+		int n = Math.min(available, len);
+		
+		System.arraycopy(buffer, position, b, off, n);
+		position += n;
+		
+		return n;
+	}
+	
+	@Override
+	public long skip(long n) throws IOException {
+		if(n <= 0)
+			return 0;
+		
+		int available = limit - position;
+		
+		if(available == 0)
+			return in.skip(n);
+		
+		int skipped = (int) Math.min(available, n);
+		
+		position += skipped;
+		
+		return skipped;
+	}
+	
+	@Override
+	public int available() throws IOException {
+		int available = limit - position;
+		
+		return available + Math.min(in.available(), Integer.MAX_VALUE - available);
+	}
+	
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+	
+	@Override
+	public void mark(int readlimit) { }
+	
+	@Override
+	public void reset() throws IOException {
+		throw new IOException("mark/reset not supported");
+	}
+	
+}
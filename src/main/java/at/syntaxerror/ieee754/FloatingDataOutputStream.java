@@ -0,0 +1,222 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Objects;
+
+import lombok.NonNull;
+
+/**
+ * This class writes floating point numbers to an underlying output stream, analogous to {@link java.io.DataOutputStream}.
+ * <p>
+ * Each number occupies exactly {@link FloatingCodec#getBytesPerValue()} bytes, stored in the stream's {@link #getOrder() byte order}.
+ * The output is buffered internally, so there is no need to wrap the underlying stream in a {@link java.io.BufferedOutputStream}.
+ * Buffered data is written to the underlying stream when the stream is {@link #flush() flushed} or {@link #close() closed}.
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public class FloatingDataOutputStream extends FilterOutputStream {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+	
+	private final ByteOrder order;
+	
+	private byte[] buffer;
+	private int count;
+	
+	private long[] words = new long[1];
+	
+	/**
+	 * Creates a new stream writing to the given output stream, using the given byte order
+	 * 
+	 * @param out the underlying output stream
+	 * @param order the byte order
+	 */
+	public FloatingDataOutputStream(@NonNull OutputStream out, @NonNull ByteOrder order) {
+		this(out, order, DEFAULT_BUFFER_SIZE);
+	}
+	
+	/**
+	 * Creates a new stream writing to the given output stream, using the given byte order and buffer size
+	 * 
+	 * @param out the underlying output stream
+	 * @param order the byte order
+	 * @param size the buffer size
+	 */
+	public FloatingDataOutputStream(@NonNull OutputStream out, @NonNull ByteOrder order, int size) {
+		super(out);
+		
+		if(size <= 0)
+			throw new IllegalArgumentException("Illegal buffer size " + size);
+		
+		this.order = order;
+		
+		buffer = new byte[size];
+	}
+	
+	/**
+	 * Returns the byte order
+	 * 
+	 * @return the byte order
+	 */
+	public ByteOrder getOrder() {
+		return order;
+	}
+	
+	private void flushBuffer() throws IOException {
+		if(count > 0) {
+			out.write(buffer, 0, count);
+			count = 0;
+		}
+	}
+	
+	// makes sure that there is space for at least n bytes in the buffer
+	private void reserve(int n) throws IOException {
+		if(buffer.length - count >= n)
+			return;
+		
+		flushBuffer();
+		
+		if(n > buffer.length)
+			buffer = new byte[n];
+	}
+	
+	private long[] words(int n) {
+		if(words.length != n)
+			words = new long[n];
+		
+		return words;
+	}
+	
+	/**
+	 * Encodes and writes the floating point number using the value's {@link Floating#getCodec() codec}, i.e. the global
+	 * {@link CodecOptions#defaults() default options}. Use {@link #write(FloatingCodec, Floating)} with a codec
+	 * {@link FloatingCodec#withOptions(CodecOptions) bound} to specific options to avoid depending on global state.
+	 * 
+	 * @param value the floating point number
+	 * @throws IOException if an I/O error occurs
+	 */
+	public <T extends Floating<T>> void write(@NonNull T value) throws IOException {
+		write(value.getCodec(), value);
+	}
+	
+	/**
+	 * Encodes and writes the floating point numbers using the global {@link CodecOptions#defaults() default options}
+	 * (see {@link #write(Floating)})
+	 * 
+	 * @param values the floating point numbers
+	 * @throws IOException if an I/O error occurs
+	 */
+	public <T extends Floating<T>> void write(@NonNull List<? extends T> values) throws IOException {
+		for(T value : values)
+			write(value);
+	}
+	
+	/**
+	 * Encodes the floating point number using the given codec (e.g. a codec {@link FloatingCodec#withOptions(CodecOptions) bound}
+	 * to specific options) and writes it
+	 * 
+	 * @param codec the codec
+	 * @param value the floating point number
+	 * @throws IOException if an I/O error occurs
+	 */
+	public <T extends Floating<T>> void write(@NonNull FloatingCodec<T> codec, @NonNull T value) throws IOException {
+		long[] words = words(codec.getLongsPerValue());
+		
+		codec.encodeWords(value, codec.getOptions(), null, words);
+		
+		write(codec.getBytesPerValue(), words);
+	}
+	
+	/**
+	 * Encodes the floating point numbers using the given codec and writes them
+	 * 
+	 * @param codec the codec
+	 * @param values the floating point numbers
+	 * @throws IOException if an I/O error occurs
+	 */
+	public <T extends Floating<T>> void write(@NonNull FloatingCodec<T> codec, @NonNull List<? extends T> values) throws IOException {
+		for(T value : values)
+			write(codec, value);
+	}
+	
+	/**
+	 * Writes the binary representation of a floating point number
+	 * 
+	 * @param codec the codec specifying the format
+	 * @param words the binary representation (of length {@link FloatingCodec#getLongsPerValue()}, most significant bits first)
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void writeBits(@NonNull FloatingCodec<?> codec, @NonNull long[] words) throws IOException {
+		if(words.length != codec.getLongsPerValue())
+			throw new IllegalArgumentException("Expected an array of length " + codec.getLongsPerValue());
+		
+		write(codec.getBytesPerValue(), words);
+	}
+	
+	private void write(int n, long[] words) throws IOException {
+		reserve(n);
+		
+		FloatingCodec.toBytes(words, buffer, count, n, order);
+		
+		count += n;
+	}
+	
+	@Override
+	public void write(int b) throws IOException {
+		reserve(1);
+		
+		buffer[count++] = (byte) b;
+	}
+	
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		
+		if(len >= buffer.length) { // bypass the buffer
+			flushBuffer();
+			out.write(b, off, len);
+			return;
+		}
+		
+		reserve(len);
+		
+		System.arraycopy(b, off, buffer, count, len);
+		count += len;
+	}
+	
+	@Override
+	public void flush() throws IOException {
+		flushBuffer();
+		out.flush();
+	}
+	
+}
@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 /**
  * This class is used to create new {@link Floating} objects
@@ -64,6 +65,32 @@ public interface FloatingFactory<T extends Floating<T>> {
 		return create(signum == 0 ? 1 : signum, value);
 	}
 
+	/**
+	 * Creates a new {@link Floating} and raises the flags according to the result.
+	 * <p>
+	 * If the value exceeds the maximum value, {@link StatusFlags#OVERFLOW} and {@link StatusFlags#INEXACT} are raised.
+	 * If the non-zero value is flushed to zero (see {@link Floating#Floating(int, BigDecimal)}),
+	 * {@link StatusFlags#UNDERFLOW} and {@link StatusFlags#INEXACT} are raised.
+	 * Other values are stored exactly and only rounded upon encoding (see {@link FloatingCodec#encode(Floating, StatusFlags)}).
+	 * 
+	 * @param value the value
+	 * @param flags the flags
+	 * @return the new Floating
+	 */
+	default T create(BigDecimal value, StatusFlags flags) {
+		T result = create(value);
+		
+		if(value.signum() != 0) {
+			if(result.isInfinity())
+				flags.raise(StatusFlags.OVERFLOW | StatusFlags.INEXACT);
+			
+			else if(result.isZero())
+				flags.raise(StatusFlags.UNDERFLOW | StatusFlags.INEXACT);
+		}
+		
+		return result;
+	}
+
 	/**
 	 * Creates a new {@link Floating}.
 	 * 
@@ -73,5 +100,20 @@ public interface FloatingFactory<T extends Floating<T>> {
 	default T create(Number value) {
 		return create(new BigDecimal(value.doubleValue()));
 	}
+
+	/**
+	 * Creates a new finite {@link Floating} backed by its binary representation, whose value is only decoded when needed
+	 * (see {@link Floating#Floating(int, BigInteger)}).
+	 * <p>
+	 * The default implementation returns {@code null}, indicating that lazy decoding is not supported,
+	 * in which case {@link FloatingCodec#decodeLazy(BigInteger)} decodes the value immediately.
+	 * 
+	 * @param signum the signum (either -1 or 1)
+	 * @param encoded the binary representation
+	 * @return the new Floating, or {@code null} if not supported
+	 */
+	default T createLazy(int signum, BigInteger encoded) {
+		return null;
+	}
 	
 }
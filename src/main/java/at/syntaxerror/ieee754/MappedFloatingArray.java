@@ -0,0 +1,337 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import lombok.NonNull;
+
+/**
+ * This class provides random access to a file consisting of consecutive binary representations of floating point numbers,
+ * each occupying exactly {@link FloatingCodec#getBytesPerValue()} bytes.
+ * <p>
+ * The file is memory-mapped in several chunks, so files larger than 2 GB are supported. No element spans across two chunks.
+ * Elements are only decoded when they are accessed via {@link #get(long)}; the raw binary representation can be accessed
+ * via {@link #getBits(long, long[])} and {@link #getLong(long)} without decoding it at all.
+ * <p>
+ * Accessing elements does not modify any state of the array, so elements can be accessed concurrently, as long as the same
+ * element is not written by one thread while being accessed by another one.
+ * <p>
+ * After the array is {@link #close() closed}, accessing its elements throws an {@link IllegalStateException}.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public final class MappedFloatingArray<T extends Floating<T>> implements Closeable {
+
+	// maximum number of bytes per chunk
+	private static final int CHUNK_SIZE = 1 << 30;
+	
+	/**
+	 * Memory-maps an existing file for reading only
+	 * 
+	 * @param codec the codec used for decoding the elements
+	 * @param path the path of the file
+	 * @param order the byte order of the elements
+	 * @return the array
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static <T extends Floating<T>> MappedFloatingArray<T> open(@NonNull FloatingCodec<T> codec, @NonNull Path path,
+			@NonNull ByteOrder order) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		
+		try {
+			return new MappedFloatingArray<>(codec, channel, MapMode.READ_ONLY, channel.size() / codec.getBytesPerValue(), order);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Memory-maps a file for reading and writing. If the file does not exist, it is created.
+	 * The file is resized so that it holds exactly {@code length} elements; new elements are initialized with positive zero.
+	 * 
+	 * @param codec the codec used for encoding and decoding the elements
+	 * @param path the path of the file
+	 * @param length the number of elements
+	 * @param order the byte order of the elements
+	 * @return the array
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static <T extends Floating<T>> MappedFloatingArray<T> open(@NonNull FloatingCodec<T> codec, @NonNull Path path,
+			long length, @NonNull ByteOrder order) throws IOException {
+		if(length < 0)
+			throw new IllegalArgumentException("Illegal length " + length);
+		
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		
+		try {
+			long size = Math.multiplyExact(length, codec.getBytesPerValue());
+			
+			if(channel.size() > size)
+				channel.truncate(size);
+			
+			return new MappedFloatingArray<>(codec, channel, MapMode.READ_WRITE, length, order);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+	
+	private final FloatingCodec<T> codec;
+	private final FileChannel channel;
+	private final ByteOrder order;
+	
+	private final long length;
+	
+	private final int bytes;
+	private final int longs;
+	
+	private final int chunkLength; // number of elements per chunk
+	private final MappedByteBuffer[] chunks;
+	
+	private volatile boolean closed;
+	
+	private MappedFloatingArray(FloatingCodec<T> codec, FileChannel channel, MapMode mode, long length, ByteOrder order) throws IOException {
+		this.codec = codec;
+		this.channel = channel;
+		this.order = order;
+		this.length = length;
+		
+		bytes = codec.getBytesPerValue();
+		longs = codec.getLongsPerValue();
+		
+		chunkLength = CHUNK_SIZE / bytes;
+		
+		int count = (int) ((length + chunkLength - 1) / chunkLength);
+		
+		chunks = new MappedByteBuffer[count];
+		
+		for(int i = 0; i < count; ++i) {
+			long first = (long) i * chunkLength;
+			long size = Math.min(chunkLength, length - first) * bytes;
+			
+			// mapping beyond the end of the file (READ_WRITE only) implicitly grows the file
+			chunks[i] = channel.map(mode, first * bytes, size);
+			chunks[i].order(order);
+		}
+	}
+	
+	/**
+	 * Returns the codec used for encoding and decoding the elements
+	 * 
+	 * @return the codec
+	 */
+	public FloatingCodec<T> getCodec() {
+		return codec;
+	}
+	
+	/**
+	 * Returns the byte order of the elements
+	 * 
+	 * @return the byte order
+	 */
+	public ByteOrder getOrder() {
+		return order;
+	}
+	
+	/**
+	 * Returns the number of elements
+	 * 
+	 * @return the number of elements
+	 */
+	public long length() {
+		return length;
+	}
+	
+	/**
+	 * Returns whether elements can be modified
+	 * 
+	 * @return whether the array is writable
+	 */
+	public boolean isWritable() {
+		checkOpen();
+		
+		return chunks.length == 0 || !chunks[0].isReadOnly();
+	}
+	
+	private void checkOpen() {
+		if(closed)
+			throw new IllegalStateException("Array is closed");
+	}
+	
+	private MappedByteBuffer chunk(long index) {
+		checkOpen();
+		Objects.checkIndex(index, length);
+		
+		return chunks[(int) (index / chunkLength)];
+	}
+	
+	private int position(long index) {
+		return (int) (index % chunkLength) * bytes;
+	}
+	
+	/**
+	 * Decodes the element at the given index
+	 * 
+	 * @param index the index of the element
+	 * @return the decoded floating point number
+	 */
+	public T get(long index) {
+		MappedByteBuffer chunk = chunk(index);
+		int position = position(index);
+		
+		if(longs <= 2)
+			return codec.decodeWords(
+				FloatingCodec.getWord(chunk, position, bytes, 1),
+				FloatingCodec.getWord(chunk, position, bytes, 0),
+				codec.getOptions()
+			);
+		
+		long[] words = new long[longs];
+		
+		FloatingCodec.fromBytes(chunk, position, bytes, words);
+		
+		return codec.decodeWords(words, 0, codec.getOptions());
+	}
+	
+	/**
+	 * Encodes the floating point number and stores it at the given index
+	 * 
+	 * @param index the index of the element
+	 * @param value the floating point number
+	 */
+	public void set(long index, @NonNull T value) {
+		MappedByteBuffer chunk = chunk(index);
+		
+		if(longs <= 2) {
+			codec.encodeWords(value, codec.getOptions(), chunk, position(index));
+			return;
+		}
+		
+		long[] words = new long[longs];
+		
+		codec.encodeWords(value, codec.getOptions(), null, words);
+		
+		FloatingCodec.toBytes(words, chunk, position(index), bytes);
+	}
+	
+	/**
+	 * Reads the binary representation of the element at the given index
+	 * 
+	 * @param index the index of the element
+	 * @param words the array (of length {@link FloatingCodec#getLongsPerValue()}) where the binary representation is stored (most significant bits first)
+	 */
+	public void getBits(long index, @NonNull long[] words) {
+		checkWords(words);
+		
+		FloatingCodec.fromBytes(chunk(index), position(index), bytes, words);
+	}
+	
+	/**
+	 * Stores the binary representation at the given index
+	 * 
+	 * @param index the index of the element
+	 * @param words the binary representation (of length {@link FloatingCodec#getLongsPerValue()}, most significant bits first)
+	 */
+	public void setBits(long index, @NonNull long[] words) {
+		checkWords(words);
+		
+		FloatingCodec.toBytes(words, chunk(index), position(index), bytes);
+	}
+	
+	/**
+	 * Reads the binary representation of the element at the given index.
+	 * This is only supported if the binary representation fits into a {@code long}.
+	 * 
+	 * @param index the index of the element
+	 * @return the binary representation
+	 */
+	public long getLong(long index) {
+		checkLong();
+		
+		return FloatingCodec.getWord(chunk(index), position(index), bytes, 0);
+	}
+	
+	/**
+	 * Stores the binary representation at the given index.
+	 * This is only supported if the binary representation fits into a {@code long}.
+	 * 
+	 * @param index the index of the element
+	 * @param bits the binary representation
+	 */
+	public void setLong(long index, long bits) {
+		checkLong();
+		
+		FloatingCodec.putWord(bits, chunk(index), position(index), bytes, 0);
+	}
+	
+	private void checkWords(long[] words) {
+		if(words.length != longs)
+			throw new IllegalArgumentException("Expected an array of length " + longs);
+	}
+	
+	private void checkLong() {
+		if(longs != 1)
+			throw new UnsupportedOperationException("Binary representation does not fit into a long");
+	}
+	
+	/**
+	 * Writes any changes to the underlying file
+	 * 
+	 * @throws IllegalStateException if the array is closed
+	 */
+	public void force() {
+		checkOpen();
+		
+		for(MappedByteBuffer chunk : chunks)
+			if(!chunk.isReadOnly())
+				chunk.force();
+	}
+	
+	/**
+	 * Writes any changes to the underlying file and closes the file.
+	 * <p>
+	 * Note that the memory mapping itself is only released once the array is garbage collected.
+	 * Any further access to the array throws an {@link IllegalStateException}. Closing an already closed array has no effect.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if(closed)
+			return;
+		
+		force();
+		closed = true;
+		channel.close();
+	}
+	
+}
@@ -0,0 +1,175 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754;
+
+import java.util.StringJoiner;
+
+import lombok.NonNull;
+
+/**
+ * This class accumulates the IEEE 754 exception flags raised while creating, encoding and decoding floating point numbers:
+ * 
+ * <ul>
+ * 	<li>{@link #INVALID}: a signaling NaN was encoded or decoded</li>
+ * 	<li>{@link #OVERFLOW}: the value was too big and became either infinity or the maximum value</li>
+ * 	<li>{@link #UNDERFLOW}: the value was tiny (below the minimum normal value before rounding) and inexact</li>
+ * 	<li>{@link #INEXACT}: the value had to be rounded</li>
+ * </ul>
+ * 
+ * Flags are only ever raised, never lowered, by the operations accepting a {@code StatusFlags} object,
+ * so that a single object can collect the flags of a whole batch of operations (like the sticky flags of IEEE 754).
+ * Since the flags are a plain {@code int}, raising them is cheap.
+ * <p>
+ * This class is not thread-safe. Use one object per thread and {@link #merge(StatusFlags) merge} them afterwards.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public final class StatusFlags {
+
+	/** A signaling NaN was encoded or decoded */
+	public static final int INVALID = 1 << 0;
+	
+	/** The value exceeded the maximum value */
+	public static final int OVERFLOW = 1 << 1;
+	
+	/** The value was tiny and inexact */
+	public static final int UNDERFLOW = 1 << 2;
+	
+	/** The value was rounded */
+	public static final int INEXACT = 1 << 3;
+	
+	private static final int ALL = INVALID | OVERFLOW | UNDERFLOW | INEXACT;
+	
+	private int flags;
+	
+	/**
+	 * Creates a new object without any flags raised
+	 */
+	public StatusFlags() { }
+	
+	/**
+	 * Returns the raised flags as a bit mask of {@link #INVALID}, {@link #OVERFLOW}, {@link #UNDERFLOW} and {@link #INEXACT}
+	 * 
+	 * @return the raised flags
+	 */
+	public int getFlags() {
+		return flags;
+	}
+	
+	/**
+	 * Checks whether any of the flags are raised
+	 * 
+	 * @param flags the bit mask of flags
+	 * @return whether any of the flags are raised
+	 */
+	public boolean test(int flags) {
+		return (this.flags & flags) != 0;
+	}
+	
+	/**
+	 * Checks whether no flags are raised, i.e. whether all operations were exact
+	 * 
+	 * @return whether no flags are raised
+	 */
+	public boolean isClear() {
+		return flags == 0;
+	}
+	
+	/**
+	 * Checks whether the {@link #INVALID} flag is raised
+	 * 
+	 * @return whether the flag is raised
+	 */
+	public boolean isInvalid() {
+		return test(INVALID);
+	}
+	
+	/**
+	 * Checks whether the {@link #OVERFLOW} flag is raised
+	 * 
+	 * @return whether the flag is raised
+	 */
+	public boolean isOverflow() {
+		return test(OVERFLOW);
+	}
+	
+	/**
+	 * Checks whether the {@link #UNDERFLOW} flag is raised
+	 * 
+	 * @return whether the flag is raised
+	 */
+	public boolean isUnderflow() {
+		return test(UNDERFLOW);
+	}
+	
+	/**
+	 * Checks whether the {@link #INEXACT} flag is raised
+	 * 
+	 * @return whether the flag is raised
+	 */
+	public boolean isInexact() {
+		return test(INEXACT);
+	}
+	
+	/**
+	 * Raises the flags
+	 * 
+	 * @param flags the bit mask of flags
+	 */
+	public void raise(int flags) {
+		if((flags & ~ALL) != 0)
+			throw new IllegalArgumentException("Illegal flags");
+		
+		this.flags |= flags;
+	}
+	
+	/**
+	 * Raises all flags raised by the other object
+	 * 
+	 * @param other the other object
+	 */
+	public void merge(@NonNull StatusFlags other) {
+		flags |= other.flags;
+	}
+	
+	/**
+	 * Lowers all flags
+	 */
+	public void clear() {
+		flags = 0;
+	}
+	
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner(", ", "StatusFlags[", "]");
+		
+		if(isInvalid()) joiner.add("invalid");
+		if(isOverflow()) joiner.add("overflow");
+		if(isUnderflow()) joiner.add("underflow");
+		if(isInexact()) joiner.add("inexact");
+		
+		return joiner.toString();
+	}
+	
+}
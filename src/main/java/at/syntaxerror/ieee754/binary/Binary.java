@@ -23,12 +23,18 @@
 package at.syntaxerror.ieee754.binary;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.Floating;
 import at.syntaxerror.ieee754.FloatingType;
+import lombok.NonNull;
 
 /**
- * This class is the base class for implementing IEEE 754 binary floating point specifications 
+ * This class is the base class for implementing IEEE 754 binary floating point specifications.
+ * <p>
+ * Finite numbers created by a {@link BinaryCodec} are stored as {@code significand * 2^exponent}.
+ * The {@link BigDecimal} representation, whose length grows with the negative exponent,
+ * is only computed when it is first needed.
  * 
  * @author Thomas Kasper
  * 
@@ -36,12 +42,166 @@ import at.syntaxerror.ieee754.FloatingType;
 @SuppressWarnings({ "serial" })
 public abstract class Binary<T extends Binary<T>> extends Floating<T> {
 
+	// |value| = significand * 2^exponent, or null if the value is only available as a BigDecimal
+	private final BigInteger significand;
+	private final int exponent;
+	
 	public Binary(int signum, FloatingType type) {
 		super(signum, type);
+		significand = null;
+		exponent = 0;
 	}
 
 	public Binary(int signum, BigDecimal value) {
 		super(signum, value);
+		significand = null;
+		exponent = 0;
+	}
+
+	protected Binary(int signum, BigInteger encoded) {
+		super(signum, encoded);
+		significand = null;
+		exponent = 0;
+	}
+
+	/**
+	 * Creates a new finite binary floating-point number with the value {@code signum * significand * 2^exponent}.
+	 * <p>The value must be exactly representable by this number's {@link #getCodec() codec}
+	 * (i.e. it must not be rounded, overflow or underflow). This constructor is used by {@link BinaryFactory#create(int, BigInteger, int)}.
+	 * 
+	 * @param signum the signum (either {@code -1} or {@code 1})
+	 * @param significand the (non-negative) significand
+	 * @param exponent the binary exponent
+	 * @throws IllegalArgumentException if the significand is negative or the value is not representable
+	 */
+	protected Binary(int signum, @NonNull BigInteger significand, int exponent) {
+		super(signum);
+		
+		if(significand.signum() < 0)
+			throw new IllegalArgumentException("Illegal negative significand");
+		
+		// the codec is not yet available while its constants are created
+		if(getCodec() instanceof BinaryCodec<?> codec && !codec.isRepresentable(significand, exponent))
+			throw new IllegalArgumentException("Value is not representable");
+		
+		this.significand = significand;
+		this.exponent = exponent;
+	}
+	
+	/**
+	 * Returns the significand of the value {@code |value| = significand * 2^exponent}
+	 * 
+	 * @return the significand, or {@code null} if the value is not stored in this form
+	 */
+	BigInteger getDyadicSignificand() {
+		return significand;
+	}
+
+	/**
+	 * Returns the exponent of the value {@code |value| = significand * 2^exponent}
+	 * 
+	 * @return the exponent (only valid if {@link #getDyadicSignificand()} is not {@code null})
+	 */
+	int getDyadicExponent() {
+		return exponent;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected BigDecimal decodeValue() {
+		if(significand == null)
+			return super.decodeValue();
+		
+		BigDecimal value = BinaryCodec.toBigDecimal(significand, exponent);
+		
+		return isNegative()
+			? value.negate()
+			: value;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean isZero() {
+		return significand == null
+			? super.isZero()
+			: significand.signum() == 0;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	protected boolean isZeroEncoding(BigInteger encoded) {
+		return ((BinaryCodec<T>) getCodec()).isZero(encoded);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public double doubleValue() {
+		if(significand == null || significand.bitLength() > 53)
+			return super.doubleValue();
+		
+		// the significand is exact, so scaling it only rounds once (if the result is subnormal)
+		double value = Math.scalb(significand.doubleValue(), exponent);
+		
+		return isNegative()
+			? -value
+			: value;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int compareTo(T o) {
+		Binary<?> other = o;
+		
+		if(significand == null || other.significand == null)
+			return super.compareTo(o);
+		
+		int signum = significand.signum() == 0 ? 0 : getSignum();
+		int otherSignum = other.significand.signum() == 0 ? 0 : other.getSignum();
+		
+		if(signum != otherSignum || signum == 0)
+			return Integer.compare(signum, otherSignum);
+		
+		return signum * compareMagnitude(other);
+	}
+	
+	/**
+	 * Returns the shortest decimal representation of this number (see {@link BinaryCodec#format(Binary)}),
+	 * which has the same format as {@link Double#toString(double)}.
+	 * <p>Unlike {@link #toString()}, which returns the exact value, the result is only exact enough to be decoded back to
+	 * the same binary representation
+	 * 
+	 * @return the shortest decimal representation
+	 */
+	@SuppressWarnings("unchecked")
+	public String toShortString() {
+		return ((BinaryCodec<T>) getCodec()).format((T) this);
+	}
+	
+	/**
+	 * Returns the hexadecimal representation of this number (see {@link BinaryCodec#formatHex(Binary)}),
+	 * which has the same format as {@link Double#toHexString(double)}
+	 * 
+	 * @return the hexadecimal representation
+	 */
+	@SuppressWarnings("unchecked")
+	public String toHexString() {
+		return ((BinaryCodec<T>) getCodec()).formatHex((T) this);
+	}
+	
+	// compares the absolute values of two non-zero numbers
+	private int compareMagnitude(Binary<?> other) {
+		// exponents of the most significant bits
+		long msb = (long) significand.bitLength() + exponent;
+		long otherMsb = (long) other.significand.bitLength() + other.exponent;
+		
+		if(msb != otherMsb)
+			return Long.compare(msb, otherMsb);
+		
+		// same magnitude, therefore the exponent difference is bounded by the significands' lengths
+		return exponent >= other.exponent
+			? significand.shiftLeft(exponent - other.exponent).compareTo(other.significand)
+			: significand.compareTo(other.significand.shiftLeft(other.exponent - exponent));
 	}
 
 }
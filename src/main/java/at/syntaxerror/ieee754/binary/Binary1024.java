@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754.binary;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
@@ -58,13 +59,21 @@ public final class Binary1024 extends Binary<Binary1024> {
 		super(signum, type);
 	}
 
+	private Binary1024(int signum, BigInteger encoded) {
+		super(signum, encoded);
+	}
+
+	private Binary1024(int signum, BigInteger significand, int exponent) {
+		super(signum, significand, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public BinaryCodec<Binary1024> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary64Factory implements FloatingFactory<Binary1024> {
+	private static class Binary64Factory implements BinaryFactory<Binary1024> {
 		
 		@Override
 		public Binary1024 create(int signum, BigDecimal value) {
@@ -76,6 +85,16 @@ public final class Binary1024 extends Binary<Binary1024> {
 			return new Binary1024(signum, type);
 		}
 		
+		@Override
+		public Binary1024 createLazy(int signum, BigInteger encoded) {
+			return new Binary1024(signum, encoded);
+		}
+		
+		@Override
+		public Binary1024 create(int signum, BigInteger significand, int exponent) {
+			return new Binary1024(signum, significand, exponent);
+		}
+		
 	}
 	
 }
@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754.binary;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
@@ -56,13 +57,21 @@ public final class Binary128 extends Binary<Binary128> {
 		super(signum, type);
 	}
 
+	private Binary128(int signum, BigInteger encoded) {
+		super(signum, encoded);
+	}
+
+	private Binary128(int signum, BigInteger significand, int exponent) {
+		super(signum, significand, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public BinaryCodec<Binary128> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary64Factory implements FloatingFactory<Binary128> {
+	private static class Binary64Factory implements BinaryFactory<Binary128> {
 		
 		@Override
 		public Binary128 create(int signum, BigDecimal value) {
@@ -74,6 +83,16 @@ public final class Binary128 extends Binary<Binary128> {
 			return new Binary128(signum, type);
 		}
 		
+		@Override
+		public Binary128 createLazy(int signum, BigInteger encoded) {
+			return new Binary128(signum, encoded);
+		}
+		
+		@Override
+		public Binary128 create(int signum, BigInteger significand, int exponent) {
+			return new Binary128(signum, significand, exponent);
+		}
+		
 	}
 	
 }
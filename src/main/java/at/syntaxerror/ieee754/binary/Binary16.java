@@ -23,9 +23,15 @@
 package at.syntaxerror.ieee754.binary;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+import java.util.Objects;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
+import lombok.NonNull;
 
 /**
  * This class implements the IEEE 754 binary16 floating point specification 
@@ -47,6 +53,9 @@ public final class Binary16 extends Binary<Binary16> {
 	public static final Binary16 MAX_VALUE = CODEC.getMaxValue();
 	public static final Binary16 MIN_VALUE = CODEC.getMinSubnormalValue();
 	public static final Binary16 MIN_NORMAL = CODEC.getMinValue();
+	
+	// number of values converted at once when converting buffers without accessible arrays
+	private static final int BUFFER_CHUNK = 4096;
 
 	private Binary16(int signum, BigDecimal value) {
 		super(signum, value);
@@ -56,13 +65,138 @@ public final class Binary16 extends Binary<Binary16> {
 		super(signum, type);
 	}
 
+	private Binary16(int signum, BigInteger encoded) {
+		super(signum, encoded);
+	}
+
+	private Binary16(int signum, BigInteger significand, int exponent) {
+		super(signum, significand, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public BinaryCodec<Binary16> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary64Factory implements FloatingFactory<Binary16> {
+	/**
+	 * Converts the {@code float}s into binary16 binary representations without creating any {@link Binary16} objects.
+	 * Values are always rounded to nearest (ties to even), regardless of the {@link at.syntaxerror.ieee754.rounding.Rounding#DEFAULT_ROUNDING default rounding mode}.
+	 * NaNs are converted into quiet NaNs, retaining their sign and the most significant bits of their payload.
+	 * <p>
+	 * If the module {@code jdk.incubator.vector} is available at runtime, the conversion is vectorized.
+	 * 
+	 * @param src the {@code float}s
+	 * @param srcOffset the index of the first {@code float}
+	 * @param dest the array where the binary representations are stored
+	 * @param destOffset the index where the first binary representation is stored
+	 * @param length the number of values
+	 */
+	public static void fromFloats(@NonNull float[] src, int srcOffset, @NonNull short[] dest, int destOffset, int length) {
+		Objects.checkFromIndexSize(srcOffset, length, src.length);
+		Objects.checkFromIndexSize(destOffset, length, dest.length);
+		
+		HalfPrecision.fromFloats(src, srcOffset, dest, destOffset, length);
+	}
+	
+	/**
+	 * Converts the binary16 binary representations into {@code float}s without creating any {@link Binary16} objects.
+	 * This conversion is always exact. NaNs are converted into quiet NaNs, retaining their sign and payload.
+	 * <p>
+	 * If the module {@code jdk.incubator.vector} is available at runtime, the conversion is vectorized.
+	 * 
+	 * @param src the binary representations
+	 * @param srcOffset the index of the first binary representation
+	 * @param dest the array where the {@code float}s are stored
+	 * @param destOffset the index where the first {@code float} is stored
+	 * @param length the number of values
+	 */
+	public static void toFloats(@NonNull short[] src, int srcOffset, @NonNull float[] dest, int destOffset, int length) {
+		Objects.checkFromIndexSize(srcOffset, length, src.length);
+		Objects.checkFromIndexSize(destOffset, length, dest.length);
+		
+		HalfPrecision.toFloats(src, srcOffset, dest, destOffset, length);
+	}
+	
+	/**
+	 * Converts the remaining {@code float}s of the source buffer into binary16 binary representations (see {@link #fromFloats(float[], int, short[], int, int)})
+	 * and stores them in the destination buffer. The positions of both buffers are incremented by the number of values.
+	 * 
+	 * @param src the {@code float}s
+	 * @param dest the buffer where the binary representations are stored
+	 * @throws BufferOverflowException if the destination buffer has fewer elements remaining than the source buffer
+	 */
+	public static void fromFloats(@NonNull FloatBuffer src, @NonNull ShortBuffer dest) {
+		int length = src.remaining();
+		
+		if(dest.remaining() < length)
+			throw new BufferOverflowException();
+		
+		if(src.hasArray() && dest.hasArray()) {
+			HalfPrecision.fromFloats(
+				src.array(), src.arrayOffset() + src.position(),
+				dest.array(), dest.arrayOffset() + dest.position(),
+				length
+			);
+			
+			src.position(src.position() + length);
+			dest.position(dest.position() + length);
+			return;
+		}
+		
+		// direct or read-only buffers, convert in chunks
+		float[] floats = new float[Math.min(length, BUFFER_CHUNK)];
+		short[] shorts = new short[floats.length];
+		
+		while(src.hasRemaining()) {
+			int n = Math.min(src.remaining(), floats.length);
+			
+			src.get(floats, 0, n);
+			HalfPrecision.fromFloats(floats, 0, shorts, 0, n);
+			dest.put(shorts, 0, n);
+		}
+	}
+	
+	/**
+	 * Converts the remaining binary16 binary representations of the source buffer into {@code float}s (see {@link #toFloats(short[], int, float[], int, int)})
+	 * and stores them in the destination buffer. The positions of both buffers are incremented by the number of values.
+	 * 
+	 * @param src the binary representations
+	 * @param dest the buffer where the {@code float}s are stored
+	 * @throws BufferOverflowException if the destination buffer has fewer elements remaining than the source buffer
+	 */
+	public static void toFloats(@NonNull ShortBuffer src, @NonNull FloatBuffer dest) {
+		int length = src.remaining();
+		
+		if(dest.remaining() < length)
+			throw new BufferOverflowException();
+		
+		if(src.hasArray() && dest.hasArray()) {
+			HalfPrecision.toFloats(
+				src.array(), src.arrayOffset() + src.position(),
+				dest.array(), dest.arrayOffset() + dest.position(),
+				length
+			);
+			
+			src.position(src.position() + length);
+			dest.position(dest.position() + length);
+			return;
+		}
+		
+		// direct or read-only buffers, convert in chunks
+		short[] shorts = new short[Math.min(length, BUFFER_CHUNK)];
+		float[] floats = new float[shorts.length];
+		
+		while(src.hasRemaining()) {
+			int n = Math.min(src.remaining(), shorts.length);
+			
+			src.get(shorts, 0, n);
+			HalfPrecision.toFloats(shorts, 0, floats, 0, n);
+			dest.put(floats, 0, n);
+		}
+	}
+	
+	private static class Binary64Factory implements BinaryFactory<Binary16> {
 		
 		@Override
 		public Binary16 create(int signum, BigDecimal value) {
@@ -74,6 +208,16 @@ public final class Binary16 extends Binary<Binary16> {
 			return new Binary16(signum, type);
 		}
 		
+		@Override
+		public Binary16 createLazy(int signum, BigInteger encoded) {
+			return new Binary16(signum, encoded);
+		}
+		
+		@Override
+		public Binary16 create(int signum, BigInteger significand, int exponent) {
+			return new Binary16(signum, significand, exponent);
+		}
+		
 	}
 	
 }
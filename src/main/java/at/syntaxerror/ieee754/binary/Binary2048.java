@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754.binary;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
@@ -58,13 +59,21 @@ public final class Binary2048 extends Binary<Binary2048> {
 		super(signum, type);
 	}
 
+	private Binary2048(int signum, BigInteger encoded) {
+		super(signum, encoded);
+	}
+
+	private Binary2048(int signum, BigInteger significand, int exponent) {
+		super(signum, significand, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public BinaryCodec<Binary2048> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary64Factory implements FloatingFactory<Binary2048> {
+	private static class Binary64Factory implements BinaryFactory<Binary2048> {
 		
 		@Override
 		public Binary2048 create(int signum, BigDecimal value) {
@@ -76,6 +85,16 @@ public final class Binary2048 extends Binary<Binary2048> {
 			return new Binary2048(signum, type);
 		}
 		
+		@Override
+		public Binary2048 createLazy(int signum, BigInteger encoded) {
+			return new Binary2048(signum, encoded);
+		}
+		
+		@Override
+		public Binary2048 create(int signum, BigInteger significand, int exponent) {
+			return new Binary2048(signum, significand, exponent);
+		}
+		
 	}
 	
 }
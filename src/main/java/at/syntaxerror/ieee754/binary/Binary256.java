@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754.binary;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
@@ -56,13 +57,21 @@ public final class Binary256 extends Binary<Binary256> {
 		super(signum, type);
 	}
 
+	private Binary256(int signum, BigInteger encoded) {
+		super(signum, encoded);
+	}
+
+	private Binary256(int signum, BigInteger significand, int exponent) {
+		super(signum, significand, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public BinaryCodec<Binary256> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary64Factory implements FloatingFactory<Binary256> {
+	private static class Binary64Factory implements BinaryFactory<Binary256> {
 		
 		@Override
 		public Binary256 create(int signum, BigDecimal value) {
@@ -74,6 +83,16 @@ public final class Binary256 extends Binary<Binary256> {
 			return new Binary256(signum, type);
 		}
 		
+		@Override
+		public Binary256 createLazy(int signum, BigInteger encoded) {
+			return new Binary256(signum, encoded);
+		}
+		
+		@Override
+		public Binary256 create(int signum, BigInteger significand, int exponent) {
+			return new Binary256(signum, significand, exponent);
+		}
+		
 	}
 	
 }
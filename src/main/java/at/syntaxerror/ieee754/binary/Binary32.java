@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754.binary;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
@@ -56,13 +57,21 @@ public final class Binary32 extends Binary<Binary32> {
 		super(signum, type);
 	}
 
+	private Binary32(int signum, BigInteger encoded) {
+		super(signum, encoded);
+	}
+
+	private Binary32(int signum, BigInteger significand, int exponent) {
+		super(signum, significand, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public BinaryCodec<Binary32> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary32Factory implements FloatingFactory<Binary32> {
+	private static class Binary32Factory implements BinaryFactory<Binary32> {
 		
 		@Override
 		public Binary32 create(int signum, BigDecimal value) {
@@ -74,6 +83,16 @@ public final class Binary32 extends Binary<Binary32> {
 			return new Binary32(signum, type);
 		}
 		
+		@Override
+		public Binary32 createLazy(int signum, BigInteger encoded) {
+			return new Binary32(signum, encoded);
+		}
+		
+		@Override
+		public Binary32 create(int signum, BigInteger significand, int exponent) {
+			return new Binary32(signum, significand, exponent);
+		}
+		
 	}
 	
 }
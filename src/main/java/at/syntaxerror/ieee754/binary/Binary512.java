@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754.binary;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
@@ -58,13 +59,21 @@ public final class Binary512 extends Binary<Binary512> {
 		super(signum, type);
 	}
 
+	private Binary512(int signum, BigInteger encoded) {
+		super(signum, encoded);
+	}
+
+	private Binary512(int signum, BigInteger significand, int exponent) {
+		super(signum, significand, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public BinaryCodec<Binary512> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary64Factory implements FloatingFactory<Binary512> {
+	private static class Binary64Factory implements BinaryFactory<Binary512> {
 		
 		@Override
 		public Binary512 create(int signum, BigDecimal value) {
@@ -76,6 +85,16 @@ public final class Binary512 extends Binary<Binary512> {
 			return new Binary512(signum, type);
 		}
 		
+		@Override
+		public Binary512 createLazy(int signum, BigInteger encoded) {
+			return new Binary512(signum, encoded);
+		}
+		
+		@Override
+		public Binary512 create(int signum, BigInteger significand, int exponent) {
+			return new Binary512(signum, significand, exponent);
+		}
+		
 	}
 	
 }
@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754.binary;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
@@ -56,13 +57,21 @@ public final class Binary64 extends Binary<Binary64> {
 		super(signum, type);
 	}
 
+	private Binary64(int signum, BigInteger encoded) {
+		super(signum, encoded);
+	}
+
+	private Binary64(int signum, BigInteger significand, int exponent) {
+		super(signum, significand, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public BinaryCodec<Binary64> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary64Factory implements FloatingFactory<Binary64> {
+	private static class Binary64Factory implements BinaryFactory<Binary64> {
 		
 		@Override
 		public Binary64 create(int signum, BigDecimal value) {
@@ -74,6 +83,16 @@ public final class Binary64 extends Binary<Binary64> {
 			return new Binary64(signum, type);
 		}
 		
+		@Override
+		public Binary64 createLazy(int signum, BigInteger encoded) {
+			return new Binary64(signum, encoded);
+		}
+		
+		@Override
+		public Binary64 create(int signum, BigInteger significand, int exponent) {
+			return new Binary64(signum, significand, exponent);
+		}
+		
 	}
 	
 }
@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754.binary;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
@@ -56,13 +57,21 @@ public final class Binary80 extends Binary<Binary80> {
 		super(signum, type);
 	}
 
+	private Binary80(int signum, BigInteger encoded) {
+		super(signum, encoded);
+	}
+
+	private Binary80(int signum, BigInteger significand, int exponent) {
+		super(signum, significand, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public BinaryCodec<Binary80> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary64Factory implements FloatingFactory<Binary80> {
+	private static class Binary64Factory implements BinaryFactory<Binary80> {
 		
 		@Override
 		public Binary80 create(int signum, BigDecimal value) {
@@ -74,6 +83,16 @@ public final class Binary80 extends Binary<Binary80> {
 			return new Binary80(signum, type);
 		}
 		
+		@Override
+		public Binary80 createLazy(int signum, BigInteger encoded) {
+			return new Binary80(signum, encoded);
+		}
+		
+		@Override
+		public Binary80 create(int signum, BigInteger significand, int exponent) {
+			return new Binary80(signum, significand, exponent);
+		}
+		
 	}
 	
 }
@@ -26,13 +26,16 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Supplier;
 
+import at.syntaxerror.ieee754.CodecOptions;
 import at.syntaxerror.ieee754.FloatingCodec;
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
+import at.syntaxerror.ieee754.StatusFlags;
+import at.syntaxerror.ieee754.internal.ParsedDecimal;
+import at.syntaxerror.ieee754.internal.Powers;
+import at.syntaxerror.ieee754.internal.UnsignedMath;
 import at.syntaxerror.ieee754.rounding.Rounding;
 import ch.obermuhlner.math.big.BigDecimalMath;
 import lombok.NonNull;
@@ -44,34 +47,44 @@ import lombok.NonNull;
  * @author Thomas Kasper
  * 
  */
-@SuppressWarnings("unchecked")
 public final class BinaryCodec<T extends Binary<T>> extends FloatingCodec<T> {
 
 	private static final MathContext FLOOR = new MathContext(0, RoundingMode.FLOOR);
 	private static final MathContext CONTEXT = new MathContext(800);
 	
+	// exact values of 2^-n have n decimal places, only feasible for formats with up to 19 exponent bits
+	private static final int MAX_EXACT_POW2 = 1 << 19;
+	
 	private static final BigDecimal TWO = BigDecimal.valueOf(2);
 	private static final BigDecimal LOG10_2 = BigDecimalMath.log10(TWO, new MathContext(604, RoundingMode.HALF_EVEN));
-
-	private static final int MEMOIZE_POS_INF = 0;
-	private static final int MEMOIZE_NEG_INF = 1;
-	private static final int MEMOIZE_SMINVAL = 2;
-	private static final int MEMOIZE_MIN_VAL = 3;
-	private static final int MEMOIZE_MAX_VAL = 4;
-	private static final int MEMOIZE_EPSILON = 5;
-	private static final int MEMOIZE_EXRANGE = 6;
-	private static final int MEMOIZE_EX10RNG = 7;
-	private static final int MEMOIZE_DECDIGS = 8;
-	private static final int MEMOIZE_POWEXP1 = 9;
-	private static final int MEMOIZE_POWMANT = 10;
 	
+	// log2(10), only used for estimates
+	private static final double LOG2_10 = Math.log(10) / Math.log(2);
+
 	private final int exponent;
 	private final int significand;
 	private final boolean implicit;
 	
 	private final FloatingFactory<T> factory;
 	
-	private final Map<Integer, Object> memoized = new HashMap<>();
+	private final LongBinaryEngine<T> longEngine;
+	private final Int128BinaryEngine<T> int128Engine;
+	
+	private final int bias;
+	
+	private final Map.Entry<Integer, Integer> exponentRange;
+	private final Map.Entry<Integer, Integer> exponentRange10;
+	
+	private final BigInteger positiveInfinity;
+	private final BigInteger negativeInfinity;
+	
+	private final T minSubnormalValue;
+	private final T minValue;
+	private final T maxValue;
+	
+	private final BigDecimal epsilon;
+	
+	private final int decimalDigits;
 	
 	/**
 	 * Creates a new binary codec
@@ -92,16 +105,89 @@ public final class BinaryCodec<T extends Binary<T>> extends FloatingCodec<T> {
 		this.implicit = implicit;
 		this.factory = factory;
 		
+		longEngine = LongBinaryEngine.isSupported(exponent, significand, implicit)
+			? new LongBinaryEngine<>(exponent, significand, implicit, factory)
+			: null;
+		
+		int128Engine = Int128BinaryEngine.isSupported(exponent, significand, implicit)
+			? new Int128BinaryEngine<>(exponent, significand, implicit, factory)
+			: null;
+		
+		// precompute constants, so that the codec can be shared between threads without synchronization
+		
+		bias = (1 << (exponent - 1)) - 1;
+		
+		exponentRange = Map.entry(
+			2 - bias,
+			(1 << exponent) - 1 - bias
+		);
+		
+		positiveInfinity = BigInteger.ZERO
+			.or(mask(exponent + getOffset()))
+			.shiftLeft(significand);
+		
+		negativeInfinity = BigInteger.ONE
+			.shiftLeft(exponent + getOffset())
+			.or(mask(exponent + getOffset()))
+			.shiftLeft(significand);
+		
+		// 2^(e_min - 1) * 2^-p 	[e_min < 0]
+		minSubnormalValue = create(factory, false, BigInteger.ONE, exponentRange.getKey() - 1 - significand);
+		
+		// 2^(e_min - 1) 	[e_min < 0]
+		minValue = create(factory, false, BigInteger.ONE, exponentRange.getKey() - 1);
+		
+		// (2 - 2^-p) * 2^e_max = (2^(p+1) - 1) * 2^(e_max - p) 	[e_max > 0]
+		maxValue = create(
+			factory,
+			false,
+			mask(significand + 1),
+			exponentRange.getValue() - 1 - significand
+		);
+		
 		initialize();
+		
+		epsilon = computeEpsilon();
+		exponentRange10 = compute10ExponentRange();
+		
+		// floor( (p - 1) * log10(b) )
+		decimalDigits = BigDecimal.valueOf(significand - 1 + getOffset())
+			.multiply(LOG10_2).round(FLOOR).intValue();
 	}
-
-	private <R> R memoize(int id, Supplier<R> generator) {
-		Object value = memoized.get(id);
+	
+	// creates a copy of the codec bound to the options, see withOptions
+	private BinaryCodec(BinaryCodec<T> codec, CodecOptions options) {
+		super(codec, options);
+		
+		exponent = codec.exponent;
+		significand = codec.significand;
+		implicit = codec.implicit;
+		factory = codec.factory;
+		
+		longEngine = codec.longEngine;
+		int128Engine = codec.int128Engine;
+		
+		bias = codec.bias;
+		
+		exponentRange = codec.exponentRange;
+		exponentRange10 = codec.exponentRange10;
 		
-		if(value == null)
-			memoized.put(id, value = generator.get());
+		positiveInfinity = codec.positiveInfinity;
+		negativeInfinity = codec.negativeInfinity;
 		
-		return (R) value;
+		minSubnormalValue = codec.minSubnormalValue;
+		minValue = codec.minValue;
+		maxValue = codec.maxValue;
+		
+		epsilon = codec.epsilon;
+		
+		decimalDigits = codec.decimalDigits;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public BinaryCodec<T> withOptions(@NonNull CodecOptions options) {
+		return new BinaryCodec<>(this, options);
 	}
 	
 	/**
@@ -131,13 +217,180 @@ public final class BinaryCodec<T extends Binary<T>> extends FloatingCodec<T> {
 		return implicit;
 	}
 	
+	/**
+	 * Returns whether the binary representation fits into a {@code long}
+	 * (i.e. {@code exponent + significand + 1 <= 64}, plus one bit if there is an explicit bit).
+	 * <p>If this is the case, {@link #encodeToLong(Binary)} and {@link #decodeLong(long)} can be used,
+	 * which only use primitive arithmetic for the majority of values
+	 * 
+	 * @return whether the binary representation fits into a {@code long}
+	 */
+	public boolean isLongSupported() {
+		return longEngine != null;
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation, which must fit into a {@code long}.
+	 * 
+	 * @param value the floating point number
+	 * @return the encoded binary representation
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public long encodeToLong(@NonNull T value) {
+		BigInteger lazy = getLazyBits(value);
+		
+		if(lazy != null)
+			return lazy.longValue();
+		
+		return requireLongEngine().encode(value, getOptions().rounding(), null);
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation, which must fit into a {@code long},
+	 * and raises the flags according to the result.
+	 * 
+	 * @param value the floating point number
+	 * @param flags the flags
+	 * @return the encoded binary representation
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public long encodeToLong(@NonNull T value, @NonNull StatusFlags flags) {
+		BigInteger lazy = getLazyBits(value);
+		
+		if(lazy != null)
+			return lazy.longValue();
+		
+		return requireLongEngine().encode(value, getOptions().rounding(), flags);
+	}
+	
+	/**
+	 * Decodes the floating point's binary representation, which must fit into a {@code long}.
+	 * 
+	 * @param value the binary representation
+	 * @return the decoded floating point number
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public T decodeLong(long value) {
+		return requireLongEngine().decode(value);
+	}
+	
+	private LongBinaryEngine<T> requireLongEngine() {
+		if(longEngine == null)
+			throw new UnsupportedOperationException("Binary representation does not fit into a long");
+		
+		return longEngine;
+	}
+	
+	/**
+	 * Parses the string (see {@link #parseBits(CharSequence)}) into its binary representation, which must fit into a {@code long}.
+	 * <p>When rounding to nearest (ties to even), most strings are converted using only primitive arithmetic.
+	 * 
+	 * @param text the string
+	 * @return the encoded binary representation
+	 * @throws NumberFormatException if the string is not a valid number
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public long parseToLong(@NonNull CharSequence text) {
+		return requireLongEngine().parse(ParsedDecimal.parse(text), text, getOptions().rounding());
+	}
+	
+	/**
+	 * Returns whether the binary representation fits into a pair of {@code long}s
+	 * (i.e. {@code exponent + significand + 1 <= 128}, plus one bit if there is an explicit bit).
+	 * <p>If this is the case, {@link #encodeTo(Binary, long[])} and {@link #decode(long, long)} can be used,
+	 * which only use primitive arithmetic for the majority of values
+	 * 
+	 * @return whether the binary representation fits into a pair of {@code long}s
+	 */
+	public boolean isLongPairSupported() {
+		return int128Engine != null;
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation, which must fit into a pair of {@code long}s.
+	 * <p>The high 64 bits are stored at index {@code 0}, the low 64 bits at index {@code 1}.
+	 * 
+	 * @param value the floating point number
+	 * @param hiLo the array (of at least length {@code 2}) where the binary representation is stored 
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a pair of {@code long}s
+	 * @see #isLongPairSupported()
+	 */
+	public void encodeTo(@NonNull T value, @NonNull long[] hiLo) {
+		if(hiLo.length < 2)
+			throw new IllegalArgumentException("Array is too small");
+		
+		Int128BinaryEngine<T> engine = requireInt128Engine();
+		BigInteger lazy = getLazyBits(value);
+		
+		if(lazy != null) {
+			hiLo[0] = lazy.shiftRight(64).longValue();
+			hiLo[1] = lazy.longValue();
+		}
+		
+		else engine.encode(value, getOptions().rounding(), null, hiLo);
+	}
+	
+	/**
+	 * Decodes the floating point's binary representation, which must fit into a pair of {@code long}s.
+	 * 
+	 * @param hi the high 64 bits of the binary representation
+	 * @param lo the low 64 bits of the binary representation
+	 * @return the decoded floating point number
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a pair of {@code long}s
+	 * @see #isLongPairSupported()
+	 */
+	public T decode(long hi, long lo) {
+		return requireInt128Engine().decode(hi, lo);
+	}
+	
+	private Int128BinaryEngine<T> requireInt128Engine() {
+		if(int128Engine == null)
+			throw new UnsupportedOperationException("Binary representation does not fit into a pair of longs");
+		
+		return int128Engine;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public BigInteger encode(T value) {
+		return encode(value, getOptions().rounding(), null);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public BigInteger encode(T value, @NonNull CodecOptions options, StatusFlags flags) {
+		return encode(value, options.rounding(), flags);
+	}
+	
+	private BigInteger encode(T value, Rounding rounding, StatusFlags flags) {
+		BigInteger lazy = getLazyBits(value);
+		
+		if(lazy != null)
+			return lazy;
+		
+		if(longEngine != null)
+			return UnsignedMath.toBigInteger(longEngine.encode(value, rounding, flags));
+		
+		if(int128Engine != null) {
+			long[] hiLo = new long[2];
+			
+			int128Engine.encode(value, rounding, flags, hiLo);
+			
+			return UnsignedMath.toBigInteger(hiLo[0], hiLo[1]);
+		}
+		
 		if(!value.isFinite()) {
 			
-			if(value.isSignalingNaN())
+			if(value.isSignalingNaN()) {
+				if(flags != null)
+					flags.raise(StatusFlags.INVALID);
+				
 				return getSignalingNaN(value.getSignum());
+			}
 			
 			if(value.isQuietNaN())
 				return getQuietNaN(value.getSignum());
@@ -154,174 +407,259 @@ public final class BinaryCodec<T extends Binary<T>> extends FloatingCodec<T> {
 		if(value.isZero())
 			return getZero(value.getSignum());
 		
-		BigDecimal bigdec = value.getBigDecimal();
+		BigInteger dyadic = value.getDyadicSignificand();
 		
-		// determine sign bit
-		int sign = bigdec.signum() == -1 ? 1 : 0;
+		if(dyadic != null)
+			return encode(value.isNegative(), dyadic, value.getDyadicExponent(), rounding, flags);
 		
-		bigdec = bigdec.abs();
+		return encode(value.isNegative(), value.getBigDecimal(), rounding, flags);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void encodeWords(boolean sign, BigDecimal value, CodecOptions options, StatusFlags flags, long[] words) {
+		Rounding rounding = options.rounding();
 		
-		// strip fractional part
-		BigInteger significand = bigdec.toBigInteger();
+		if(longEngine != null)
+			words[0] = longEngine.encode(sign, value, rounding, flags);
 		
-		// strip integer part
-		BigDecimal fraction = bigdec.subtract(new BigDecimal(significand))
-			.abs().stripTrailingZeros();
+		else if(int128Engine != null)
+			int128Engine.encode(sign, value, rounding, flags, words);
 		
-		// remove sign
-		significand = significand.abs();
-
-		// unbiased exponent, or -1 if exponent would be negative
-		int exp = significand.bitLength() - 1;
+		else UnsignedMath.toWords(encode(sign, value, rounding, flags), words);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void encodeWords(T value, CodecOptions options, StatusFlags flags, long[] words) {
+		Rounding rounding = options.rounding();
+		BigInteger lazy = getLazyBits(value);
 		
-		boolean negative = exp < 0;
+		if(lazy != null) {
+			if(longEngine != null)
+				words[0] = lazy.longValue();
+			
+			else UnsignedMath.toWords(lazy, words);
+		}
 		
-		int zeros = 0;
+		else if(longEngine != null)
+			words[0] = longEngine.encode(value, rounding, flags);
 		
-		final int off = getOffset();
-		final int eMin = getExponentRange().getKey();
+		else if(int128Engine != null)
+			int128Engine.encode(value, rounding, flags, words);
 		
-		boolean requireRounding = false;
-		boolean guard = false;
-		boolean round = false;
-		boolean sticky = false;
+		else UnsignedMath.toWords(encode(value, rounding, flags), words);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected T decodeWords(long[] words, int offset, CodecOptions options) {
+		if(longEngine != null)
+			return longEngine.decode(words[offset]);
 		
-		if(fraction.compareTo(BigDecimal.ZERO) != 0) {
-			// skip leading zeros. this heavily improves the performance for larger types
-			
-			zeros = BigDecimalMath.log2(
-				BigDecimalMath.reciprocal(fraction, CONTEXT),
-				CONTEXT
-			).setScale(0, RoundingMode.CEILING).intValue() - 1;
-			
-			fraction = fraction.multiply(pow2(zeros)).stripTrailingZeros();
-
-			significand = significand.shiftLeft(zeros);
-			
-			int bitCount = significand.bitLength();
-			int threshold = this.significand + off;
-			
-			if(zeros > -eMin)
-				bitCount += zeros + eMin;
-			
-			if(bitCount > threshold) {
-				requireRounding = true;
-				
-				fraction = fraction.multiply(BigDecimal.TWO);
-
-				round = fraction.intValue() != 0;
-				
-				if(round)
-					fraction = fraction.subtract(BigDecimal.ONE);
-				
-				sticky = fraction.compareTo(BigDecimal.ZERO) != 0;
-				
-				fraction = BigDecimal.ZERO;
-			}
-		}
+		if(int128Engine != null)
+			return int128Engine.decode(words[offset], words[offset + 1]);
 		
-		/* - left-shift the significand by 1
-		 * - multiply the fraction by two
-		 * - bit-or the significand with the integer part of result (0 or 1)
-		 * - remove the integer part from the result
-		 * - repeat until the fraction is zero, or all significand bits are used up
-		 * 
-		 * while(fraction != 0) {
-		 * 	   significand <<= 1;
-		 *     fraction *= 2;
-		 *     significand |= (int) fraction;
-		 *     fraction -= (int) fraction;
-		 * }
-		 */
-		while(fraction.compareTo(BigDecimal.ZERO) != 0) {
-			fraction = fraction.multiply(TWO);
-			
-			int integerPart = fraction.intValue();
-			int bitCount = significand.bitLength();
-			int significandLength = bitCount;
-			
-			// when there are more zeros than -e_min, the number is subnormal, and the leading zeros are part of the significand
-			if(zeros > -eMin)
-				significandLength += zeros + eMin;
-			
-			// max number of bits reached
-			if(significandLength > this.significand + off) {
-				requireRounding = true;
-				
-				guard = significand.testBit(0);
-				round = integerPart == 1;
-				sticky = fraction.compareTo(BigDecimal.ONE) != 0;
-				
-				break;
-			}
-
-			significand = significand.shiftLeft(1);
-
-			if(integerPart == 1) {
-				significand = significand.or(BigInteger.ONE);
-				fraction = fraction.subtract(BigDecimal.ONE);
-			}
-			else if(bitCount == 0)
-				++zeros;
+		return decode(UnsignedMath.toBigInteger(words, offset, getLongsPerValue()));
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected long encodeWord(T value, CodecOptions options) {
+		if(longEngine == null)
+			return super.encodeWord(value, options);
+		
+		BigInteger lazy = getLazyBits(value);
+		
+		return lazy != null
+			? lazy.longValue()
+			: longEngine.encode(value, options.rounding(), null);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected T decodeWords(long hi, long lo, CodecOptions options) {
+		if(longEngine != null)
+			return longEngine.decode(lo);
+		
+		if(int128Engine != null)
+			return int128Engine.decode(hi, lo);
+		
+		return super.decodeWords(hi, lo, options);
+	}
+	
+	/*
+	 * returns the binary representation a lazily decoded value was created from (which is exact, so the
+	 * rounding mode does not matter), or null if there is none or it was created by a codec of a different format
+	 */
+	private BigInteger getLazyBits(T value) {
+		BigInteger encoded = FloatingCodec.getLazyEncoding(value);
+		
+		if(encoded == null)
+			return null;
+		
+		return value.getCodec() == this || value.getCodec() instanceof BinaryCodec<?> codec
+			&& codec.exponent == exponent && codec.significand == significand && codec.implicit == implicit
+			? encoded
+			: null;
+	}
+	
+	// encodes the value (significand * 2^exponent) without any decimal arithmetic
+	private BigInteger encode(boolean sign, BigInteger significand, int exponent, Rounding rounding, StatusFlags flags) {
+		// exponent of the most significant bit
+		long msb = (long) significand.bitLength() - 1 + exponent;
+		
+		// value is too big, overflow without shifting the significand
+		if(msb > getBias() + 1)
+			return getOverflow(sign, rounding, flags);
+		
+		// value is way too small, round to either 0 or the smallest subnormal value
+		if(msb < -getBias() - this.significand - 2)
+			return getUnderflow(sign, rounding, flags);
+		
+		// precision (significand + 1 bits) plus round bit and one additional bit
+		return round(sign, dyadicWindow(significand, exponent, this.significand + 3), rounding, flags);
+	}
+	
+	private BigInteger encode(boolean sign, BigDecimal value, Rounding rounding, StatusFlags flags) {
+		BigInteger unscaled = value.unscaledValue().abs();
+		int scale = value.scale();
+		
+		// 10^(digits - 1) <= |value| < 10^digits
+		long digits = (long) value.precision() - scale;
+		
+		// value is way too big, overflow without computing the exact value
+		if((digits - 1) * LOG2_10 > getBias() + 2)
+			return getOverflow(sign, rounding, flags);
+		
+		// value is way too small, round to either 0 or the smallest subnormal value
+		if(digits * LOG2_10 < 1 - getBias() - significand - 2)
+			return getUnderflow(sign, rounding, flags);
+		
+		// precision (significand + 1 bits) plus round bit and one additional bit
+		return round(sign, window(unscaled, scale, significand + 3), rounding, flags);
+	}
+	
+	/* 
+	 * rounds the value (bits * 2^exponent) to the precision of the format.
+	 * the sticky flag indicates whether the value was inexact (i.e. whether there are
+	 * any non-zero bits following the least significant bit of 'bits').
+	 * if present, the flags are raised according to the result
+	 */
+	private BigInteger round(boolean sign, Window window, Rounding rounding, StatusFlags flags) {
+		BigInteger bits = window.bits();
+		boolean sticky = window.sticky();
+		
+		int bias = getBias();
+		
+		// unbiased exponent of the most significant bit
+		int msb = bits.bitLength() - 1 + window.exponent();
+		
+		// exponent of the least significant bit that can be stored
+		int ulp = Math.max(msb, 1 - bias) - significand;
+		
+		int drop = ulp - window.exponent();
+		
+		BigInteger result;
+		boolean round;
+		
+		if(drop <= 0) { // value is exact
+			result = bits.shiftLeft(-drop);
+			round = false;
+		}
+		else {
+			result = bits.shiftRight(drop);
+			round = bits.testBit(drop - 1);
+			sticky |= bits.getLowestSetBit() < drop - 1;
 		}
 		
-		if(requireRounding && Rounding.DEFAULT_ROUNDING.roundBinary(sign == -1, guard, round, sticky)) {
-			// round up
-			int bits = significand.bitLength();
-			
-			significand = significand.add(BigInteger.ONE);
+		boolean inexact = round || sticky;
+		
+		if(inexact && rounding.roundBinary(sign, result.testBit(0), round, sticky)) {
+			result = result.add(BigInteger.ONE);
 			
-			int newBits = significand.bitLength();
-
-			if(bits < newBits) { // overflow occured, adjust exponent
-				
-				if(newBits > this.significand + off)
-					significand = significand.clearBit(newBits - 1); // clear overflown bit
-				
-				++exp;
-				
-				// if exponent is all 1s now, return Infinity
-				if(exp == mask(this.exponent).intValue())
-					return sign == -1
-						? getNegativeInfinity()
-						: getPositiveInfinity();
+			// significand overflowed, adjust exponent
+			if(result.bitLength() > significand + 1) {
+				result = result.shiftRight(1);
+				++ulp;
 			}
 		}
 		
-		int len = significand.bitLength();
+		int biased = 0;
 		
-		// fix exponent if < 1
-		if(negative)
-			exp -= zeros;
+		if(result.testBit(significand)) // normalized
+			biased = ulp + significand + bias;
 		
-		if(exp < eMin) // subnormal
-			return len == 0
-				? getZero(sign)
-				: BigInteger.valueOf(sign)
-					.shiftLeft(this.exponent + this.significand + off)
-					.or(significand.shiftLeft(this.significand - eMin + exp - len + 2));
-
-		// clear most significant bit if number is implicit
-		if(implicit && len > 0)
-			significand = significand.clearBit(len - 1);
+		if(biased >= (1 << exponent) - 1) // overflow
+			return getOverflow(sign, rounding, flags);
+		
+		if(inexact && flags != null) // tiny if below the minimum normal value before rounding
+			flags.raise(msb < 1 - bias ? StatusFlags.UNDERFLOW | StatusFlags.INEXACT : StatusFlags.INEXACT);
+		
+		if(result.signum() == 0) // underflow
+			return getZero(sign ? -1 : +1);
+		
+		if(implicit)
+			result = result.clearBit(significand);
+		
+		return withSign(
+			sign ? -1 : +1,
+			BigInteger.valueOf(biased)
+				.shiftLeft(significand + getOffset())
+				.or(result)
+		);
+	}
+	
+	// returns either 0 or the minimum subnormal value, depending on the rounding mode
+	private BigInteger getUnderflow(boolean sign, Rounding rounding, StatusFlags flags) {
+		if(flags != null)
+			flags.raise(StatusFlags.UNDERFLOW | StatusFlags.INEXACT);
+		
+		return rounding.roundBinary(sign, false, false, true)
+			? withSign(sign ? -1 : +1, BigInteger.ONE)
+			: getZero(sign ? -1 : +1);
+	}
+	
+	// returns either infinity or the maximum value, depending on the rounding mode
+	private BigInteger getOverflow(boolean sign, Rounding rounding, StatusFlags flags) {
+		if(flags != null)
+			flags.raise(StatusFlags.OVERFLOW | StatusFlags.INEXACT);
+		
+		if(rounding.roundBinary(sign, true, true, true))
+			return sign
+				? getNegativeInfinity()
+				: getPositiveInfinity();
+		
+		return withSign(
+			sign ? -1 : +1,
+			BigInteger.valueOf((1 << exponent) - 2)
+				.shiftLeft(significand + getOffset())
+				.or(mask(significand + getOffset()))
+		);
+	}
 
-		BigInteger result = BigInteger.valueOf(sign) 
-			// add bias to exponent
-			.shiftLeft(this.exponent)
-			.or(BigInteger.valueOf(exp + getBias()))
-			// align significand to the left
-			.shiftLeft(this.significand + off)
-			.or(significand.shiftLeft(this.significand - len + 1));
+	/** {@inheritDoc} */
+	@Override
+	public T decodeLazy(BigInteger value) {
+		if(isInfinity(value) || isNaN(value))
+			return decode(value);
 		
-		if(!implicit)
-			result = result.or(BigInteger.ONE.shiftLeft(this.significand));
+		T lazy = factory.createLazy(isNegative(value) ? -1 : +1, value);
 		
-		return result;
+		return lazy == null
+			? decode(value)
+			: lazy;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public T decode(BigInteger value) {
+		if(longEngine != null)
+			return longEngine.decode(value.longValue());
+		
+		if(int128Engine != null)
+			return int128Engine.decode(value.shiftRight(64).longValue(), value.longValue());
+		
 		// extract sign (most significant bit)
 		boolean sign = isNegative(value);
 		
@@ -369,75 +707,307 @@ public final class BinaryCodec<T extends Binary<T>> extends FloatingCodec<T> {
 		// make exponent unbiased
 		else exponent -= bias;
 		
-		BigDecimal result = BigDecimal.ZERO;
+		if(implicit && !subnormal) // add implicit bit
+			significand = significand.setBit(this.significand);
+		
+		// value = significand * 2^(exponent - p)
+		int trailing = significand.getLowestSetBit();
+		
+		return create(
+			factory,
+			sign,
+			significand.shiftRight(trailing),
+			exponent - this.significand + trailing
+		);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public BigInteger parseBits(@NonNull CharSequence text) {
+		ParsedDecimal decimal = ParsedDecimal.parse(text);
+		Rounding rounding = getOptions().rounding();
+		
+		if(longEngine != null)
+			return UnsignedMath.toBigInteger(longEngine.parse(decimal, text, rounding));
+		
+		boolean sign = decimal.negative();
+		int signum = sign ? -1 : +1;
+		
+		if(decimal.type() == FloatingType.INFINITE)
+			return sign ? getNegativeInfinity() : getPositiveInfinity();
+		
+		if(decimal.type() == FloatingType.QUIET_NAN)
+			return getQuietNaN(signum);
+		
+		if(decimal.isZero())
+			return getZero(signum);
 		
-		if(implicit) { // add implicit bit, unless subnormal
-			if(!subnormal)
-				result = result.add(BigDecimal.ONE);
+		BigDecimal value = decimal.toBigDecimal(text, getMinParseExponent(bias, significand), getMaxParseExponent(bias));
+		
+		if(int128Engine != null) {
+			long[] hiLo = new long[2];
+			
+			int128Engine.encode(sign, value, rounding, null, hiLo);
+			
+			return UnsignedMath.toBigInteger(hiLo[0], hiLo[1]);
 		}
 		
-		else if(significand.testBit(this.significand)) // add explicit bit
-			result = result.add(BigDecimal.ONE);
+		return encode(sign, value, rounding, null);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public T parse(@NonNull CharSequence text) {
+		return longEngine != null
+			? longEngine.decode(parseToLong(text))
+			: decode(parseBits(text));
+	}
+	
+	// values below 10^n are less than half the smallest subnormal value (2^(1 - bias - p - 1))
+	static int getMinParseExponent(int bias, int significand) {
+		return (int) Math.floor(-(bias + significand) / LOG2_10) - 1;
+	}
+	
+	// values of at least 10^n are greater than 2^(bias + 1), which is greater than the maximum value
+	static int getMaxParseExponent(int bias) {
+		return (int) Math.ceil((bias + 1) / LOG2_10) + 1;
+	}
+	
+	/**
+	 * Formats the floating point number using the fewest decimal digits that are decoded back to the same binary representation
+	 * (when rounding to nearest, ties to even). If there are several such decimals, the one closest to the value is chosen.
+	 * <p>The result has the same format as {@link Double#toString(double)}; for binary32 and binary64, it is identical to
+	 * {@link Float#toString(float)} and {@link Double#toString(double)}, respectively.
+	 * If the value is not exactly representable, it is rounded according to the codec's {@link #getOptions() options} first.
+	 * 
+	 * @param value the floating point number
+	 * @return the shortest decimal representation
+	 */
+	public String format(@NonNull T value) {
+		if(value.isNaN())
+			return "NaN";
+		
+		if(value.isInfinity())
+			return value.isNegative() ? "-Infinity" : "Infinity";
+		
+		if(longEngine != null)
+			return longEngine.format(encodeToLong(value));
+		
+		BigInteger encoded = encode(value);
+		
+		boolean sign = isNegative(encoded);
+		
+		BigInteger significand = getFullSignificand(encoded);
+		int exponent = getExponent(encoded).intValue();
+		
+		if(exponent == mask(this.exponent).intValue()) // value was rounded to infinity
+			return sign ? "-Infinity" : "Infinity";
 		
-		for(int i = 0; i < this.significand; ++i)
-			if(significand.testBit(this.significand - i - 1)) // if bit is set, add appropriate fraction
-				result = result.add(pow2(-i - 1));
+		if(exponent == 0) // subnormal
+			exponent = 1;
 		
-		// scale according to exponent
-		result = result.multiply(pow2(exponent));
+		else if(implicit)
+			significand = significand.setBit(this.significand);
 		
-		if(sign) // add sign
-			result = result.negate();
+		if(significand.signum() == 0)
+			return sign ? "-0.0" : "0.0";
 		
-		return factory.create(sign ? -1 : +1, result);
+		// value = significand * 2^(exponent - bias - p)
+		return ShortestDecimal.format(
+			sign,
+			significand,
+			exponent - bias - this.significand,
+			this.significand + 1,
+			1 - bias - this.significand
+		);
 	}
 	
-	// create a bit mask with n bits set (e.g. n=4 returns 0b1111)
-	private BigInteger mask(int n) {
-		return BigInteger.ONE.shiftLeft(n).subtract(BigInteger.ONE);
+	/**
+	 * Formats the floating point number in hexadecimal notation (see {@link #formatHexBits(BigInteger)}).
+	 * If the value is not exactly representable, it is rounded according to the codec's {@link #getOptions() options} first.
+	 * 
+	 * @param value the floating point number
+	 * @return the hexadecimal representation
+	 */
+	public String formatHex(@NonNull T value) {
+		return HexFloat.format(this, encode(value));
 	}
-
-	// computes 2^n
-	private BigDecimal pow2(int n) {
-		if(n == 0)
-			return BigDecimal.ONE;
+	
+	/**
+	 * Formats the binary representation in hexadecimal notation, e.g. {@code 0x1.8p3} for {@code 12}.
+	 * <p>The result has the same format as {@link Double#toHexString(double)}; for binary32 and binary64, it is identical to
+	 * {@link Float#toHexString(float)} and {@link Double#toHexString(double)}, respectively. If there is an explicit bit, it is
+	 * used as the digit before the point (e.g. {@code 0x0.8p-16382} for a subnormal binary80 number), so that the
+	 * result is exact even for non-canonical encodings.
+	 * <p>NaNs are formatted as {@code NaN}, their sign and payload are not preserved.
+	 * 
+	 * @param value the binary representation
+	 * @return the hexadecimal representation
+	 */
+	public String formatHexBits(@NonNull BigInteger value) {
+		return HexFloat.format(this, value);
+	}
+	
+	/**
+	 * Parses the hexadecimal string and encodes its value into the binary representation, rounding it according
+	 * to the codec's {@link #getOptions() options} if it has more significant bits than the format.
+	 * <p>
+	 * The string must either consist of an optional sign, {@code 0x} or {@code 0X}, hexadecimal digits with an optional
+	 * point and a binary exponent (introduced by {@code p} or {@code P}, e.g. {@code -0x1.8p-3}), or be {@code Infinity} or
+	 * {@code NaN} (with an optional sign), which is parsed as a quiet NaN.
+	 * This is the format produced by {@link #formatHexBits(BigInteger)}, {@link Double#toHexString(double)} and C99's {@code %a}.
+	 * <p>No {@link BigDecimal} is created.
+	 * 
+	 * @param text the string
+	 * @return the encoded binary representation
+	 * @throws NumberFormatException if the string is not a valid hexadecimal number
+	 */
+	public BigInteger parseHexBits(@NonNull CharSequence text) {
+		return HexFloat.parse(this, text, getOptions().rounding());
+	}
+	
+	/**
+	 * Parses the hexadecimal string (see {@link #parseHexBits(CharSequence)}) and decodes the resulting binary representation
+	 * 
+	 * @param text the string
+	 * @return the floating point number
+	 * @throws NumberFormatException if the string is not a valid hexadecimal number
+	 */
+	public T parseHex(@NonNull CharSequence text) {
+		return decode(parseHexBits(text));
+	}
+	
+	/*
+	 * creates a new finite number with the value (+/-)significand * 2^exponent. the value is kept
+	 * in this form if supported by the factory, otherwise it is converted into a BigDecimal
+	 */
+	static <T extends Binary<T>> T create(FloatingFactory<T> factory, boolean sign, BigInteger significand, int exponent) {
+		int signum = sign ? -1 : +1;
 		
-		if(n < 0)
-			return BigDecimalMath.reciprocal(pow2(-n), CONTEXT);
+		if(factory instanceof BinaryFactory<T> binaryFactory)
+			return binaryFactory.create(signum, significand, exponent);
 		
-		return new BigDecimal(
-			BigInteger.ONE.shiftLeft(n),
-			0
-		).stripTrailingZeros();
+		BigDecimal value = toBigDecimal(significand, exponent);
+		
+		return factory.create(signum, sign ? value.negate() : value);
 	}
 	
-	// computes 2^(e_min-1)
-	private BigDecimal pow2exp1() {
-		return memoize(
-			MEMOIZE_POWEXP1,
-			() -> pow2(getExponentRange().getKey() - 1)
+	/*
+	 * computes significand * 2^exponent. the result is exact for exponent >= -MAX_EXACT_POW2,
+	 * otherwise it is rounded to 800 significant digits
+	 */
+	static BigDecimal toBigDecimal(BigInteger significand, int exponent) {
+		if(exponent >= 0)
+			return new BigDecimal(significand.shiftLeft(exponent));
+		
+		if(exponent < -MAX_EXACT_POW2)
+			return new BigDecimal(significand).multiply(
+				BigDecimalMath.reciprocal(new BigDecimal(BigInteger.ONE.shiftLeft(-exponent)), CONTEXT),
+				CONTEXT
+			);
+		
+		// significand * 2^-n = significand * 5^n * 10^-n
+		return new BigDecimal(
+			Powers.pow5(-exponent).multiply(significand),
+			-exponent
 		);
 	}
 	
-	// computes 2^-significand
-	private BigDecimal pow2mant() {
-		return memoize(
-			MEMOIZE_POWMANT,
-			() -> pow2(-significand)
+	/*
+	 * computes the (at most) n most significant bits of the value (significand * 2^exponent),
+	 * so that the value is (bits * 2^exponent'), plus a sticky flag for the discarded bits
+	 */
+	static Window dyadicWindow(BigInteger significand, int exponent, int n) {
+		int excess = significand.bitLength() - n;
+		
+		if(excess <= 0)
+			return new Window(significand, exponent, false);
+		
+		return new Window(
+			significand.shiftRight(excess),
+			exponent + excess,
+			significand.getLowestSetBit() < excess
 		);
 	}
 	
+	/*
+	 * computes the (at most) n most significant bits of the value (unscaled * 10^-scale),
+	 * so that the value is (bits * 2^exponent), plus a sticky flag for the discarded bits
+	 */
+	static Window window(BigInteger unscaled, int scale, int n) {
+		if(scale <= 0) {
+			BigInteger value = unscaled.multiply(Powers.pow10(-scale));
+			
+			int excess = value.bitLength() - n;
+			
+			if(excess <= 0)
+				return new Window(value, 0, false);
+			
+			return new Window(
+				value.shiftRight(excess),
+				excess,
+				value.getLowestSetBit() < excess
+			);
+		}
+		
+		BigInteger divisor = Powers.pow10(scale);
+		
+		// the quotient (unscaled * 2^shift / divisor) has n or n+1 bits
+		int shift = n - unscaled.bitLength() + divisor.bitLength();
+		
+		BigInteger[] quotient = shift < 0
+			? unscaled.divideAndRemainder(divisor.shiftLeft(-shift))
+			: unscaled.shiftLeft(shift).divideAndRemainder(divisor);
+		
+		BigInteger bits = quotient[0];
+		boolean sticky = quotient[1].signum() != 0;
+		
+		if(bits.bitLength() > n) {
+			sticky |= bits.testBit(0);
+			bits = bits.shiftRight(1);
+			--shift;
+		}
+		
+		return new Window(bits, -shift, sticky);
+	}
+	
+	// checks whether significand * 2^exponent is exactly representable, i.e. it is neither rounded, nor overflows or underflows
+	boolean isRepresentable(BigInteger significand, int exponent) {
+		if(significand.signum() == 0)
+			return true;
+		
+		// remove trailing zeros without shifting the significand
+		int trailing = significand.getLowestSetBit();
+		int bits = significand.bitLength() - trailing;
+		long lsb = (long) exponent + trailing;
+		
+		return bits <= this.significand + 1
+			&& lsb >= exponentRange.getKey() - 1 - this.significand
+			&& lsb + bits <= exponentRange.getValue();
+	}
+	
+	// create a bit mask with n bits set (e.g. n=4 returns 0b1111)
+	private BigInteger mask(int n) {
+		return BigInteger.ONE.shiftLeft(n).subtract(BigInteger.ONE);
+	}
+
 	private int getOffset() {
 		return implicit ? 0 : 1;
 	}
 	
+	/** {@inheritDoc} */
+	@Override
+	public int getWidth() {
+		return exponent + significand + getOffset() + 1;
+	}
+	
 	/**
 	 * Returns the exponent bias
 	 * 
 	 * @return the bias
 	 */
 	public int getBias() {
-		return (1 << (exponent - 1)) - 1;
+		return bias;
 	}
 
 	/**
@@ -503,6 +1073,18 @@ public final class BinaryCodec<T extends Binary<T>> extends FloatingCodec<T> {
 		return getSignificand(value).compareTo(BigInteger.ZERO) == 0;
 	}
 
+	/**
+	 * Checks whether the binary representation encodes {@code +0} or {@code -0}
+	 * (i.e. both the exponent and the significand, including the explicit bit, are {@code 0})
+	 * 
+	 * @param value the binary representation
+	 * @return whether the binary representation encodes {@code 0}
+	 */
+	public boolean isZero(BigInteger value) {
+		return getExponent(value).signum() == 0
+			&& getFullSignificand(value).signum() == 0;
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public boolean isPositiveInfinity(BigInteger value) {
@@ -518,24 +1100,13 @@ public final class BinaryCodec<T extends Binary<T>> extends FloatingCodec<T> {
 	/** {@inheritDoc} */
 	@Override
 	public BigInteger getPositiveInfinity() {
-		return memoize(
-			MEMOIZE_POS_INF,
-			() -> BigInteger.ZERO
-				.or(mask(exponent + getOffset()))
-				.shiftLeft(significand)
-		);
+		return positiveInfinity;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public BigInteger getNegativeInfinity() {
-		return memoize(
-			MEMOIZE_NEG_INF,
-			() -> BigInteger.ONE
-				.shiftLeft(exponent + getOffset())
-				.or(mask(exponent + getOffset()))
-				.shiftLeft(significand)
-		);
+		return negativeInfinity;
 	}
 
 	/** {@inheritDoc} */
@@ -564,31 +1135,43 @@ public final class BinaryCodec<T extends Binary<T>> extends FloatingCodec<T> {
 	/** {@inheritDoc} */
 	@Override
 	public BigInteger getQuietNaN(int signum) {
-		return BigInteger.ZERO
-			.or(mask(exponent + getOffset()))
-			.shiftLeft(1)
-			.or(BigInteger.ONE)
-			.shiftLeft(significand - 1)
-			.or(BigInteger.ONE)
-			.multiply(BigInteger.valueOf(signum));
+		return withSign(
+			signum,
+			BigInteger.ZERO
+				.or(mask(exponent + getOffset()))
+				.shiftLeft(1)
+				.or(BigInteger.ONE)
+				.shiftLeft(significand - 1)
+				.or(BigInteger.ONE)
+		);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public BigInteger getSignalingNaN(int signum) {
-		return BigInteger.ZERO
-			.or(mask(exponent + getOffset()))
-			.shiftLeft(significand)
-			.or(BigInteger.ONE)
-			.multiply(BigInteger.valueOf(signum));
+		return withSign(
+			signum,
+			BigInteger.ZERO
+				.or(mask(exponent + getOffset()))
+				.shiftLeft(significand)
+				.or(BigInteger.ONE)
+		);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public BigInteger getNaN(int signum) {
-		return BigInteger.ZERO
-			.or(mask(exponent + significand + getOffset()))
-			.multiply(BigInteger.valueOf(signum));
+		return withSign(
+			signum,
+			mask(exponent + significand + getOffset())
+		);
+	}
+	
+	// sets the sign bit if the signum is negative
+	private BigInteger withSign(int signum, BigInteger value) {
+		return signum == -1
+			? value.setBit(exponent + significand + getOffset())
+			: value;
 	}
 
 	/** {@inheritDoc} */
@@ -603,73 +1186,45 @@ public final class BinaryCodec<T extends Binary<T>> extends FloatingCodec<T> {
 	/** {@inheritDoc} */
 	@Override
 	public T getMinSubnormalValue() {
-		// 2^(e_min - 1) * 2^-p 	[e_min < 0]
-		return memoize(
-			MEMOIZE_SMINVAL,
-			() -> factory.create(1, pow2exp1().multiply(pow2mant()))
-		);
+		return minSubnormalValue;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public T getMinValue() {
-		// 2^(e_min - 1) 	[e_min < 0]
-		return memoize(
-			MEMOIZE_MIN_VAL,
-			() -> factory.create(pow2exp1())
-		);
+		return minValue;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public T getMaxValue() {
-		// (2 - 2^-p) * 2^e_max 	[e_max > 0]
-		return memoize(
-			MEMOIZE_MAX_VAL,
-			() -> factory.create(
-				1,
-				BigDecimal.TWO
-					.subtract(pow2mant())
-					.multiply(pow2(getExponentRange().getValue() - 1))
-			)
-		);
+		return maxValue;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public BigDecimal getEpsilon() {
-		return memoize(
-			MEMOIZE_EPSILON,
-			() -> {
-				BigInteger rawOne = BigInteger.ZERO
-					.or(mask(exponent - 1))
-					.shiftLeft(significand + getOffset());
-				
-				if(!implicit)
-					rawOne = rawOne.or(BigInteger.ONE.shiftLeft(significand - 1 + getOffset()));
-				
-				// smallest number greater than 1
-				BigDecimal one = decode(rawOne.or(BigInteger.ONE)).getBigDecimal();
-				
-				return one.subtract(BigDecimal.ONE);
-			}
-		);
+		return epsilon;
+	}
+	
+	private BigDecimal computeEpsilon() {
+		BigInteger rawOne = BigInteger.ZERO
+			.or(mask(exponent - 1))
+			.shiftLeft(significand + getOffset());
+		
+		if(!implicit)
+			rawOne = rawOne.or(BigInteger.ONE.shiftLeft(significand - 1 + getOffset()));
+		
+		// smallest number greater than 1
+		BigDecimal one = decode(rawOne.or(BigInteger.ONE)).getBigDecimal();
+		
+		return one.subtract(BigDecimal.ONE);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public Map.Entry<Integer, Integer> getExponentRange() {
-		return memoize(
-			MEMOIZE_EXRANGE,
-			() -> {
-				int bias = getBias();
-				
-				return Map.entry(
-					2 - bias,
-					(1 << exponent) - 1 - bias
-				);
-			}
-		);
+		return exponentRange;
 	}
 	
 	/**
@@ -678,17 +1233,16 @@ public final class BinaryCodec<T extends Binary<T>> extends FloatingCodec<T> {
 	 * @return the smallest and largest exponent
 	 */
 	public Map.Entry<Integer, Integer> get10ExponentRange() {
-		return memoize(
-			MEMOIZE_EX10RNG,
-			() -> {
-				BigDecimal min = getMinValue().getBigDecimal();
-				BigDecimal max = getMaxValue().getBigDecimal();
-				
-				return Map.entry(
-					min.precision() - min.scale() - 1, // ceil(log10(min))
-					max.precision() - max.scale() - 1  // floor(log10(max))
-				);
-			}
+		return exponentRange10;
+	}
+	
+	private Map.Entry<Integer, Integer> compute10ExponentRange() {
+		BigDecimal min = minValue.getBigDecimal();
+		BigDecimal max = maxValue.getBigDecimal();
+		
+		return Map.entry(
+			min.precision() - min.scale() - 1, // ceil(log10(min))
+			max.precision() - max.scale() - 1  // floor(log10(max))
 		);
 	}
 	
@@ -698,12 +1252,9 @@ public final class BinaryCodec<T extends Binary<T>> extends FloatingCodec<T> {
 	 * @return the number of decimal digits
 	 */
 	public int getDecimalDigits() {
-		// floor( (p - 1) * log10(b) )
-		return memoize(
-			MEMOIZE_DECDIGS,
-			() -> BigDecimal.valueOf(significand - 1 + getOffset())
-				.multiply(LOG10_2).round(FLOOR).intValue()
-		);
+		return decimalDigits;
 	}
 	
+	static record Window(BigInteger bits, int exponent, boolean sticky) { }
+	
 }
@@ -0,0 +1,49 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.binary;
+
+import java.math.BigInteger;
+
+import at.syntaxerror.ieee754.FloatingFactory;
+
+/**
+ * This class is used to create new {@link Binary} objects
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public interface BinaryFactory<T extends Binary<T>> extends FloatingFactory<T> {
+
+	/**
+	 * Creates a new finite {@link Binary} with the value {@code signum * significand * 2^exponent}
+	 * (see {@link Binary#Binary(int, BigInteger, int)}).
+	 * 
+	 * @param signum the signum (either -1 or 1)
+	 * @param significand the (non-negative) significand
+	 * @param exponent the binary exponent
+	 * @return the new Binary
+	 * @throws IllegalArgumentException if the value is not exactly representable by the format
+	 */
+	T create(int signum, BigInteger significand, int exponent);
+	
+}
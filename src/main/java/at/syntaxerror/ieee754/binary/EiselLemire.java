@@ -0,0 +1,206 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.binary;
+
+import java.math.BigInteger;
+
+import at.syntaxerror.ieee754.internal.Powers;
+
+/**
+ * This class implements the Eisel-Lemire algorithm for converting decimal numbers ({@code w * 10^q}, where {@code w} has at most 19 digits)
+ * into binary floating point numbers with an implicit bit and a precision of at most 53 bits, rounding to nearest (ties to even).
+ * <p>
+ * The decimal is multiplied by a 128-bit approximation of {@code 5^q}. In the rare cases where the approximation is not
+ * accurate enough to determine the correctly rounded result, the algorithm fails and the caller has to fall back to exact arithmetic.
+ * See Daniel Lemire, "Number Parsing at a Gigabyte per Second" (2021).
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class EiselLemire {
+	
+	static final long FAILED = -1;
+	
+	private static final int MIN_POWER = -342;
+	private static final int MAX_POWER = 308;
+	
+	// most significant 128 bits of 5^q (rounded up for q < 0), for MIN_POWER <= q <= MAX_POWER
+	private static final long[] POW5_HI = new long[MAX_POWER - MIN_POWER + 1];
+	private static final long[] POW5_LO = new long[MAX_POWER - MIN_POWER + 1];
+	
+	static {
+		BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+		
+		for(int q = MIN_POWER; q <= MAX_POWER; ++q) {
+			BigInteger pow = Powers.pow5(Math.abs(q));
+			BigInteger bits;
+			
+			if(q < 0) {
+				int z = pow.bitLength();
+				
+				// 2^b / 5^-q, so that the result has (at least) 128 bits
+				int b = q >= -27 ? z + 127 : 2 * z + 128;
+				
+				bits = BigInteger.ONE.shiftLeft(b).divide(pow).add(BigInteger.ONE);
+				bits = bits.shiftRight(Math.max(0, bits.bitLength() - 128));
+			}
+			else bits = pow.bitLength() < 128
+				? pow.shiftLeft(128 - pow.bitLength())
+				: pow.shiftRight(pow.bitLength() - 128);
+			
+			POW5_HI[q - MIN_POWER] = bits.shiftRight(64).longValue();
+			POW5_LO[q - MIN_POWER] = bits.and(mask).longValue();
+		}
+	}
+	
+	private final int significand;
+	private final int bias;
+	private final int maxExponent;	// biased exponent with all bits set
+	
+	// range of powers of 10 for which ties are possible in the range of normalized numbers
+	private final int minTiePower;
+	private final int maxTiePower;
+	
+	/**
+	 * @param significand the number of significand bits (excluding the implicit bit, at most {@code 52})
+	 * @param bias the exponent bias
+	 * @param maxExponent the biased exponent of infinity
+	 */
+	EiselLemire(int significand, int bias, int maxExponent) {
+		this.significand = significand;
+		this.bias = bias;
+		this.maxExponent = maxExponent;
+		
+		// -floor(log5(2^(63 - p))) and floor(log5(2^(p + 2)))
+		minTiePower = -log5(63 - significand);
+		maxTiePower = log5(significand + 2);
+	}
+	
+	// computes floor(log5(2^n))
+	private static int log5(int n) {
+		int result = 0;
+		
+		for(long pow = 5; pow <= 1L << n; pow *= 5)
+			++result;
+		
+		return result;
+	}
+	
+	/**
+	 * Converts the decimal {@code w * 10^q} into the binary representation (without sign).
+	 * If {@code truncated} is set, the decimal has further non-zero digits following {@code w}.
+	 * 
+	 * @param w the (unsigned) decimal significand
+	 * @param q the decimal exponent
+	 * @param truncated whether the decimal significand is truncated
+	 * @return the binary representation, or {@link #FAILED} if the result cannot be determined
+	 */
+	long convert(long w, long q, boolean truncated) {
+		long result = convert(w, q);
+		
+		// the exact value lies between w and w+1, succeed only if both round to the same value
+		if(truncated && result != FAILED && convert(w + 1, q) != result)
+			return FAILED;
+		
+		return result;
+	}
+	
+	private long convert(long w, long q) {
+		if(w == 0)
+			return 0;
+		
+		if(q < MIN_POWER || q > MAX_POWER)
+			return FAILED;
+		
+		int power = (int) q;
+		int index = power - MIN_POWER;
+		
+		int lz = Long.numberOfLeadingZeros(w);
+		w <<= lz;
+		
+		// compute the most significant bits of w * 5^q
+		long hi = Math.unsignedMultiplyHigh(w, POW5_HI[index]);
+		long lo = w * POW5_HI[index];
+		
+		long precisionMask = -1L >>> (significand + 3);
+		
+		if((hi & precisionMask) == precisionMask) { // the lower bits might affect the result, refine the product
+			long carry = Math.unsignedMultiplyHigh(w, POW5_LO[index]);
+			long merged = lo + carry;
+			
+			if(Long.compareUnsigned(merged, lo) < 0)
+				++hi;
+			
+			lo = merged;
+			
+			// the approximation of 5^q is only exact for -27 <= q <= 55
+			if(lo == -1 && (power < -27 || power > 55))
+				return FAILED;
+		}
+		
+		int upper = (int) (hi >>> 63);
+		int shift = upper + 64 - significand - 3;
+		
+		long mantissa = hi >>> shift;
+		
+		// floor(q * log2(10)) + 63 (valid for |q| < 1233) + normalization, biased
+		int exponent = (((152170 + 65536) * power) >> 16) + 63 + upper - lz + bias;
+		
+		if(exponent <= 0) { // subnormal
+			if(1 - exponent >= 64)
+				return 0;
+			
+			// ties are only impossible if 5^-q does not divide any 64-bit w
+			if(power >= -27)
+				return FAILED;
+			
+			mantissa >>>= 1 - exponent;
+			mantissa += mantissa & 1;
+			mantissa >>>= 1;
+			
+			// rounding might have produced the smallest normalized number
+			exponent = mantissa < 1L << significand ? 0 : 1;
+			
+			return ((long) exponent << significand) | (mantissa & ((1L << significand) - 1));
+		}
+		
+		// exactly halfway between two values, round to even
+		if(Long.compareUnsigned(lo, 1) <= 0 && power >= minTiePower && power <= maxTiePower
+			&& (mantissa & 3) == 1 && (mantissa << shift) == hi)
+			mantissa &= ~1L;
+		
+		mantissa += mantissa & 1;
+		mantissa >>>= 1;
+		
+		if(mantissa >= 2L << significand) { // significand overflowed
+			mantissa = 1L << significand;
+			++exponent;
+		}
+		
+		if(exponent >= maxExponent) // infinity
+			return (long) maxExponent << significand;
+		
+		return ((long) exponent << significand) | (mantissa & ((1L << significand) - 1));
+	}
+	
+}
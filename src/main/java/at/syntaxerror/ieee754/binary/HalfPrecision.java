@@ -0,0 +1,172 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.binary;
+
+import java.util.Optional;
+
+/**
+ * This class implements conversions between {@code float}s and the binary representation of {@link Binary16} numbers.
+ * <p>
+ * If the module {@code jdk.incubator.vector} is available at runtime (e.g. via {@code --add-modules jdk.incubator.vector}),
+ * array conversions are vectorized; otherwise, a scalar implementation is used.
+ * Both implementations produce identical results.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class HalfPrecision {
+	
+	private static final Vectors VECTORS = loadVectors();
+	
+	private HalfPrecision() { }
+	
+	/*
+	 * The vectorized implementation (HalfPrecisionVectors) is compiled separately (see pom.xml),
+	 * since compiling against the incubating module jdk.incubator.vector always emits a warning.
+	 * This module therefore does not require jdk.incubator.vector and has to read it explicitly.
+	 */
+	private static Vectors loadVectors() {
+		Optional<Module> module = ModuleLayer.boot().findModule("jdk.incubator.vector");
+		
+		if(module.isEmpty())
+			return null;
+		
+		try {
+			HalfPrecision.class.getModule().addReads(module.get());
+			
+			Vectors vectors = (Vectors) Class.forName(HalfPrecision.class.getPackageName() + ".HalfPrecisionVectors")
+				.getDeclaredConstructor()
+				.newInstance();
+			
+			return vectors.isSupported()
+				? vectors
+				: null;
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+	
+	static void fromFloats(float[] src, int srcOffset, short[] dest, int destOffset, int length) {
+		int i = VECTORS != null
+			? VECTORS.fromFloats(src, srcOffset, dest, destOffset, length)
+			: 0;
+		
+		for(; i < length; ++i)
+			dest[destOffset + i] = fromFloat(src[srcOffset + i]);
+	}
+	
+	static void toFloats(short[] src, int srcOffset, float[] dest, int destOffset, int length) {
+		int i = VECTORS != null
+			? VECTORS.toFloats(src, srcOffset, dest, destOffset, length)
+			: 0;
+		
+		for(; i < length; ++i)
+			dest[destOffset + i] = toFloat(src[srcOffset + i]);
+	}
+	
+	/*
+	 * converts the float into binary16, rounding to nearest (ties to even).
+	 * NaNs are converted into quiet NaNs, retaining the sign and the most significant bits of the payload
+	 */
+	static short fromFloat(float value) {
+		int bits = Float.floatToRawIntBits(value);
+		
+		int sign = (bits >>> 16) & 0x8000;
+		int abs = bits & 0x7FFFFFFF;
+		
+		if(abs > 0x7F800000) // NaN
+			return (short) (sign | 0x7E00 | ((abs >>> 13) & 0x3FF));
+		
+		if(abs >= 0x477FF000) // >= 65520 (incl. infinity), rounds to infinity
+			return (short) (sign | 0x7C00);
+		
+		if(abs >= 0x38800000) { // >= 2^-14, normalized
+			// adjust exponent bias (127 => 15)
+			int result = abs - 0x38000000;
+			
+			// round the 13 discarded bits
+			result += 0xFFF + ((result >>> 13) & 1);
+			
+			return (short) (sign | (result >>> 13));
+		}
+		
+		if(abs < 0x33000000) // < 2^-25, rounds to zero
+			return (short) sign;
+		
+		// subnormal: value = significand * 2^(exponent - 150) = (significand >> shift) * 2^-24
+		int exponent = abs >>> 23;
+		int significand = (abs & 0x7FFFFF) | 0x800000;
+		int shift = 126 - exponent;
+		
+		int result = significand >>> shift;
+		
+		int half = 1 << (shift - 1);
+		int rest = significand & ((half << 1) - 1);
+		
+		if(rest > half || (rest == half && (result & 1) != 0))
+			++result; // may overflow into the smallest normalized value, which is still correct
+		
+		return (short) (sign | result);
+	}
+	
+	/*
+	 * converts binary16 into a float. This conversion is always exact.
+	 * NaNs are converted into quiet NaNs, retaining the sign and the payload
+	 */
+	static float toFloat(short value) {
+		int bits = value & 0xFFFF;
+		
+		int sign = (bits & 0x8000) << 16;
+		int exponent = (bits >>> 10) & 0x1F;
+		int fraction = bits & 0x3FF;
+		
+		if(exponent == 0x1F) // infinity or (quiet) NaN
+			return Float.intBitsToFloat(sign | 0x7F800000 | (fraction << 13) | (fraction == 0 ? 0 : 0x400000));
+		
+		if(exponent != 0) // normalized, adjust exponent bias (15 => 127)
+			return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (fraction << 13));
+		
+		if(fraction == 0)
+			return Float.intBitsToFloat(sign);
+		
+		// subnormal: value = fraction * 2^-24, normalize
+		int msb = 31 - Integer.numberOfLeadingZeros(fraction);
+		
+		return Float.intBitsToFloat(sign | ((msb + 103) << 23) | ((fraction << (23 - msb)) & 0x7FFFFF));
+	}
+	
+	/*
+	 * vectorized array conversions, returning the number of converted values.
+	 * The remaining values must be converted by the caller
+	 */
+	interface Vectors {
+		
+		boolean isSupported();
+		
+		int fromFloats(float[] src, int srcOffset, short[] dest, int destOffset, int length);
+		
+		int toFloats(short[] src, int srcOffset, float[] dest, int destOffset, int length);
+		
+	}
+	
+}
@@ -0,0 +1,151 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.binary;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class implements vectorized conversions between {@code float}s and the binary representation of {@link Binary16} numbers.
+ * It must only be used if the module {@code jdk.incubator.vector} is available.
+ * <p>
+ * This class is compiled separately from the rest of the module (see {@code pom.xml}), so that only its
+ * compilation requires (and warns about) the incubating module. It is instantiated reflectively by {@link HalfPrecision}.
+ * <p>
+ * Only array-based loads and stores are used, since these are available in all versions of the incubator module.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class HalfPrecisionVectors implements HalfPrecision.Vectors {
+	
+	private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Float> FLOATS = VectorSpecies.of(float.class, INTS.vectorShape());
+	
+	// same number of lanes as INTS, but half the size
+	private static final VectorSpecies<Short> SHORTS = VectorSpecies.of(
+		short.class,
+		VectorShape.forBitSize(INTS.vectorBitSize() / 2)
+	);
+	
+	HalfPrecisionVectors() { }
+	
+	@Override
+	public boolean isSupported() {
+		// vectors with fewer than 4 lanes are unlikely to be faster than the scalar implementation
+		return INTS.length() >= 4;
+	}
+	
+	// returns the number of converted values, the remaining values must be converted by the caller
+	@Override
+	public int fromFloats(float[] src, int srcOffset, short[] dest, int destOffset, int length) {
+		int lanes = INTS.length();
+		int bound = length - length % lanes;
+		
+		FloatVector magic = FloatVector.broadcast(FLOATS, 0.5f);
+		
+		for(int i = 0; i < bound; i += lanes) {
+			FloatVector value = FloatVector.fromArray(FLOATS, src, srcOffset + i);
+			IntVector bits = value.reinterpretAsInts();
+			
+			IntVector sign = bits.lanewise(VectorOperators.LSHR, 16).and(0x8000);
+			IntVector abs = bits.and(0x7FFFFFFF);
+			
+			// normalized: adjust exponent bias and round the 13 discarded bits
+			IntVector result = abs.sub(0x38000000);
+			
+			result = result.add(0xFFF)
+				.add(result.lanewise(VectorOperators.LSHR, 13).and(1))
+				.lanewise(VectorOperators.LSHR, 13);
+			
+			// subnormal: adding 2^-1 rounds the value to a multiple of 2^-24 (using the floating point unit's ties to even)
+			IntVector subnormal = abs.reinterpretAsFloats()
+				.add(magic)
+				.reinterpretAsInts()
+				.sub(0x3F000000);
+			
+			result = result.blend(subnormal, abs.compare(VectorOperators.LT, 0x38800000));
+			
+			// overflow (incl. infinity)
+			result = result.blend(0x7C00, abs.compare(VectorOperators.GE, 0x477FF000));
+			
+			// NaN
+			VectorMask<Integer> nan = abs.compare(VectorOperators.GT, 0x7F800000);
+			
+			result = result.blend(abs.lanewise(VectorOperators.LSHR, 13).and(0x3FF).or(0x7E00), nan);
+			
+			((ShortVector) result.or(sign).castShape(SHORTS, 0)).intoArray(dest, destOffset + i);
+		}
+		
+		return bound;
+	}
+	
+	// returns the number of converted values, the remaining values must be converted by the caller
+	@Override
+	public int toFloats(short[] src, int srcOffset, float[] dest, int destOffset, int length) {
+		int lanes = INTS.length();
+		int bound = length - length % lanes;
+		
+		FloatVector magic = FloatVector.broadcast(FLOATS, 0x1p-14f);
+		
+		for(int i = 0; i < bound; i += lanes) {
+			IntVector bits = ((IntVector) ShortVector.fromArray(SHORTS, src, srcOffset + i).castShape(INTS, 0))
+				.and(0xFFFF);
+			
+			IntVector sign = bits.and(0x8000).lanewise(VectorOperators.LSHL, 16);
+			IntVector exponent = bits.and(0x7C00);
+			
+			// adjust exponent bias (15 => 127)
+			IntVector result = bits.and(0x7FFF)
+				.lanewise(VectorOperators.LSHL, 13)
+				.add(0x38000000);
+			
+			// infinity or NaN: maximum exponent
+			result = result.blend(result.add(0x38000000), exponent.compare(VectorOperators.EQ, 0x7C00));
+			
+			// NaN: set the quiet bit
+			result = result.blend(result.or(0x400000), bits.and(0x7FFF).compare(VectorOperators.GT, 0x7C00));
+			
+			// zero or subnormal: value = (2^-14 + fraction * 2^-24) - 2^-14, which is exact
+			VectorMask<Integer> subnormal = exponent.compare(VectorOperators.EQ, 0);
+			
+			IntVector normalized = result.add(0x00800000)
+				.reinterpretAsFloats()
+				.sub(magic)
+				.reinterpretAsInts();
+			
+			result.blend(normalized, subnormal)
+				.or(sign)
+				.reinterpretAsFloats()
+				.intoArray(dest, destOffset + i);
+		}
+		
+		return bound;
+	}
+	
+}
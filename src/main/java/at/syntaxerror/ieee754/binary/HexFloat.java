@@ -0,0 +1,301 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.binary;
+
+import java.math.BigInteger;
+
+import at.syntaxerror.ieee754.rounding.Rounding;
+
+/**
+ * This class implements the conversion between binary floating point numbers and the hexadecimal notation
+ * of C99 and {@link Double#toHexString(double)} (e.g. {@code 0x1.8p3} for {@code 12}).
+ * <p>
+ * Since every hexadecimal digit corresponds to exactly four bits, both directions only require shifting
+ * and masking the binary representation. When parsing, the significand is rounded according to the given
+ * rounding mode if it has more bits than the format's precision.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class HexFloat {
+	
+	// larger exponents cannot be represented by any format anyway
+	private static final long MAX_EXPONENT = 1L << 40;
+	
+	private HexFloat() { }
+	
+	/*
+	 * formats the binary representation like Double.toHexString: an optional minus sign, followed by "0x",
+	 * the leading bit (the implicit or explicit bit), the fraction in hexadecimal (padded to a multiple of
+	 * four bits, without trailing zeros) and the unbiased binary exponent in decimal. zeros are formatted as
+	 * "0x0.0p0", subnormal values use the minimum exponent. infinities and NaNs are formatted as "Infinity"
+	 * and "NaN", respectively
+	 */
+	static String format(BinaryCodec<?> codec, BigInteger value) {
+		int significand = codec.getSignificandBits();
+		int bias = codec.getBias();
+		
+		boolean sign = codec.isNegative(value);
+		int exponent = codec.getExponent(value).intValue();
+		BigInteger fraction = codec.getSignificand(value);
+		
+		if(exponent == (1 << codec.getExponentBits()) - 1) {
+			if(fraction.signum() != 0)
+				return "NaN";
+			
+			return sign ? "-Infinity" : "Infinity";
+		}
+		
+		boolean leading = codec.isImplicit()
+			? exponent != 0
+			: value.testBit(significand);
+		
+		StringBuilder sb = new StringBuilder();
+		
+		if(sign)
+			sb.append('-');
+		
+		if(!leading && fraction.signum() == 0)
+			return sb.append("0x0.0p0").toString();
+		
+		sb.append(leading ? "0x1." : "0x0.");
+		
+		// pad the fraction to a multiple of four bits
+		int pad = -significand & 3;
+		int digits = (significand + pad) >> 2;
+		
+		String hex = fraction.shiftLeft(pad).toString(16);
+		
+		// strip trailing zeros, but keep at least one digit
+		int end = hex.length();
+		
+		while(end > 1 && hex.charAt(end - 1) == '0')
+			--end;
+		
+		if(fraction.signum() == 0)
+			sb.append('0');
+		
+		else {
+			sb.append("0".repeat(digits - hex.length()));
+			sb.append(hex, 0, end);
+		}
+		
+		return sb.append('p')
+			.append(exponent == 0 ? 1 - bias : exponent - bias)
+			.toString();
+	}
+	
+	/*
+	 * parses the hexadecimal string (an optional sign, followed by "0x" or "0X", hexadecimal digits with
+	 * an optional point and a mandatory binary exponent introduced by 'p' or 'P'), or "Infinity" or "NaN"
+	 * (with an optional sign), and encodes the value, rounding it according to the rounding mode
+	 */
+	static BigInteger parse(BinaryCodec<?> codec, CharSequence text, Rounding rounding) {
+		int length = text.length();
+		int i = 0;
+		
+		boolean sign = false;
+		
+		if(length > 0 && (text.charAt(0) == '+' || text.charAt(0) == '-')) {
+			sign = text.charAt(0) == '-';
+			++i;
+		}
+		
+		int signum = sign ? -1 : +1;
+		
+		if(matches(text, i, "Infinity"))
+			return sign ? codec.getNegativeInfinity() : codec.getPositiveInfinity();
+		
+		if(matches(text, i, "NaN"))
+			return codec.getQuietNaN(signum);
+		
+		if(i + 1 >= length || text.charAt(i) != '0' || (text.charAt(i + 1) != 'x' && text.charAt(i + 1) != 'X'))
+			throw malformed(text);
+		
+		i += 2;
+		
+		int precision = codec.getSignificandBits() + 1;
+		
+		// keep enough digits for at least two more bits than the precision (the round bit and the sticky bit)
+		int maxDigits = (precision >> 2) + 3;
+		
+		StringBuilder digits = new StringBuilder(maxDigits);
+		
+		long exponent = 0;
+		boolean sticky = false;
+		
+		boolean point = false;
+		boolean empty = true;
+		
+		for(; i < length; ++i) {
+			char c = text.charAt(i);
+			
+			if(c == '.') {
+				if(point)
+					throw malformed(text);
+				
+				point = true;
+				continue;
+			}
+			
+			int digit = Character.digit(c, 16);
+			
+			if(digit < 0 || c > 'f') // only ASCII digits
+				break;
+			
+			empty = false;
+			
+			if(point)
+				exponent -= 4;
+			
+			if(digits.length() < maxDigits) {
+				if(digits.length() != 0 || digit != 0) // skip leading zeros
+					digits.append(c);
+			}
+			else { // drop the digit
+				exponent += 4;
+				sticky |= digit != 0;
+			}
+		}
+		
+		if(empty || i == length || (text.charAt(i) != 'p' && text.charAt(i) != 'P'))
+			throw malformed(text);
+		
+		++i;
+		
+		boolean negativeExponent = false;
+		
+		if(i < length && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+			negativeExponent = text.charAt(i) == '-';
+			++i;
+		}
+		
+		if(i == length)
+			throw malformed(text);
+		
+		long value = 0;
+		
+		for(; i < length; ++i) {
+			char c = text.charAt(i);
+			
+			if(c < '0' || c > '9')
+				throw malformed(text);
+			
+			if(value < MAX_EXPONENT)
+				value = value * 10 + (c - '0');
+		}
+		
+		if(digits.length() == 0)
+			return codec.getZero(signum);
+		
+		exponent += negativeExponent ? -value : value;
+		exponent = Math.max(-MAX_EXPONENT, Math.min(exponent, MAX_EXPONENT));
+		
+		return encode(codec, sign, new BigInteger(digits.toString(), 16), exponent, sticky, rounding);
+	}
+	
+	/*
+	 * encodes the non-zero value (significand * 2^exponent), rounding it to the precision of the format.
+	 * the sticky flag indicates whether there are any non-zero bits following the least significant bit of 'significand'
+	 */
+	private static BigInteger encode(BinaryCodec<?> codec, boolean sign, BigInteger significand, long exponent, boolean sticky,
+			Rounding rounding) {
+		int fraction = codec.getSignificandBits();
+		int precision = fraction + 1;
+		int bias = codec.getBias();
+		int maxExponent = (1 << codec.getExponentBits()) - 1;
+		
+		int length = significand.bitLength();
+		
+		// exponent of the least significant bit after rounding (the minimum exponent for subnormal values)
+		long ulp = Math.max(exponent + length - precision, 1 - bias - fraction);
+		long shift = ulp - exponent;
+		
+		BigInteger rounded;
+		boolean round;
+		
+		if(shift <= 0) { // exact
+			rounded = significand.shiftLeft((int) -shift);
+			round = false;
+		}
+		else if(shift > length) { // less than half the minimum subnormal value
+			rounded = BigInteger.ZERO;
+			round = false;
+			sticky = true;
+		}
+		else {
+			rounded = significand.shiftRight((int) shift);
+			round = significand.testBit((int) shift - 1);
+			sticky |= significand.getLowestSetBit() < shift - 1;
+		}
+		
+		if(rounding.roundBinary(sign, rounded.testBit(0), round, sticky)) {
+			rounded = rounded.add(BigInteger.ONE);
+			
+			if(rounded.bitLength() > precision) {
+				rounded = rounded.shiftRight(1);
+				++ulp;
+			}
+		}
+		
+		int signum = sign ? -1 : +1;
+		
+		if(rounded.signum() == 0) // underflow
+			return codec.getZero(signum);
+		
+		// subnormal values have the minimum exponent, which is encoded as 0
+		long biased = rounded.bitLength() == precision
+			? ulp + fraction + bias
+			: 0;
+		
+		if(biased >= maxExponent) { // overflow
+			if(rounding.roundBinary(sign, true, true, true))
+				return sign ? codec.getNegativeInfinity() : codec.getPositiveInfinity();
+			
+			// maximum value
+			rounded = BigInteger.ONE.shiftLeft(precision).subtract(BigInteger.ONE);
+			biased = maxExponent - 1;
+		}
+		
+		if(codec.isImplicit())
+			rounded = rounded.clearBit(fraction);
+		
+		BigInteger encoded = BigInteger.valueOf(biased)
+			.shiftLeft(codec.getWidth() - 1 - codec.getExponentBits())
+			.or(rounded);
+		
+		return sign
+			? encoded.setBit(codec.getWidth() - 1)
+			: encoded;
+	}
+	
+	private static boolean matches(CharSequence text, int offset, String expected) {
+		return text.length() - offset == expected.length()
+			&& expected.contentEquals(text.subSequence(offset, text.length()));
+	}
+	
+	private static NumberFormatException malformed(CharSequence text) {
+		return new NumberFormatException("Malformed hexadecimal number: " + text);
+	}
+	
+}
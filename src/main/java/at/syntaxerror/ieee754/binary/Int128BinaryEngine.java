@@ -0,0 +1,470 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.binary;
+
+import static at.syntaxerror.ieee754.internal.UnsignedMath.numberOfLeadingZeros;
+import static at.syntaxerror.ieee754.internal.UnsignedMath.numberOfTrailingZeros;
+import static at.syntaxerror.ieee754.internal.UnsignedMath.shiftLeftHigh;
+import static at.syntaxerror.ieee754.internal.UnsignedMath.shiftLeftLow;
+import static at.syntaxerror.ieee754.internal.UnsignedMath.shiftRightHigh;
+import static at.syntaxerror.ieee754.internal.UnsignedMath.shiftRightLow;
+import static at.syntaxerror.ieee754.internal.UnsignedMath.testLowBits;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import at.syntaxerror.ieee754.FloatingFactory;
+import at.syntaxerror.ieee754.FloatingType;
+import at.syntaxerror.ieee754.StatusFlags;
+import at.syntaxerror.ieee754.internal.UnsignedMath;
+import at.syntaxerror.ieee754.rounding.Rounding;
+
+/**
+ * This class implements encoding and decoding of IEEE 754 binary floating point numbers
+ * whose binary representation fits into 128 bits (stored as a pair of {@code long}s),
+ * using only primitive arithmetic for all but very large or very precise values.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class Int128BinaryEngine<T extends Binary<T>> {
+	
+	// 5^n for n = 0..27 (5^27 is the largest power of 5 below 2^63)
+	private static final long[] POW5 = new long[28];
+	
+	// the number of bits of 5^n
+	private static final int[] POW5_BITS = new int[POW5.length];
+	
+	// largest (absolute) decimal scale handled without BigInteger arithmetic
+	private static final int MAX_SCALE = 2 * (POW5.length - 1);
+	
+	static {
+		POW5[0] = 1;
+		
+		for(int i = 1; i < POW5.length; ++i)
+			POW5[i] = POW5[i - 1] * 5;
+		
+		for(int i = 0; i < POW5.length; ++i)
+			POW5_BITS[i] = 64 - Long.numberOfLeadingZeros(POW5[i]);
+	}
+	
+	private final int significand;
+	private final boolean implicit;
+	
+	private final FloatingFactory<T> factory;
+	
+	private final int bias;
+	private final int maxExponent;	// biased exponent with all bits set
+	private final int exponentShift;	// position of the exponent's least significant bit
+	private final int signShift;		// position of the sign bit
+	
+	Int128BinaryEngine(int exponent, int significand, boolean implicit, FloatingFactory<T> factory) {
+		this.significand = significand;
+		this.implicit = implicit;
+		this.factory = factory;
+		
+		int offset = implicit ? 0 : 1;
+		
+		bias = (1 << (exponent - 1)) - 1;
+		maxExponent = (1 << exponent) - 1;
+		exponentShift = significand + offset;
+		signShift = exponent + significand + offset;
+	}
+	
+	/**
+	 * Checks whether the binary representation of a codec fits into 128 bits
+	 * 
+	 * @param exponent the number of exponent bits
+	 * @param significand the number of significand bits
+	 * @param implicit whether there is an implicit bit
+	 * @return whether this engine supports the codec
+	 */
+	static boolean isSupported(int exponent, int significand, boolean implicit) {
+		return exponent + significand + (implicit ? 0 : 1) + 1 <= 128;
+	}
+	
+	void encode(T value, Rounding rounding, StatusFlags flags, long[] hiLo) {
+		boolean sign = value.isNegative();
+		
+		if(!value.isFinite()) {
+			
+			if(value.isSignalingNaN()) {
+				if(flags != null)
+					flags.raise(StatusFlags.INVALID);
+				
+				setNaN(sign, false, hiLo);
+			}
+			
+			else if(value.isQuietNaN())
+				setNaN(sign, true, hiLo);
+			
+			else setInfinity(sign, hiLo);
+			
+			return;
+		}
+		
+		if(value.isZero()) {
+			setZero(sign, hiLo);
+			return;
+		}
+		
+		BigInteger dyadic = value.getDyadicSignificand();
+		
+		if(dyadic != null) { // value = significand * 2^exponent
+			round(sign, BinaryCodec.dyadicWindow(dyadic, value.getDyadicExponent(), 128), rounding, flags, hiLo);
+			return;
+		}
+		
+		encode(sign, value.getBigDecimal(), rounding, flags, hiLo);
+	}
+	
+	// encodes the finite, non-zero value
+	void encode(boolean sign, BigDecimal bigdec, Rounding rounding, StatusFlags flags, long[] hiLo) {
+		BigInteger unscaled = bigdec.unscaledValue().abs();
+		int scale = bigdec.scale();
+		
+		// value = unscaled * 10^-scale
+		
+		if(unscaled.bitLength() <= 128 && scale >= -MAX_SCALE && scale <= MAX_SCALE) {
+			long[] limbs = new long[4]; // little endian
+			
+			limbs[0] = unscaled.longValue();
+			limbs[1] = unscaled.bitLength() > 64 ? unscaled.shiftRight(64).longValue() : 0;
+			
+			if(scale <= 0) {
+				// value = unscaled * 5^-scale * 2^-scale
+				for(int n = -scale; n > 0; n -= POW5.length - 1)
+					multiply(limbs, POW5[Math.min(n, POW5.length - 1)]);
+				
+				round(sign, limbs, -scale, false, rounding, flags, hiLo);
+				return;
+			}
+			
+			// value = unscaled / 5^scale * 2^-scale
+			
+			int first = Math.min(scale, POW5.length - 1);
+			int second = scale - first;
+			
+			int lz = numberOfLeadingZeros(limbs[1], limbs[0]);
+			
+			// shift the unscaled value, so that the quotient has at least 128 bits
+			int shift = lz + POW5_BITS[first] + POW5_BITS[second];
+			
+			shiftLeft(limbs, shift);
+			
+			boolean sticky = divide(limbs, POW5[first]);
+			
+			if(second != 0)
+				sticky |= divide(limbs, POW5[second]);
+			
+			round(sign, limbs, -scale - shift, sticky, rounding, flags, hiLo);
+			return;
+		}
+		
+		// fall back to BigInteger arithmetic
+		round(sign, BinaryCodec.window(unscaled, scale, 128), rounding, flags, hiLo);
+	}
+	
+	private void round(boolean sign, BinaryCodec.Window window, Rounding rounding, StatusFlags flags, long[] hiLo) {
+		BigInteger bits = window.bits();
+		
+		round(
+			sign,
+			bits.shiftRight(64).longValue(),
+			bits.longValue(),
+			window.exponent(),
+			window.sticky(),
+			rounding,
+			flags,
+			hiLo
+		);
+	}
+	
+	// multiplies the little endian number by the factor
+	private static void multiply(long[] limbs, long factor) {
+		long carry = 0;
+		
+		for(int i = 0; i < limbs.length; ++i) {
+			long lo = limbs[i] * factor;
+			long hi = Math.unsignedMultiplyHigh(limbs[i], factor);
+			
+			limbs[i] = lo + carry;
+			
+			if(Long.compareUnsigned(limbs[i], lo) < 0)
+				++hi;
+			
+			carry = hi;
+		}
+	}
+	
+	// divides the little endian number by the divisor, returns whether the remainder is non-zero
+	private static boolean divide(long[] limbs, long divisor) {
+		long remainder = 0;
+		
+		for(int i = limbs.length - 1; i >= 0; --i) {
+			long quotient = UnsignedMath.divide(remainder, limbs[i], divisor);
+			
+			remainder = limbs[i] - quotient * divisor;
+			limbs[i] = quotient;
+		}
+		
+		return remainder != 0;
+	}
+	
+	// shifts the little endian number to the left
+	private static void shiftLeft(long[] limbs, int n) {
+		int words = n >>> 6;
+		int bits = n & 63;
+		
+		for(int i = limbs.length - 1; i >= 0; --i) {
+			int src = i - words;
+			
+			long value = src >= 0 ? limbs[src] << bits : 0;
+			
+			if(bits != 0 && src > 0)
+				value |= limbs[src - 1] >>> (64 - bits);
+			
+			limbs[i] = value;
+		}
+	}
+	
+	// rounds the value (limbs * 2^exponent), taking the 128 most significant bits into account
+	private void round(boolean sign, long[] limbs, int exponent, boolean sticky, Rounding rounding, StatusFlags flags, long[] hiLo) {
+		int top = limbs.length - 1;
+		
+		while(limbs[top] == 0)
+			--top;
+		
+		if(top < 2) {
+			round(sign, limbs[1], limbs[0], exponent, sticky, rounding, flags, hiLo);
+			return;
+		}
+		
+		// number of bits that do not fit into 128 bits
+		int excess = 64 * (top - 1) - Long.numberOfLeadingZeros(limbs[top]);
+		
+		int words = excess >>> 6;
+		int bits = excess & 63;
+		
+		for(int i = 0; i < words; ++i)
+			sticky |= limbs[i] != 0;
+		
+		sticky |= (limbs[words] & ((1L << bits) - 1)) != 0;
+		
+		long lo = limbs[words] >>> bits;
+		long hi = limbs[words + 1] >>> bits;
+		
+		if(bits != 0) {
+			lo |= limbs[words + 1] << (64 - bits);
+			
+			if(words + 2 < limbs.length)
+				hi |= limbs[words + 2] << (64 - bits);
+		}
+		
+		round(sign, hi, lo, exponent + excess, sticky, rounding, flags, hiLo);
+	}
+	
+	/* 
+	 * rounds the value (hi:lo * 2^exponent) to the precision of the format.
+	 * the sticky flag indicates whether the value was inexact (i.e. whether there are
+	 * any non-zero bits following the least significant bit of 'hi:lo').
+	 * if present, the flags are raised according to the result
+	 */
+	private void round(boolean sign, long hi, long lo, int exponent, boolean sticky, Rounding rounding, StatusFlags flags, long[] hiLo) {
+		// unbiased exponent of the most significant bit
+		int msb = 127 - numberOfLeadingZeros(hi, lo) + exponent;
+		
+		// exponent of the least significant bit that can be stored
+		int ulp = Math.max(msb, 1 - bias) - significand;
+		
+		int drop = ulp - exponent;
+		
+		long resultHi;
+		long resultLo;
+		boolean round;
+		
+		if(drop <= 0) { // value is exact
+			resultHi = shiftLeftHigh(hi, lo, -drop);
+			resultLo = shiftLeftLow(hi, lo, -drop);
+			round = false;
+		}
+		else if(drop <= 128) {
+			resultHi = shiftRightHigh(hi, lo, drop);
+			resultLo = shiftRightLow(hi, lo, drop);
+			round = (shiftRightLow(hi, lo, drop - 1) & 1) != 0;
+			sticky |= testLowBits(hi, lo, drop - 1);
+		}
+		else {
+			resultHi = resultLo = 0;
+			round = false;
+			sticky = true;
+		}
+		
+		boolean inexact = round || sticky;
+		
+		if(inexact && rounding.roundBinary(sign, (resultLo & 1) != 0, round, sticky)) {
+			if(++resultLo == 0)
+				++resultHi;
+			
+			// significand overflowed, adjust exponent
+			if(shiftRightLow(resultHi, resultLo, significand + 1) != 0) {
+				resultLo = shiftRightLow(resultHi, resultLo, 1);
+				resultHi = shiftRightHigh(resultHi, resultLo, 1);
+				++ulp;
+			}
+		}
+		
+		int biased = 0;
+		
+		if(shiftRightLow(resultHi, resultLo, significand) != 0) // normalized
+			biased = ulp + significand + bias;
+		
+		if(biased >= maxExponent) { // overflow
+			if(flags != null)
+				flags.raise(StatusFlags.OVERFLOW | StatusFlags.INEXACT);
+			
+			if(rounding.roundBinary(sign, true, true, true))
+				setInfinity(sign, hiLo);
+			else setMaxValue(sign, hiLo);
+			
+			return;
+		}
+		
+		if(inexact && flags != null) // tiny if below the minimum normal value before rounding
+			flags.raise(msb < 1 - bias ? StatusFlags.UNDERFLOW | StatusFlags.INEXACT : StatusFlags.INEXACT);
+		
+		if(resultHi == 0 && resultLo == 0) { // underflow
+			setZero(sign, hiLo);
+			return;
+		}
+		
+		if(implicit) { // clear implicit bit
+			if(significand < 64)
+				resultLo &= ~(1L << significand);
+			else resultHi &= ~(1L << (significand - 64));
+		}
+		
+		hiLo[0] = resultHi | shiftLeftHigh(0, biased, exponentShift);
+		hiLo[1] = resultLo | shiftLeftLow(0, biased, exponentShift);
+		
+		setSign(sign, hiLo);
+	}
+	
+	T decode(long hi, long lo) {
+		boolean sign = (shiftRightLow(hi, lo, signShift) & 1) != 0;
+		int signum = sign ? -1 : +1;
+		
+		int exponent = (int) shiftRightLow(hi, lo, exponentShift) & maxExponent;
+		
+		// clear sign and exponent
+		long significandHi = exponentShift > 64
+			? hi & ((1L << (exponentShift - 64)) - 1)
+			: 0;
+		
+		long significandLo = exponentShift < 64
+			? lo & ((1L << exponentShift) - 1)
+			: lo;
+		
+		if(exponent == maxExponent) {
+			boolean zero = !testLowBits(significandHi, significandLo, significand);
+			
+			if(zero) // significand is zero => infinity
+				return factory.create(signum, FloatingType.INFINITE);
+			
+			return factory.create( // significand is not zero => NaN
+				signum,
+				(shiftRightLow(significandHi, significandLo, significand - 1) & 1) != 0
+					? FloatingType.QUIET_NAN	// MSB of significand is 1 => qNaN
+					: FloatingType.SIGNALING_NAN	// MSB of significand is 0 => sNaN
+			);
+		}
+		
+		if(exponent == 0) // subnormal: the implicit bit is 0 instead of 1
+			exponent = 1;
+		
+		else if(implicit) { // add implicit bit
+			if(significand < 64)
+				significandLo |= 1L << significand;
+			else significandHi |= 1L << (significand - 64);
+		}
+		
+		if(significandHi == 0 && significandLo == 0)
+			return factory.create(signum, BigDecimal.ZERO);
+		
+		// value = significand * 2^(exponent - bias - p)
+		int trailing = numberOfTrailingZeros(significandHi, significandLo);
+		
+		long sigLo = shiftRightLow(significandHi, significandLo, trailing);
+		long sigHi = shiftRightHigh(significandHi, significandLo, trailing);
+		
+		return BinaryCodec.create(
+			factory,
+			sign,
+			UnsignedMath.toBigInteger(sigHi, sigLo),
+			exponent - bias - significand + trailing
+		);
+	}
+	
+	private void setSign(boolean sign, long[] hiLo) {
+		if(!sign)
+			return;
+		
+		if(signShift < 64)
+			hiLo[1] |= 1L << signShift;
+		else hiLo[0] |= 1L << (signShift - 64);
+	}
+	
+	void setZero(boolean sign, long[] hiLo) {
+		hiLo[0] = hiLo[1] = 0;
+		setSign(sign, hiLo);
+	}
+	
+	void setInfinity(boolean sign, long[] hiLo) {
+		// exponent all 1s (plus explicit bit, if any), significand 0
+		long ones = implicit ? maxExponent : ((long) maxExponent << 1) | 1;
+		
+		hiLo[0] = shiftLeftHigh(0, ones, significand);
+		hiLo[1] = shiftLeftLow(0, ones, significand);
+		setSign(sign, hiLo);
+	}
+	
+	void setMaxValue(boolean sign, long[] hiLo) {
+		// biased exponent (all 1s - 1), followed by all 1s
+		hiLo[0] = shiftLeftHigh(0, maxExponent - 1, exponentShift) | shiftRightHigh(-1L, -1L, 128 - exponentShift);
+		hiLo[1] = shiftLeftLow(0, maxExponent - 1, exponentShift) | shiftRightLow(-1L, -1L, 128 - exponentShift);
+		setSign(sign, hiLo);
+	}
+	
+	void setNaN(boolean sign, boolean quiet, long[] hiLo) {
+		setInfinity(sign, hiLo);
+		
+		hiLo[1] |= 1; // make significand non-zero
+		
+		if(quiet) {
+			if(significand - 1 < 64)
+				hiLo[1] |= 1L << (significand - 1);
+			else hiLo[0] |= 1L << (significand - 65);
+		}
+	}
+	
+}
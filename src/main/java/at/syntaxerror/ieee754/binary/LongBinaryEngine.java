@@ -0,0 +1,466 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.binary;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import at.syntaxerror.ieee754.FloatingFactory;
+import at.syntaxerror.ieee754.FloatingType;
+import at.syntaxerror.ieee754.StatusFlags;
+import at.syntaxerror.ieee754.internal.ParsedDecimal;
+import at.syntaxerror.ieee754.internal.Powers;
+import at.syntaxerror.ieee754.internal.UnsignedMath;
+import at.syntaxerror.ieee754.rounding.Rounding;
+
+/**
+ * This class implements encoding and decoding of IEEE 754 binary floating point numbers
+ * whose binary representation fits into a {@code long}, using only primitive arithmetic
+ * for all but very large or very precise values.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class LongBinaryEngine<T extends Binary<T>> {
+
+	// 5^n for n = 0..27 (5^27 is the largest power of 5 below 2^63)
+	private static final long[] POW5 = new long[28];
+	
+	// exact powers of 10 for Clinger's fast path
+	private static final double[] POW10_DOUBLE = new double[23];
+	private static final float[] POW10_FLOAT = new float[11];
+	
+	static {
+		POW5[0] = 1;
+		
+		for(int i = 1; i < POW5.length; ++i)
+			POW5[i] = POW5[i - 1] * 5;
+		
+		for(int i = 0; i < POW10_DOUBLE.length; ++i)
+			POW10_DOUBLE[i] = Double.parseDouble("1e" + i);
+		
+		for(int i = 0; i < POW10_FLOAT.length; ++i)
+			POW10_FLOAT[i] = (float) POW10_DOUBLE[i];
+	}
+	
+	private final int significand;
+	private final boolean implicit;
+	
+	private final FloatingFactory<T> factory;
+	
+	private final int bias;
+	private final int maxExponent;	// biased exponent with all bits set
+	private final int exponentShift;	// position of the exponent's least significant bit
+	private final int signShift;		// position of the sign bit
+	
+	private final long exponentMask;
+	private final long fractionMask;	// significand without explicit bit
+	private final long significandMask;	// significand including explicit bit (if any)
+	private final long explicitBit;
+	
+	// whether the format is binary32 or binary64, whose shortest formatting is implemented by Float and Double
+	private final boolean binary32;
+	private final boolean binary64;
+	
+	private final EiselLemire eiselLemire; // null if the format is not supported
+	
+	// decimal exponents of values that certainly underflow or overflow, see ParsedDecimal#toBigDecimal
+	private final int minParseExponent;
+	private final int maxParseExponent;
+	
+	LongBinaryEngine(int exponent, int significand, boolean implicit, FloatingFactory<T> factory) {
+		this.significand = significand;
+		this.implicit = implicit;
+		this.factory = factory;
+		
+		int offset = implicit ? 0 : 1;
+		
+		bias = (1 << (exponent - 1)) - 1;
+		maxExponent = (1 << exponent) - 1;
+		exponentShift = significand + offset;
+		signShift = exponent + significand + offset;
+		
+		exponentMask = (1L << exponent) - 1;
+		fractionMask = (1L << significand) - 1;
+		significandMask = (1L << exponentShift) - 1;
+		explicitBit = implicit ? 0 : 1L << significand;
+		
+		binary32 = exponent == 8 && significand == 23 && implicit;
+		binary64 = exponent == 11 && significand == 52 && implicit;
+		
+		eiselLemire = implicit && significand <= 52
+			? new EiselLemire(significand, bias, maxExponent)
+			: null;
+		
+		minParseExponent = BinaryCodec.getMinParseExponent(bias, significand);
+		maxParseExponent = BinaryCodec.getMaxParseExponent(bias);
+	}
+	
+	/**
+	 * Checks whether the binary representation of a codec fits into a {@code long}
+	 * 
+	 * @param exponent the number of exponent bits
+	 * @param significand the number of significand bits
+	 * @param implicit whether there is an implicit bit
+	 * @return whether this engine supports the codec
+	 */
+	static boolean isSupported(int exponent, int significand, boolean implicit) {
+		return exponent + significand + (implicit ? 0 : 1) + 1 <= 64;
+	}
+	
+	long encode(T value, Rounding rounding, StatusFlags flags) {
+		boolean sign = value.isNegative();
+		
+		if(!value.isFinite()) {
+			
+			if(value.isSignalingNaN()) {
+				if(flags != null)
+					flags.raise(StatusFlags.INVALID);
+				
+				return getSignalingNaN(sign);
+			}
+			
+			if(value.isQuietNaN())
+				return getQuietNaN(sign);
+			
+			return getInfinity(sign);
+		}
+		
+		if(value.isZero())
+			return getZero(sign);
+		
+		BigInteger dyadic = value.getDyadicSignificand();
+		
+		if(dyadic != null) // value = significand * 2^exponent
+			return round(sign, BinaryCodec.dyadicWindow(dyadic, value.getDyadicExponent(), 64), rounding, flags);
+		
+		return encode(sign, value.getBigDecimal(), rounding, flags);
+	}
+	
+	// encodes the finite, non-zero value
+	long encode(boolean sign, BigDecimal bigdec, Rounding rounding, StatusFlags flags) {
+		BigInteger unscaled = bigdec.unscaledValue().abs();
+		int scale = bigdec.scale();
+		
+		// value = unscaled * 10^-scale
+		
+		if(unscaled.bitLength() < 64) {
+			long digits = unscaled.longValue();
+			
+			if(scale <= 0) {
+				// value = unscaled * 5^-scale * 2^-scale
+				if(-scale < POW5.length) {
+					long pow = POW5[-scale];
+					
+					if(Math.multiplyHigh(digits, pow) == 0)
+						return round(sign, digits * pow, -scale, false, rounding, flags);
+				}
+			}
+			
+			else if(scale < POW5.length) {
+				// value = unscaled / 5^scale * 2^-scale
+				long pow = POW5[scale];
+				
+				int shift = Long.numberOfLeadingZeros(digits) - Long.numberOfLeadingZeros(pow) + 63;
+				
+				// (unscaled << shift) has exactly 63 + bitLength(pow) bits, so the quotient has 63 or 64 bits
+				long hi = shift < 64
+					? digits >>> (64 - shift)
+					: digits << (shift - 64);
+
+				long lo = shift < 64
+					? digits << shift
+					: 0;
+				
+				long quotient = UnsignedMath.divide(hi, lo, pow);
+				
+				return round(sign, quotient, -scale - shift, lo - quotient * pow != 0, rounding, flags);
+			}
+		}
+		
+		// fall back to BigInteger arithmetic
+		return round(sign, BinaryCodec.window(unscaled, scale, 64), rounding, flags);
+	}
+	
+	private long round(boolean sign, BinaryCodec.Window window, Rounding rounding, StatusFlags flags) {
+		return round(sign, window.bits().longValue(), window.exponent(), window.sticky(), rounding, flags);
+	}
+	
+	/* 
+	 * rounds the value (bits * 2^exponent) to the precision of the format.
+	 * the sticky flag indicates whether the value was inexact (i.e. whether there are
+	 * any non-zero bits following the least significant bit of 'bits').
+	 * if present, the flags are raised according to the result
+	 */
+	private long round(boolean sign, long bits, int exponent, boolean sticky, Rounding rounding, StatusFlags flags) {
+		// unbiased exponent of the most significant bit
+		int msb = 63 - Long.numberOfLeadingZeros(bits) + exponent;
+		
+		// exponent of the least significant bit that can be stored
+		int ulp = Math.max(msb, 1 - bias) - significand;
+		
+		int drop = ulp - exponent;
+		
+		long result;
+		boolean round;
+		
+		if(drop <= 0) { // value is exact
+			result = bits << -drop;
+			round = false;
+		}
+		else if(drop < 64) {
+			result = bits >>> drop;
+			round = ((bits >>> (drop - 1)) & 1) != 0;
+			sticky |= (bits & ((1L << (drop - 1)) - 1)) != 0;
+		}
+		else {
+			result = 0;
+			round = drop == 64 && bits < 0;
+			sticky |= drop != 64 || (bits << 1) != 0;
+		}
+		
+		boolean inexact = round || sticky;
+		
+		if(inexact && rounding.roundBinary(sign, (result & 1) != 0, round, sticky)) {
+			++result;
+			
+			// significand overflowed, adjust exponent
+			if(result == 1L << (significand + 1)) {
+				result >>>= 1;
+				++ulp;
+			}
+		}
+		
+		int biased = 0;
+		
+		if((result >>> significand) != 0) // normalized
+			biased = ulp + significand + bias;
+		
+		if(biased >= maxExponent) { // overflow
+			if(flags != null)
+				flags.raise(StatusFlags.OVERFLOW | StatusFlags.INEXACT);
+			
+			return rounding.roundBinary(sign, true, true, true)
+				? getInfinity(sign)
+				: getMaxValue(sign);
+		}
+		
+		if(inexact && flags != null) // tiny if below the minimum normal value before rounding
+			flags.raise(msb < 1 - bias ? StatusFlags.UNDERFLOW | StatusFlags.INEXACT : StatusFlags.INEXACT);
+		
+		if(result == 0) // underflow
+			return getZero(sign);
+		
+		if(implicit)
+			result &= fractionMask;
+		
+		return signBit(sign) | ((long) biased << exponentShift) | result;
+	}
+	
+	T decode(long value) {
+		boolean sign = ((value >>> signShift) & 1) != 0;
+		int signum = sign ? -1 : +1;
+		
+		int exponent = (int) ((value >>> exponentShift) & exponentMask);
+		long significand = value & significandMask;
+		
+		if(exponent == maxExponent) {
+			long fraction = significand & fractionMask;
+			
+			if(fraction == 0) // significand is zero => infinity
+				return factory.create(signum, FloatingType.INFINITE);
+			
+			return factory.create( // significand is not zero => NaN
+				signum,
+				((fraction >>> (this.significand - 1)) & 1) != 0
+					? FloatingType.QUIET_NAN	// MSB of significand is 1 => qNaN
+					: FloatingType.SIGNALING_NAN	// MSB of significand is 0 => sNaN
+			);
+		}
+		
+		if(exponent == 0) // subnormal: the implicit bit is 0 instead of 1
+			exponent = 1;
+		
+		else if(implicit) // add implicit bit
+			significand |= 1L << this.significand;
+		
+		if(significand == 0)
+			return factory.create(signum, BigDecimal.ZERO);
+		
+		// value = significand * 2^(exponent - bias - p)
+		int trailing = Long.numberOfTrailingZeros(significand);
+		
+		significand >>>= trailing;
+		
+		if(factory instanceof BinaryFactory<T> binaryFactory)
+			return binaryFactory.create(signum, BigInteger.valueOf(significand), exponent - bias - this.significand + trailing);
+		
+		BigDecimal result = toBigDecimal(significand, exponent - bias - this.significand + trailing);
+		
+		if(sign)
+			result = result.negate();
+		
+		return factory.create(signum, result);
+	}
+	
+	/*
+	 * encodes the parsed decimal string. when rounding to nearest (ties to even), the Eisel-Lemire algorithm
+	 * (and, for binary32 and binary64, Clinger's fast path) is used for most values, other values are converted exactly
+	 */
+	long parse(ParsedDecimal decimal, CharSequence text, Rounding rounding) {
+		boolean sign = decimal.negative();
+		
+		if(decimal.type() == FloatingType.INFINITE)
+			return getInfinity(sign);
+		
+		if(decimal.type() == FloatingType.QUIET_NAN)
+			return getQuietNaN(sign);
+		
+		if(decimal.isZero())
+			return getZero(sign);
+		
+		if(rounding == Rounding.TIES_EVEN) {
+			long w = decimal.significand();
+			long q = decimal.exponent();
+			
+			// Clinger's fast path: both the significand and the power of 10 are exact, so only the result is rounded
+			if(!decimal.truncated() && w >= 0 && Math.abs(q) < POW10_DOUBLE.length) {
+				
+				if(binary64 && w <= 1L << 53)
+					return signBit(sign) | Double.doubleToRawLongBits(
+						q < 0
+							? w / POW10_DOUBLE[(int) -q]
+							: w * POW10_DOUBLE[(int) q]
+					);
+				
+				if(binary32 && w <= 1L << 24 && Math.abs(q) < POW10_FLOAT.length)
+					return signBit(sign) | Float.floatToRawIntBits(
+						q < 0
+							? w / POW10_FLOAT[(int) -q]
+							: w * POW10_FLOAT[(int) q]
+					);
+			}
+			
+			if(eiselLemire != null) {
+				long result = eiselLemire.convert(w, q, decimal.truncated());
+				
+				if(result != EiselLemire.FAILED)
+					return signBit(sign) | result;
+			}
+		}
+		
+		return encode(sign, decimal.toBigDecimal(text, minParseExponent, maxParseExponent), rounding, null);
+	}
+	
+	/*
+	 * formats the value using the fewest decimal digits that are rounded back to the same binary representation,
+	 * see ShortestDecimal
+	 */
+	String format(long value) {
+		if(binary32)
+			return Float.toString(Float.intBitsToFloat((int) value));
+		
+		if(binary64)
+			return Double.toString(Double.longBitsToDouble(value));
+		
+		boolean sign = ((value >>> signShift) & 1) != 0;
+		
+		int exponent = (int) ((value >>> exponentShift) & exponentMask);
+		long significand = value & significandMask;
+		
+		if(exponent == maxExponent)
+			return (significand & fractionMask) == 0
+				? (sign ? "-Infinity" : "Infinity")
+				: "NaN";
+		
+		if(exponent == 0)
+			exponent = 1;
+		
+		else if(implicit)
+			significand |= 1L << this.significand;
+		
+		if(significand == 0)
+			return sign ? "-0.0" : "0.0";
+		
+		int precision = this.significand + 1;
+		int minExponent = 1 - bias - this.significand;
+		
+		// value = significand * 2^(exponent - bias - p)
+		exponent -= bias + this.significand;
+		
+		if(ShortestDecimal.isLongSupported(precision, minExponent, maxExponent - 1 - bias - this.significand))
+			return ShortestDecimal.format(sign, significand, exponent, precision, minExponent);
+		
+		return ShortestDecimal.format(sign, BigInteger.valueOf(significand), exponent, precision, minExponent);
+	}
+	
+	// computes significand * 2^exponent
+	private static BigDecimal toBigDecimal(long significand, int exponent) {
+		if(exponent >= 0) {
+			if(exponent < Long.numberOfLeadingZeros(significand))
+				return BigDecimal.valueOf(significand << exponent);
+			
+			return new BigDecimal(BigInteger.valueOf(significand).shiftLeft(exponent));
+		}
+		
+		// significand * 2^-n = significand * 5^n * 10^-n
+		int n = -exponent;
+		
+		if(n < POW5.length && Math.multiplyHigh(significand, POW5[n]) == 0) {
+			long product = significand * POW5[n];
+			
+			if(product >= 0)
+				return BigDecimal.valueOf(product, n);
+		}
+		
+		return new BigDecimal(
+			Powers.pow5(n).multiply(BigInteger.valueOf(significand)),
+			n
+		);
+	}
+	
+	private long signBit(boolean sign) {
+		return sign ? 1L << signShift : 0;
+	}
+	
+	long getZero(boolean sign) {
+		return signBit(sign);
+	}
+	
+	long getInfinity(boolean sign) {
+		return signBit(sign) | ((long) maxExponent << exponentShift) | explicitBit;
+	}
+	
+	long getMaxValue(boolean sign) {
+		return signBit(sign) | ((long) (maxExponent - 1) << exponentShift) | significandMask;
+	}
+	
+	long getQuietNaN(boolean sign) {
+		return getInfinity(sign) | (1L << (significand - 1)) | 1;
+	}
+	
+	long getSignalingNaN(boolean sign) {
+		return getInfinity(sign) | 1;
+	}
+	
+}
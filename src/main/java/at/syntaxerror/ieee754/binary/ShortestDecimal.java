@@ -0,0 +1,367 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.binary;
+
+import java.math.BigInteger;
+
+import at.syntaxerror.ieee754.internal.Powers;
+
+/**
+ * This class implements the shortest round-trip formatting of binary floating point numbers.
+ * <p>
+ * For a value {@code significand * 2^exponent}, the digits are generated using the free-format algorithm by
+ * Steele &amp; White and Burger &amp; Dybvig, which produces the fewest decimal digits that are rounded
+ * (to nearest, ties to even) back to the same value. If there are several such decimals, the one closest
+ * to the value is chosen. The result is formatted like {@link Double#toString(double)}, including its rule
+ * that a single digit is extended to the closest two-digit decimal (e.g. {@code 4.9E-324} instead of {@code 5.0E-324}).
+ * <p>
+ * If all intermediate values fit into a {@code long} (e.g. for {@link Binary16}), only primitive arithmetic is used.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class ShortestDecimal {
+	
+	// log10(2), only used for estimates
+	private static final double LOG10_2 = 0.30102999566398114;
+	
+	private static final BigInteger HUNDRED = BigInteger.valueOf(100);
+	
+	private ShortestDecimal() { }
+	
+	/*
+	 * checks whether all intermediate values fit into a long for a format with the given precision
+	 * (including the implicit bit) and range of exponents (of the least significant bit)
+	 */
+	static boolean isLongSupported(int precision, int minExponent, int maxExponent) {
+		return Math.max(2 - minExponent, precision + maxExponent + 2) + 8 <= 62;
+	}
+	
+	/*
+	 * formats the non-zero value (significand * 2^exponent), where significand has at most 'precision' bits
+	 * and exponent >= minExponent. requires isLongSupported for the format
+	 */
+	static String format(boolean sign, long significand, int exponent, int precision, int minExponent) {
+		boolean even = (significand & 1) == 0;
+		
+		// the gap to the next lower value is only half as big if the significand is a power of 2 (except for the smallest exponent)
+		boolean boundary = significand == 1L << (precision - 1) && exponent > minExponent;
+		int shift = boundary ? 2 : 1;
+		
+		/* value = r/s, upper boundary = (r + mPlus)/s, lower boundary = (r - mMinus)/s
+		 * 
+		 * (all scaled by 2 or 4, so that the boundaries are integers)
+		 */
+		long r, s, mPlus, mMinus;
+		
+		if(exponent >= 0) {
+			r = significand << (exponent + shift);
+			s = 1L << shift;
+			mPlus = 1L << (exponent + shift - 1);
+			mMinus = 1L << exponent;
+		}
+		else {
+			r = significand << shift;
+			s = 1L << (shift - exponent);
+			mPlus = 1L << (shift - 1);
+			mMinus = 1;
+		}
+		
+		int k = estimate(64 - Long.numberOfLeadingZeros(significand), exponent);
+		
+		// scale, so that value = r/s * 10^k
+		if(k >= 0)
+			s *= pow10(k);
+		
+		else {
+			long scale = pow10(-k);
+			
+			r *= scale;
+			mPlus *= scale;
+			mMinus *= scale;
+		}
+		
+		// the estimate might be too small
+		while(even ? r + mPlus >= s : r + mPlus > s) {
+			s *= 10;
+			++k;
+		}
+		
+		long r0 = r;
+		long mPlus0 = mPlus;
+		long mMinus0 = mMinus;
+		
+		long digits = 0;
+		int n = 0;
+		
+		while(true) {
+			r *= 10;
+			mPlus *= 10;
+			mMinus *= 10;
+			
+			long digit = r / s;
+			r %= s;
+			
+			boolean low = even ? r <= mMinus : r < mMinus;
+			boolean high = even ? r + mPlus >= s : r + mPlus > s;
+			
+			++n;
+			
+			if(!low && !high) {
+				digits = digits * 10 + digit;
+				continue;
+			}
+			
+			// choose the closer one of both candidates (ties to even)
+			if(high && (!low || 2 * r > s || (2 * r == s && (digit & 1) != 0)))
+				++digit;
+			
+			digits = digits * 10 + digit;
+			break;
+		}
+		
+		if(n == 1) { // find the closest two-digit decimal, i.e. round(100 * r0/s)
+			long quotient = 100 * r0 / s;
+			long remainder = 100 * r0 % s;
+			
+			if(2 * remainder > s || (2 * remainder == s && (quotient & 1) != 0))
+				++quotient;
+			
+			long difference = quotient * s - 100 * r0;
+			
+			boolean inside = difference >= 0
+				? (even ? difference <= 100 * mPlus0 : difference < 100 * mPlus0)
+				: (even ? -difference <= 100 * mMinus0 : -difference < 100 * mMinus0);
+			
+			if(inside) {
+				digits = quotient;
+				n = 2;
+			}
+		}
+		
+		// value = digits * 10^(k - n)
+		int scale = k - n;
+		
+		while(digits % 10 == 0) {
+			digits /= 10;
+			++scale;
+		}
+		
+		return toString(sign, Long.toString(digits), scale);
+	}
+	
+	/*
+	 * formats the non-zero value (significand * 2^exponent), where significand has at most 'precision' bits
+	 * and exponent >= minExponent
+	 */
+	static String format(boolean sign, BigInteger significand, int exponent, int precision, int minExponent) {
+		boolean even = !significand.testBit(0);
+		
+		boolean boundary = significand.bitLength() == precision && significand.getLowestSetBit() == precision - 1
+			&& exponent > minExponent;
+		
+		int shift = boundary ? 2 : 1;
+		
+		// see above
+		BigInteger r, s, mPlus, mMinus;
+		
+		if(exponent >= 0) {
+			r = significand.shiftLeft(exponent + shift);
+			s = BigInteger.ONE.shiftLeft(shift);
+			mPlus = BigInteger.ONE.shiftLeft(exponent + shift - 1);
+			mMinus = BigInteger.ONE.shiftLeft(exponent);
+		}
+		else {
+			r = significand.shiftLeft(shift);
+			s = BigInteger.ONE.shiftLeft(shift - exponent);
+			mPlus = BigInteger.ONE.shiftLeft(shift - 1);
+			mMinus = BigInteger.ONE;
+		}
+		
+		int k = estimate(significand.bitLength(), exponent);
+		
+		if(k >= 0)
+			s = s.multiply(Powers.pow10(k));
+		
+		else {
+			/* 10^-k = 5^-k * 2^-k. since the value is less than 1, s is a power of 2
+			 * greater than 2^-k, so the factor 2^-k cancels out
+			 */
+			BigInteger scale = Powers.pow5(-k);
+			
+			r = r.multiply(scale);
+			s = s.shiftRight(-k);
+			mPlus = mPlus.multiply(scale);
+			mMinus = mMinus.multiply(scale);
+		}
+		
+		while(compare(r.add(mPlus), s, even)) {
+			s = s.multiply(BigInteger.TEN);
+			++k;
+		}
+		
+		BigInteger r0 = r;
+		BigInteger mPlus0 = mPlus;
+		BigInteger mMinus0 = mMinus;
+		
+		StringBuilder digits = new StringBuilder();
+		
+		while(true) {
+			BigInteger[] quotient = r.multiply(BigInteger.TEN).divideAndRemainder(s);
+			
+			r = quotient[1];
+			mPlus = mPlus.multiply(BigInteger.TEN);
+			mMinus = mMinus.multiply(BigInteger.TEN);
+			
+			int digit = quotient[0].intValue();
+			
+			boolean low = compare(mMinus, r, even);
+			boolean high = compare(r.add(mPlus), s, even);
+			
+			if(!low && !high) {
+				digits.append((char) ('0' + digit));
+				continue;
+			}
+			
+			if(high) {
+				int cmp = low ? r.shiftLeft(1).compareTo(s) : 1;
+				
+				if(cmp > 0 || (cmp == 0 && (digit & 1) != 0))
+					++digit;
+			}
+			
+			digits.append((char) ('0' + digit));
+			break;
+		}
+		
+		int scale = k - digits.length();
+		
+		if(digits.length() == 1) {
+			BigInteger[] quotient = r0.multiply(HUNDRED).divideAndRemainder(s);
+			BigInteger closest = quotient[0];
+			
+			int cmp = quotient[1].shiftLeft(1).compareTo(s);
+			
+			if(cmp > 0 || (cmp == 0 && closest.testBit(0)))
+				closest = closest.add(BigInteger.ONE);
+			
+			BigInteger difference = closest.multiply(s).subtract(r0.multiply(HUNDRED));
+			
+			boolean inside = difference.signum() >= 0
+				? compare(mPlus0.multiply(HUNDRED), difference, even)
+				: compare(mMinus0.multiply(HUNDRED), difference.negate(), even);
+			
+			if(inside) {
+				digits.setLength(0);
+				digits.append(closest);
+				scale = k - 2;
+			}
+		}
+		
+		int length = digits.length();
+		
+		while(digits.charAt(length - 1) == '0') {
+			--length;
+			++scale;
+		}
+		
+		digits.setLength(length);
+		
+		return toString(sign, digits, scale);
+	}
+	
+	// returns a >= b if inclusive, otherwise a > b
+	private static boolean compare(BigInteger a, BigInteger b, boolean inclusive) {
+		int cmp = a.compareTo(b);
+		
+		return inclusive ? cmp >= 0 : cmp > 0;
+	}
+	
+	/*
+	 * estimates k = ceil(log10(value)) for a value with the given number of significand bits,
+	 * so that 10^(k-1) < value. the estimate is never too big, but might be too small by one
+	 */
+	private static int estimate(int bits, int exponent) {
+		return (int) Math.ceil((bits - 1 + exponent) * LOG10_2 - 1e-10);
+	}
+	
+	private static long pow10(int n) {
+		long result = 1;
+		
+		while(n-- > 0)
+			result *= 10;
+		
+		return result;
+	}
+	
+	/*
+	 * formats the value (digits * 10^scale) like Double.toString: values in the range [10^-3, 10^7)
+	 * are formatted as plain decimals, all other values in computerized scientific notation.
+	 * there is always at least one digit after the decimal point
+	 */
+	private static String toString(boolean sign, CharSequence digits, int scale) {
+		int length = digits.length();
+		
+		// exponent of the first digit
+		int exponent = scale + length - 1;
+		
+		StringBuilder sb = new StringBuilder(length + 8);
+		
+		if(sign)
+			sb.append('-');
+		
+		if(exponent >= 7 || exponent < -3) {
+			sb.append(digits.charAt(0)).append('.');
+			
+			if(length == 1)
+				sb.append('0');
+			else sb.append(digits, 1, length);
+			
+			return sb.append('E').append(exponent).toString();
+		}
+		
+		if(exponent < 0) {
+			sb.append("0.");
+			
+			for(int i = -1; i > exponent; --i)
+				sb.append('0');
+			
+			return sb.append(digits).toString();
+		}
+		
+		if(length <= exponent + 1) {
+			sb.append(digits);
+			
+			for(int i = length; i <= exponent; ++i)
+				sb.append('0');
+			
+			return sb.append(".0").toString();
+		}
+		
+		return sb.append(digits, 0, exponent + 1)
+			.append('.')
+			.append(digits, exponent + 1, length)
+			.toString();
+	}
+	
+}
@@ -0,0 +1,146 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.decimal;
+
+/**
+ * This class contains the lookup tables for converting between three decimal digits
+ * and their densly packed decimal representation (declets).
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class DPDTables {
+	
+	// number (0-999) => declet
+	private static final short[] ENCODE = new short[1000];
+	
+	// declet (10 bits) => number (0-999)
+	private static final short[] DECODE = new short[1024];
+	
+	private static final int[] DPD_MASKS = {
+		// s = small digit (0-7), l = large digit (8-9)
+		0b0000000,	// sss 		xx 0xx
+		0b0001000,	// ssl		xx 100
+		0b0001010,	// sls		xx 101
+		0b1001110,	// sll		10 111
+		0b0001100,	// lss		xx 110
+		0b0101110,	// lsl		01 111
+		0b0001110,	// lls		00 111
+		0b1101110,	// lll		11 111
+	};
+	
+	static {
+		for(int i = 0; i < ENCODE.length; ++i)
+			ENCODE[i] = (short) encodeBlock(i / 100, i / 10 % 10, i % 10);
+		
+		for(int i = 0; i < DECODE.length; ++i)
+			DECODE[i] = (short) decodeBlock(i);
+	}
+	
+	private DPDTables() { }
+	
+	/**
+	 * Encodes three decimal digits into a declet
+	 * 
+	 * @param digits the digits ({@code 0-999})
+	 * @return the declet
+	 */
+	static int encode(int digits) {
+		return ENCODE[digits];
+	}
+	
+	/**
+	 * Decodes a declet into three decimal digits
+	 * 
+	 * @param declet the declet (only the 10 least significant bits are used)
+	 * @return the digits ({@code 0-999})
+	 */
+	static int decode(int declet) {
+		return DECODE[declet & 0x3FF];
+	}
+
+	private static int encodeBlock(int a, int b, int c) {
+		boolean largeA = a > 7;
+		boolean largeB = b > 7;
+		boolean largeC = c > 7;
+		
+		a &= 7;
+		b &= 7;
+		c &= 7;
+		
+		int encoded = a << 7;
+		
+		if(!largeA && !largeB && !largeC)
+			return encoded| (b << 4) | c;
+		
+		encoded |= (c & 1) | ((b & 1) << 4);
+
+		if(!largeC)
+			encoded |= (c & 0b110) << (largeA ? 7 : 4);
+		
+		if(!largeB)
+			encoded |= (b & 0b110) << (largeA && largeC ? 7 : 4);
+
+		return encoded | DPD_MASKS[
+			(largeA ? 0b100 : 0) |
+			(largeB ? 0b010 : 0) |
+			(largeC ? 0b001 : 0)
+		];
+	}
+	
+	private static int decodeBlock(int block) {
+		if((block & 0b1000) == 0)
+			return (block & 7)
+				+ 10 * ((block >> 4) & 7)
+				+ 100 * ((block >> 7) & 7);
+		
+		int c = block & 1;
+		int b = (block >> 4) & 1;
+		int a = (block >> 7) & 1;
+
+		int modeC = (block >> 1) & 3;
+		int modeB = (block >> 5) & 3;
+		
+		int part1 = modeB << 1;
+		int part2 = ((block >> 8) & 3) << 1;
+		
+		if(modeC == 1)
+			c |= part1;
+		else if(modeC == 2 || (modeC == 3 && modeB == 0))
+			c |= part2;
+		else c |= 8;
+		
+		if((modeC & 1) == 0)
+			b |= part1;
+		else if(modeC == 3 && modeB == 1)
+			b |= part2;
+		else b |= 8;
+		
+		if((modeC & 2) == 0 || (modeC == 3 && modeB == 2))
+			a |= part2;
+		else a |= 8;
+		
+		return 100 * a + 10 * b + c;
+	}
+	
+}
@@ -30,7 +30,11 @@ import at.syntaxerror.ieee754.FloatingType;
 import lombok.NonNull;
 
 /**
- * This class is the base class for implementing IEEE 754 decimal floating point specifications 
+ * This class is the base class for implementing IEEE 754 decimal floating point specifications.
+ * <p>
+ * Finite numbers whose coefficient fits into a {@code long} (e.g. all numbers decoded by the codecs of {@link Decimal32}
+ * and {@link Decimal64}) are stored as {@code coefficient * 10^exponent}. Their {@link BigDecimal} and {@link BigInteger}
+ * representations are only computed when requested.
  * 
  * @author Thomas Kasper
  * 
@@ -40,23 +44,253 @@ public abstract class Decimal<T extends Decimal<T>> extends Floating<T> {
 
 	/**
 	 * The coding method used by {@link Decimal#encode()} and {@link DecimalCodec#encode(Decimal)}
+	 * <p>
+	 * This only applies to codecs without bound options. Use {@link DecimalCodec#withOptions(at.syntaxerror.ieee754.CodecOptions)}
+	 * to use a different coding method without affecting other threads.
 	 */
 	@NonNull
 	public static DecimalCoding DEFAULT_CODING = DecimalCoding.BINARY_INTEGER_DECIMAL;
 	
+	// 10^n for n = 0..22 (the powers of 10 that are exact doubles)
+	private static final double[] POW10 = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	
 	private BigInteger encodedDPD;
 	private BigInteger encodedBIP;
 	
+	private final DecimalCoding coding; // coding of the binary representation if not yet decoded
+	
+	// |value| = coefficient * 10^exponent, or coefficient = -1 if the value is not stored in this form
+	private final long coefficient;
+	private final int exponent;
+	
 	public Decimal(int signum, FloatingType type) {
 		super(signum, type);
+		coding = null;
+		coefficient = -1;
+		exponent = 0;
 	}
 
 	public Decimal(int signum, BigDecimal value) {
 		super(signum, value);
+		coding = null;
+		coefficient = -1;
+		exponent = 0;
+	}
+
+	/**
+	 * Creates a new finite decimal floating-point number with the value {@code signum * coefficient * 10^exponent}.
+	 * <p>The value must be exactly representable by this number's {@link #getCodec() codec}
+	 * (i.e. it must not be rounded, overflow or underflow).
+	 * This constructor is used by {@link DecimalFactory#create(int, long, int)}.
+	 * 
+	 * @param signum the signum (either {@code -1} or {@code 1})
+	 * @param coefficient the (non-negative) coefficient
+	 * @param exponent the decimal exponent
+	 * @throws IllegalArgumentException if the coefficient is negative or the value is not representable
+	 */
+	protected Decimal(int signum, long coefficient, int exponent) {
+		super(signum);
+		
+		if(coefficient < 0)
+			throw new IllegalArgumentException("Illegal negative coefficient");
+		
+		// the codec is not yet available while its constants are created
+		if(getCodec() instanceof DecimalCodec<?> codec && !codec.isRepresentable(coefficient, exponent))
+			throw new IllegalArgumentException("Value is not representable");
+		
+		this.coding = null;
+		this.coefficient = coefficient;
+		this.exponent = exponent;
+	}
+
+	/**
+	 * Creates a new finite decimal floating-point number backed by its binary representation
+	 * 
+	 * @param signum the signum (either {@code -1} or {@code 1})
+	 * @param encoded the binary representation
+	 * @param coding the coding method used by the binary representation
+	 * @see Floating#Floating(int, BigInteger)
+	 */
+	protected Decimal(int signum, BigInteger encoded, @NonNull DecimalCoding coding) {
+		super(signum, encoded);
+		this.coding = coding;
+		this.coefficient = -1;
+		this.exponent = 0;
+		
+		if(coding == DecimalCoding.DENSLY_PACKED_DECIMAL)
+			encodedDPD = encoded;
+		else encodedBIP = encoded;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	protected BigDecimal decodeValue() {
+		if(isCompact())
+			return toBigDecimal();
+		
+		DecimalCodec<T> codec = (DecimalCodec<T>) getCodec();
+		
+		return (coding == DecimalCoding.DENSLY_PACKED_DECIMAL
+			? codec.decodeDPD(encodedDPD)
+			: codec.decodeBID(encodedBIP)).getBigDecimal();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	protected boolean isZeroEncoding(BigInteger encoded) {
+		return ((DecimalCodec<T>) getCodec()).isZero(encoded, coding);
+	}
+	
+	/**
+	 * Returns the coding method used by the binary representation this number was created from
+	 * 
+	 * @return the coding method, or {@code null} if the number was not created from its binary representation
+	 */
+	DecimalCoding getLazyCoding() {
+		return coding;
+	}
+	
+	/**
+	 * Returns whether this number is stored as {@code coefficient * 10^exponent}
+	 * 
+	 * @return whether this number is stored in compact form
+	 */
+	boolean isCompact() {
+		return coefficient >= 0;
+	}
+	
+	/**
+	 * Returns the coefficient of the value {@code |value| = coefficient * 10^exponent}
+	 * 
+	 * @return the coefficient (only valid if {@link #isCompact()})
+	 */
+	long getCompactCoefficient() {
+		return coefficient;
+	}
+	
+	/**
+	 * Returns the exponent of the value {@code |value| = coefficient * 10^exponent}
+	 * 
+	 * @return the exponent (only valid if {@link #isCompact()})
+	 */
+	int getCompactExponent() {
+		return exponent;
+	}
+	
+	// computes the value of a compact number without storing it
+	private BigDecimal toBigDecimal() {
+		return BigDecimal.valueOf(
+			isNegative() ? -coefficient : coefficient,
+			-exponent
+		);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean isZero() {
+		return isCompact()
+			? coefficient == 0
+			: super.isZero();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public double doubleValue() {
+		if(!isCompact())
+			return super.doubleValue();
+		
+		double value;
+		
+		// both the coefficient and the power of 10 are exact doubles, so the result is only rounded once
+		if(coefficient < 1L << 53 && exponent >= -22 && exponent <= 22)
+			value = exponent < 0
+				? coefficient / POW10[-exponent]
+				: coefficient * POW10[exponent];
+		
+		else return toBigDecimal().doubleValue();
+		
+		return isNegative()
+			? -value
+			: value;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int compareTo(T o) {
+		Decimal<?> other = o;
+		
+		// compare without storing the BigDecimal representations
+		if(isCompact() && other.isCompact())
+			return compareCompact(other);
+		
+		return super.compareTo(o);
+	}
+	
+	// compares two compact numbers
+	private int compareCompact(Decimal<?> other) {
+		int signum = getCompactSignum();
+		int otherSignum = other.getCompactSignum();
+		
+		if(signum != otherSignum || signum == 0)
+			return Integer.compare(signum, otherSignum);
+		
+		// exponent of the most significant digit (+1)
+		long adjusted = (long) exponent + LongDecimalEngine.getDigits(coefficient);
+		long otherAdjusted = (long) other.exponent + LongDecimalEngine.getDigits(other.coefficient);
+		
+		int result;
+		
+		if(adjusted != otherAdjusted)
+			result = Long.compare(adjusted, otherAdjusted);
+		
+		else {
+			// same magnitude, so the difference between the exponents is less than 19
+			long a = coefficient;
+			long b = other.coefficient;
+			
+			int shift = exponent - other.exponent;
+			
+			if(shift > 0) {
+				if(a > Long.MAX_VALUE / LongDecimalEngine.POW10[shift])
+					return toBigDecimal().compareTo(other.toBigDecimal());
+				
+				a *= LongDecimalEngine.POW10[shift];
+			}
+			
+			else if(shift < 0) {
+				if(b > Long.MAX_VALUE / LongDecimalEngine.POW10[-shift])
+					return toBigDecimal().compareTo(other.toBigDecimal());
+				
+				b *= LongDecimalEngine.POW10[-shift];
+			}
+			
+			result = Long.compare(a, b);
+		}
+		
+		return signum < 0
+			? -result
+			: result;
+	}
+	
+	// returns the signum of a compact number (0 for both +0 and -0)
+	private int getCompactSignum() {
+		if(coefficient == 0)
+			return 0;
+		
+		return isNegative()
+			? -1
+			: 1;
 	}
 
 	/**
 	 * Encodes this number into its binary representation using the representation method specified by {@link #DEFAULT_CODING}.
+	 * Since the field is global, use a codec {@link DecimalCodec#withOptions(at.syntaxerror.ieee754.CodecOptions) bound}
+	 * to a specific coding method instead.
 	 * 
 	 * @return the binary representation
 	 */
@@ -74,6 +308,9 @@ public abstract class Decimal<T extends Decimal<T>> extends Floating<T> {
 	 */
 	@SuppressWarnings("unchecked")
 	public BigInteger encodeDPD() {
+		if(isCompact()) // cheap to compute, not worth the memory
+			return ((DecimalCodec<T>) getCodec()).encodeDPD((T) this);
+		
 		return encodedDPD == null
 			? encodedDPD = ((DecimalCodec<T>) getCodec()).encodeDPD((T) this)
 			: encodedDPD;
@@ -86,6 +323,9 @@ public abstract class Decimal<T extends Decimal<T>> extends Floating<T> {
 	 */
 	@SuppressWarnings("unchecked")
 	public BigInteger encodeBID() {
+		if(isCompact()) // cheap to compute, not worth the memory
+			return ((DecimalCodec<T>) getCodec()).encodeBID((T) this);
+		
 		return encodedBIP == null
 			? encodedBIP = ((DecimalCodec<T>) getCodec()).encodeBID((T) this)
 			: encodedBIP;
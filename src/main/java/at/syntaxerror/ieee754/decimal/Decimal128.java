@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754.decimal;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
@@ -56,13 +57,21 @@ public final class Decimal128 extends Decimal<Decimal128> {
 		super(signum, type);
 	}
 
+	private Decimal128(int signum, BigInteger encoded, DecimalCoding coding) {
+		super(signum, encoded, coding);
+	}
+
+	private Decimal128(int signum, long coefficient, int exponent) {
+		super(signum, coefficient, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public DecimalCodec<Decimal128> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary32Factory implements FloatingFactory<Decimal128> {
+	private static class Binary32Factory implements DecimalFactory<Decimal128> {
 		
 		@Override
 		public Decimal128 create(int signum, BigDecimal value) {
@@ -74,6 +83,16 @@ public final class Decimal128 extends Decimal<Decimal128> {
 			return new Decimal128(signum, type);
 		}
 		
+		@Override
+		public Decimal128 createLazy(int signum, BigInteger encoded, DecimalCoding coding) {
+			return new Decimal128(signum, encoded, coding);
+		}
+		
+		@Override
+		public Decimal128 create(int signum, long coefficient, int exponent) {
+			return new Decimal128(signum, coefficient, exponent);
+		}
+		
 	}
 	
 }
@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754.decimal;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
@@ -56,13 +57,21 @@ public final class Decimal32 extends Decimal<Decimal32> {
 		super(signum, type);
 	}
 
+	private Decimal32(int signum, BigInteger encoded, DecimalCoding coding) {
+		super(signum, encoded, coding);
+	}
+
+	private Decimal32(int signum, long coefficient, int exponent) {
+		super(signum, coefficient, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public DecimalCodec<Decimal32> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary32Factory implements FloatingFactory<Decimal32> {
+	private static class Binary32Factory implements DecimalFactory<Decimal32> {
 		
 		@Override
 		public Decimal32 create(int signum, BigDecimal value) {
@@ -74,6 +83,16 @@ public final class Decimal32 extends Decimal<Decimal32> {
 			return new Decimal32(signum, type);
 		}
 		
+		@Override
+		public Decimal32 createLazy(int signum, BigInteger encoded, DecimalCoding coding) {
+			return new Decimal32(signum, encoded, coding);
+		}
+		
+		@Override
+		public Decimal32 create(int signum, long coefficient, int exponent) {
+			return new Decimal32(signum, coefficient, exponent);
+		}
+		
 	}
 	
 }
@@ -23,6 +23,7 @@
 package at.syntaxerror.ieee754.decimal;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
@@ -56,13 +57,21 @@ public final class Decimal64 extends Decimal<Decimal64> {
 		super(signum, type);
 	}
 
+	private Decimal64(int signum, BigInteger encoded, DecimalCoding coding) {
+		super(signum, encoded, coding);
+	}
+
+	private Decimal64(int signum, long coefficient, int exponent) {
+		super(signum, coefficient, exponent);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public DecimalCodec<Decimal64> getCodec() {
 		return CODEC;
 	}
 	
-	private static class Binary32Factory implements FloatingFactory<Decimal64> {
+	private static class Binary32Factory implements DecimalFactory<Decimal64> {
 		
 		@Override
 		public Decimal64 create(int signum, BigDecimal value) {
@@ -74,6 +83,16 @@ public final class Decimal64 extends Decimal<Decimal64> {
 			return new Decimal64(signum, type);
 		}
 		
+		@Override
+		public Decimal64 createLazy(int signum, BigInteger encoded, DecimalCoding coding) {
+			return new Decimal64(signum, encoded, coding);
+		}
+		
+		@Override
+		public Decimal64 create(int signum, long coefficient, int exponent) {
+			return new Decimal64(signum, coefficient, exponent);
+		}
+		
 	}
 	
 }
@@ -24,14 +24,17 @@ package at.syntaxerror.ieee754.decimal;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Supplier;
 
+import at.syntaxerror.ieee754.CodecOptions;
 import at.syntaxerror.ieee754.FloatingCodec;
 import at.syntaxerror.ieee754.FloatingFactory;
 import at.syntaxerror.ieee754.FloatingType;
+import at.syntaxerror.ieee754.StatusFlags;
 import at.syntaxerror.ieee754.binary.Binary;
+import at.syntaxerror.ieee754.internal.ParsedDecimal;
+import at.syntaxerror.ieee754.internal.Powers;
+import at.syntaxerror.ieee754.internal.UnsignedMath;
 import at.syntaxerror.ieee754.rounding.Rounding;
 import lombok.NonNull;
 
@@ -51,26 +54,35 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	private static final BigInteger MASK_NAN = BigInteger.valueOf(0b11111);
 	private static final BigInteger MASK_NEGATIVE = BigInteger.valueOf(0b100000);
 	
-	private static final BigInteger THOUSAND = BigInteger.valueOf(1000);
+	private static final int CHUNK_BITS = 60; // 6 declets
+	private static final BigInteger CHUNK = Powers.pow10(18); // 6 declets worth of digits
 	private static final BigInteger COMBINATION_LARGE_DPD = BigInteger.valueOf(0b11000);
 	private static final BigInteger COMBINATION_LARGE_BID = BigInteger.valueOf(0b11);
 
-	private static final int MEMOIZE_EXPBIAS = 0;
-	private static final int MEMOIZE_SIGDIGS = 1;
-	private static final int MEMOIZE_POS_INF = 2;
-	private static final int MEMOIZE_NEG_INF = 3;
-	private static final int MEMOIZE_SMINVAL = 4;
-	private static final int MEMOIZE_MIN_VAL = 5;
-	private static final int MEMOIZE_MAX_VAL = 6;
-	private static final int MEMOIZE_EXRANGE = 7;
-	private static final int MEMOIZE_EPSILON = 8;
-	
 	private final int combination;
 	private final int significand;
 	
 	private final FloatingFactory<T> factory;
 	
-	private final Map<Integer, Object> memoized = new HashMap<>();
+	private final BigInteger declets; // 10^(number of digits encoded in declets)
+	
+	private final LongDecimalEngine<T> longEngine;
+	private final Int128DecimalEngine<T> int128Engine;
+	
+	private final int digits;
+	private final int bias;
+	private final int maxExponent; // exponent of the least significant digit of the maximum value
+	
+	private final Map.Entry<Integer, Integer> exponentRange;
+	
+	private final BigInteger positiveInfinity;
+	private final BigInteger negativeInfinity;
+	
+	private final T minSubnormalValue;
+	private final T minValue;
+	private final T maxValue;
+	
+	private final BigDecimal epsilon;
 	
 	/**
 	 * Creates a new decimal codec
@@ -90,21 +102,97 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 		this.combination = combination;
 		this.significand = significand;
 		this.factory = factory;
-
-		// memoize values
-		getSignificandDigits();
-		getBias();
+		
+		declets = Powers.pow10(significand / 10 * 3);
+		
+		// precompute constants, so that the codec can be shared between threads without synchronization
+		
+		int span = getExponentSpan() >> 1;
+		
+		digits = 1 + significand / 10 * 3;
+		
+		// floor(log10(10 * 2^significand - 1)) + floor(3 * 2^(combination - 5) / 2) - 2
+		bias = digits - 2 + span;
+		maxExponent = getExponentSpan() - 1 - bias;
+		
+		exponentRange = Map.entry(
+			2 - span,
+			1 + span
+		);
+		
+		positiveInfinity = MASK_INFINITY
+			.shiftLeft(combination - 5 + significand);
+		
+		negativeInfinity = MASK_INFINITY
+			.or(MASK_NEGATIVE)
+			.shiftLeft(combination - 5 + significand);
+		
+		longEngine = LongDecimalEngine.isSupported(combination, significand)
+			? new LongDecimalEngine<>(combination, significand, factory)
+			: null;
+		
+		int128Engine = Int128DecimalEngine.isSupported(combination, significand)
+			? new Int128DecimalEngine<>(combination, significand, factory)
+			: null;
+		
+		minSubnormalValue = decodeBID(BigInteger.ONE);
+		
+		minValue = decodeDPD(BigInteger.ONE.shiftLeft(significand + combination - 5));
+		
+		maxValue = decodeDPD(
+			BigInteger.valueOf(0b111)
+				.shiftLeft(significand + combination - 3)
+				.or(mask(significand + combination - 4))
+		);
+		
 		initialize();
+		
+		epsilon = computeEpsilon();
 	}
-
-	@SuppressWarnings("unchecked")
-	private <R> R memoize(int id, Supplier<R> generator) {
-		Object value = memoized.get(id);
+	
+	/**
+	 * Creates a copy of the codec bound to the given options
+	 * 
+	 * @param codec the codec
+	 * @param options the options
+	 * @see #withOptions(CodecOptions)
+	 */
+	protected DecimalCodec(@NonNull DecimalCodec<T> codec, @NonNull CodecOptions options) {
+		super(codec, options);
+		
+		combination = codec.combination;
+		significand = codec.significand;
+		factory = codec.factory;
+		
+		declets = codec.declets;
+		
+		longEngine = codec.longEngine;
+		int128Engine = codec.int128Engine;
+		
+		digits = codec.digits;
+		bias = codec.bias;
+		maxExponent = codec.maxExponent;
 		
-		if(value == null)
-			memoized.put(id, value = generator.get());
+		exponentRange = codec.exponentRange;
 		
-		return (R) value;
+		positiveInfinity = codec.positiveInfinity;
+		negativeInfinity = codec.negativeInfinity;
+		
+		minSubnormalValue = codec.minSubnormalValue;
+		minValue = codec.minValue;
+		maxValue = codec.maxValue;
+		
+		epsilon = codec.epsilon;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Subclasses should override this method, so that the returned codec is of the same class.
+	 */
+	@Override
+	public DecimalCodec<T> withOptions(@NonNull CodecOptions options) {
+		return new DecimalCodec<>(this, options);
 	}
 	
 	/**
@@ -126,16 +214,482 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	}
 
 	/**
-	 * Encodes the floating point into its binary representation using the representation method specified by {@link Decimal#DEFAULT_CODING}.
+	 * Returns whether the binary representation fits into a {@code long}
+	 * (i.e. {@code combination + significand + 1 <= 64}).
+	 * <p>If this is the case, {@link #encodeBIDToLong(Decimal)}, {@link #encodeBID(long, int)}, {@link #decodeBID(long)},
+	 * {@link #decodeBIDCoefficient(long)}, {@link #decodeBIDExponent(long)}, {@link #encodeDPDToLong(Decimal)}
+	 * and {@link #decodeDPD(long)} can be used,
+	 * which only use primitive arithmetic for the majority of values
+	 * 
+	 * @return whether the binary representation fits into a {@code long}
+	 */
+	public boolean isLongSupported() {
+		return longEngine != null;
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation using the binary integer decimal representation method.
+	 * The binary representation must fit into a {@code long}.
+	 * 
+	 * @param value the floating point number
+	 * @return the encoded binary representation
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public long encodeBIDToLong(@NonNull T value) {
+		return encodeToLong(value, DecimalCoding.BINARY_INTEGER_DECIMAL, null);
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation using the binary integer decimal representation method
+	 * and raises the flags according to the result. The binary representation must fit into a {@code long}.
+	 * 
+	 * @param value the floating point number
+	 * @param flags the flags
+	 * @return the encoded binary representation
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public long encodeBIDToLong(@NonNull T value, @NonNull StatusFlags flags) {
+		return encodeToLong(value, DecimalCoding.BINARY_INTEGER_DECIMAL, flags);
+	}
+	
+	/**
+	 * Encodes the number {@code coefficient * 10^exponent} into its binary representation using the binary integer
+	 * decimal representation method. The binary representation must fit into a {@code long}.
+	 * <p>Like {@link #encodeBID(Decimal)}, the number is rounded to the precision of the format, and
+	 * the representation with the least number of digits is used.
+	 * 
+	 * @param coefficient the coefficient
+	 * @param exponent the (base-10) exponent
+	 * @return the encoded binary representation
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public long encodeBID(long coefficient, int exponent) {
+		return requireLongEngine().encode(coefficient, exponent, getOptions().rounding(), null);
+	}
+	
+	/**
+	 * Decodes the floating point's binary representation using the binary integer decimal representation method.
+	 * The binary representation must fit into a {@code long}.
+	 * 
+	 * @param value the binary representation
+	 * @return the decoded floating point number
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public T decodeBID(long value) {
+		return requireLongEngine().decode(value, DecimalCoding.BINARY_INTEGER_DECIMAL);
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation using the densly packed decimal representation method.
+	 * The binary representation must fit into a {@code long}.
+	 * 
+	 * @param value the floating point number
+	 * @return the encoded binary representation
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public long encodeDPDToLong(@NonNull T value) {
+		return encodeToLong(value, DecimalCoding.DENSLY_PACKED_DECIMAL, null);
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation using the densly packed decimal representation method
+	 * and raises the flags according to the result. The binary representation must fit into a {@code long}.
+	 * 
+	 * @param value the floating point number
+	 * @param flags the flags
+	 * @return the encoded binary representation
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public long encodeDPDToLong(@NonNull T value, @NonNull StatusFlags flags) {
+		return encodeToLong(value, DecimalCoding.DENSLY_PACKED_DECIMAL, flags);
+	}
+	
+	/**
+	 * Decodes the floating point's binary representation using the densly packed decimal representation method.
+	 * The binary representation must fit into a {@code long}.
+	 * 
+	 * @param value the binary representation
+	 * @return the decoded floating point number
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public T decodeDPD(long value) {
+		return requireLongEngine().decode(value, DecimalCoding.DENSLY_PACKED_DECIMAL);
+	}
+	
+	/**
+	 * Parses the string (see {@link #parseBits(CharSequence)}) into its binary representation using the binary integer
+	 * decimal representation method. The binary representation must fit into a {@code long}.
+	 * <p>Strings with up to 19 significant digits are converted using only primitive arithmetic.
+	 * 
+	 * @param text the string
+	 * @return the encoded binary representation
+	 * @throws NumberFormatException if the string is not a valid number
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public long parseBIDToLong(@NonNull CharSequence text) {
+		return requireLongEngine().parse(ParsedDecimal.parse(text), text, getOptions().rounding(), DecimalCoding.BINARY_INTEGER_DECIMAL);
+	}
+	
+	/**
+	 * Parses the string (see {@link #parseBits(CharSequence)}) into its binary representation using the densly packed
+	 * decimal representation method. The binary representation must fit into a {@code long}.
+	 * <p>Strings with up to 19 significant digits are converted using only primitive arithmetic.
+	 * 
+	 * @param text the string
+	 * @return the encoded binary representation
+	 * @throws NumberFormatException if the string is not a valid number
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 */
+	public long parseDPDToLong(@NonNull CharSequence text) {
+		return requireLongEngine().parse(ParsedDecimal.parse(text), text, getOptions().rounding(), DecimalCoding.DENSLY_PACKED_DECIMAL);
+	}
+	
+	/**
+	 * Returns the (signed) coefficient of the floating point's binary representation using the binary integer
+	 * decimal representation method. The binary representation must fit into a {@code long}.
+	 * <p>If the value is not finite, {@code 0} is returned.
+	 * 
+	 * @param value the binary representation
+	 * @return the coefficient
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 * @see #decodeBIDExponent(long)
+	 */
+	public long decodeBIDCoefficient(long value) {
+		return requireLongEngine().decodeCoefficient(value);
+	}
+	
+	/**
+	 * Returns the (base-10) exponent of the floating point's binary representation using the binary integer
+	 * decimal representation method. The binary representation must fit into a {@code long}.
+	 * <p>If the value is not finite, {@code 0} is returned.
+	 * 
+	 * @param value the binary representation
+	 * @return the exponent
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a {@code long}
+	 * @see #isLongSupported()
+	 * @see #decodeBIDCoefficient(long)
+	 */
+	public int decodeBIDExponent(long value) {
+		return requireLongEngine().decodeExponent(value);
+	}
+	
+	private long encodeToLong(T value, DecimalCoding coding, StatusFlags flags) {
+		LongDecimalEngine<T> engine = requireLongEngine();
+		BigInteger lazy = getLazyBits(value, coding);
+		
+		return lazy != null
+			? lazy.longValue()
+			: engine.encode(value, getOptions().rounding(), coding, flags);
+	}
+	
+	private LongDecimalEngine<T> requireLongEngine() {
+		if(longEngine == null)
+			throw new UnsupportedOperationException("Binary representation does not fit into a long");
+		
+		return longEngine;
+	}
+	
+	/**
+	 * Returns whether the binary representation fits into a pair of {@code long}s
+	 * (i.e. {@code combination + significand + 1 <= 128}).
+	 * <p>If this is the case, {@link #encodeBIDTo(Decimal, long[])}, {@link #decodeBID(long, long)},
+	 * {@link #decodeBIDCoefficient(long, long, long[])}, {@link #decodeBIDExponent(long, long)},
+	 * {@link #encodeDPDTo(Decimal, long[])} and {@link #decodeDPD(long, long)} can be used,
+	 * which only use primitive arithmetic for the majority of values
+	 * 
+	 * @return whether the binary representation fits into a pair of {@code long}s
+	 */
+	public boolean isLongPairSupported() {
+		return int128Engine != null;
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation using the binary integer decimal representation method.
+	 * The binary representation must fit into a pair of {@code long}s.
+	 * <p>The high 64 bits are stored at index {@code 0}, the low 64 bits at index {@code 1}.
+	 * 
+	 * @param value the floating point number
+	 * @param hiLo the array the binary representation is stored in
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a pair of {@code long}s
+	 * @see #isLongPairSupported()
+	 */
+	public void encodeBIDTo(@NonNull T value, @NonNull long[] hiLo) {
+		encodeTo(value, DecimalCoding.BINARY_INTEGER_DECIMAL, hiLo);
+	}
+	
+	/**
+	 * Decodes the floating point's binary representation using the binary integer decimal representation method.
+	 * The binary representation must fit into a pair of {@code long}s.
+	 * 
+	 * @param hi the high 64 bits of the binary representation
+	 * @param lo the low 64 bits of the binary representation
+	 * @return the decoded floating point number
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a pair of {@code long}s
+	 * @see #isLongPairSupported()
+	 */
+	public T decodeBID(long hi, long lo) {
+		return requireInt128Engine().decode(hi, lo, DecimalCoding.BINARY_INTEGER_DECIMAL);
+	}
+	
+	/**
+	 * Returns the coefficient's magnitude of the floating point's binary representation using the binary integer
+	 * decimal representation method. The binary representation must fit into a pair of {@code long}s.
+	 * <p>The high 64 bits of the coefficient are stored at index {@code 0}, the low 64 bits at index {@code 1}.
+	 * If the value is not finite, {@code 0} is stored.
+	 * 
+	 * @param hi the high 64 bits of the binary representation
+	 * @param lo the low 64 bits of the binary representation
+	 * @param coefficient the array the coefficient is stored in
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a pair of {@code long}s
+	 * @see #isLongPairSupported()
+	 * @see #decodeBIDExponent(long, long)
+	 */
+	public void decodeBIDCoefficient(long hi, long lo, @NonNull long[] coefficient) {
+		requireInt128Engine(coefficient).decodeCoefficient(hi, lo, coefficient);
+	}
+	
+	/**
+	 * Returns the (base-10) exponent of the floating point's binary representation using the binary integer
+	 * decimal representation method. The binary representation must fit into a pair of {@code long}s.
+	 * <p>If the value is not finite, {@code 0} is returned.
+	 * 
+	 * @param hi the high 64 bits of the binary representation
+	 * @param lo the low 64 bits of the binary representation
+	 * @return the exponent
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a pair of {@code long}s
+	 * @see #isLongPairSupported()
+	 * @see #decodeBIDCoefficient(long, long, long[])
+	 */
+	public int decodeBIDExponent(long hi, long lo) {
+		return requireInt128Engine().decodeExponent(hi, lo);
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation using the densly packed decimal representation method.
+	 * The binary representation must fit into a pair of {@code long}s.
+	 * <p>The high 64 bits are stored at index {@code 0}, the low 64 bits at index {@code 1}.
+	 * 
+	 * @param value the floating point number
+	 * @param hiLo the array the binary representation is stored in
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a pair of {@code long}s
+	 * @see #isLongPairSupported()
+	 */
+	public void encodeDPDTo(@NonNull T value, @NonNull long[] hiLo) {
+		encodeTo(value, DecimalCoding.DENSLY_PACKED_DECIMAL, hiLo);
+	}
+	
+	/**
+	 * Decodes the floating point's binary representation using the densly packed decimal representation method.
+	 * The binary representation must fit into a pair of {@code long}s.
+	 * 
+	 * @param hi the high 64 bits of the binary representation
+	 * @param lo the low 64 bits of the binary representation
+	 * @return the decoded floating point number
+	 * @throws UnsupportedOperationException if the binary representation does not fit into a pair of {@code long}s
+	 * @see #isLongPairSupported()
+	 */
+	public T decodeDPD(long hi, long lo) {
+		return requireInt128Engine().decode(hi, lo, DecimalCoding.DENSLY_PACKED_DECIMAL);
+	}
+	
+	private void encodeTo(T value, DecimalCoding coding, long[] hiLo) {
+		Int128DecimalEngine<T> engine = requireInt128Engine(hiLo);
+		BigInteger lazy = getLazyBits(value, coding);
+		
+		if(lazy != null) {
+			hiLo[0] = lazy.shiftRight(64).longValue();
+			hiLo[1] = lazy.longValue();
+		}
+		
+		else engine.encode(value, getOptions().rounding(), coding, null, hiLo);
+	}
+	
+	private Int128DecimalEngine<T> requireInt128Engine(long[] hiLo) {
+		if(hiLo.length < 2)
+			throw new IllegalArgumentException("Array is too small");
+		
+		return requireInt128Engine();
+	}
+	
+	private Int128DecimalEngine<T> requireInt128Engine() {
+		if(int128Engine == null)
+			throw new UnsupportedOperationException("Binary representation does not fit into a pair of longs");
+		
+		return int128Engine;
+	}
+
+	/**
+	 * Encodes the floating point into its binary representation using the representation method specified by the
+	 * {@link #getOptions() options} (which default to {@link Decimal#DEFAULT_CODING}).
 	 * 
 	 * @param value the floating point number
 	 * @return the encoded binary representation
 	 */
 	@Override
 	public BigInteger encode(T value) {
-		return Decimal.DEFAULT_CODING == DecimalCoding.DENSLY_PACKED_DECIMAL
-				? encodeDPD(value)
-				: encodeBID(value);
+		return encode(value, getOptions());
+	}
+	
+	/**
+	 * Encodes the floating point into its binary representation using the rounding mode and representation method
+	 * specified by the given options and raises the flags according to the result
+	 * 
+	 * @param value the floating point number
+	 * @param options the options
+	 * @param flags the flags, or {@code null} if the flags should not be tracked
+	 * @return the encoded binary representation
+	 */
+	@Override
+	public BigInteger encode(T value, @NonNull CodecOptions options, StatusFlags flags) {
+		return options.coding() == DecimalCoding.DENSLY_PACKED_DECIMAL
+			? encodeDPD(value, options.rounding(), flags)
+			: encodeBID(value, options.rounding(), flags);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void encodeWords(boolean sign, BigDecimal value, CodecOptions options, StatusFlags flags, long[] words) {
+		Rounding rounding = options.rounding();
+		DecimalCoding coding = options.coding();
+		
+		if(longEngine != null)
+			words[0] = longEngine.encode(sign, value, rounding, coding, flags);
+		
+		else if(int128Engine != null)
+			int128Engine.encode(sign, value, rounding, coding, flags, words);
+		
+		else UnsignedMath.toWords(encode(factory.create(sign ? -1 : +1, value), options, flags), words);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void encodeWords(T value, CodecOptions options, StatusFlags flags, long[] words) {
+		Rounding rounding = options.rounding();
+		DecimalCoding coding = options.coding();
+		BigInteger lazy = getLazyBits(value, coding);
+		
+		if(lazy != null) {
+			if(longEngine != null)
+				words[0] = lazy.longValue();
+			
+			else UnsignedMath.toWords(lazy, words);
+		}
+		
+		else if(longEngine != null)
+			words[0] = longEngine.encode(value, rounding, coding, flags);
+		
+		else if(int128Engine != null)
+			int128Engine.encode(value, rounding, coding, flags, words);
+		
+		else UnsignedMath.toWords(encode(value, options, flags), words);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected T decodeWords(long[] words, int offset, CodecOptions options) {
+		DecimalCoding coding = options.coding();
+		
+		if(longEngine != null)
+			return longEngine.decode(words[offset], coding);
+		
+		if(int128Engine != null)
+			return int128Engine.decode(words[offset], words[offset + 1], coding);
+		
+		return decode(UnsignedMath.toBigInteger(words, offset, getLongsPerValue()), options);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected long encodeWord(T value, CodecOptions options) {
+		if(longEngine == null)
+			return super.encodeWord(value, options);
+		
+		DecimalCoding coding = options.coding();
+		BigInteger lazy = getLazyBits(value, coding);
+		
+		return lazy != null
+			? lazy.longValue()
+			: longEngine.encode(value, options.rounding(), coding, null);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected T decodeWords(long hi, long lo, CodecOptions options) {
+		DecimalCoding coding = options.coding();
+		
+		if(longEngine != null)
+			return longEngine.decode(lo, coding);
+		
+		if(int128Engine != null)
+			return int128Engine.decode(hi, lo, coding);
+		
+		return super.decodeWords(hi, lo, options);
+	}
+	
+	/**
+	 * Parses the string and encodes its value into the binary representation, rounding it according to the codec's
+	 * {@link #getOptions() options} and using the representation method specified by them
+	 * (which default to {@link Decimal#DEFAULT_CODING}).
+	 * <p>See {@link FloatingCodec#parseBits(CharSequence)} for the syntax.
+	 * 
+	 * @param text the string
+	 * @return the encoded binary representation
+	 * @throws NumberFormatException if the string is not a valid number
+	 */
+	@Override
+	public BigInteger parseBits(@NonNull CharSequence text) {
+		ParsedDecimal decimal = ParsedDecimal.parse(text);
+		CodecOptions options = getOptions();
+		
+		if(longEngine != null)
+			return UnsignedMath.toBigInteger(longEngine.parse(decimal, text, options.rounding(), options.coding()));
+		
+		if(int128Engine != null) {
+			long[] hiLo = new long[2];
+			
+			int128Engine.parse(decimal, text, options.rounding(), options.coding(), hiLo);
+			
+			return UnsignedMath.toBigInteger(hiLo[0], hiLo[1]);
+		}
+		
+		int signum = decimal.negative() ? -1 : +1;
+		
+		if(decimal.type() == FloatingType.INFINITE)
+			return signum < 0 ? getNegativeInfinity() : getPositiveInfinity();
+		
+		if(decimal.type() == FloatingType.QUIET_NAN)
+			return getQuietNaN(signum);
+		
+		if(decimal.isZero())
+			return getZero(signum);
+		
+		// values below 10^(minExp - 1) are less than half the smallest subnormal value,
+		// values of at least 10^(maxExp + digits) are greater than the maximum value
+		int minExp = -getBias();
+		int maxExp = getExponentSpan() - 1 - getBias();
+		
+		BigDecimal value = decimal.toBigDecimal(text, minExp - 1, maxExp + getSignificandDigits());
+		
+		return encode(factory.create(signum, value), options, null);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public T parse(@NonNull CharSequence text) {
+		if(longEngine != null)
+			return longEngine.decode(parseBIDToLong(text), DecimalCoding.BINARY_INTEGER_DECIMAL);
+		
+		return decode(parseBits(text));
 	}
 
 	/**
@@ -145,7 +699,27 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	 * @return the encoded binary representation
 	 */
 	public BigInteger encodeBID(T value) {
-		EncodeInfo info = encodeCommon(value);
+		return encodeBID(value, getOptions().rounding(), null);
+	}
+	
+	private BigInteger encodeBID(T value, Rounding rounding, StatusFlags flags) {
+		BigInteger lazy = getLazyBits(value, DecimalCoding.BINARY_INTEGER_DECIMAL);
+		
+		if(lazy != null)
+			return lazy;
+		
+		if(longEngine != null)
+			return UnsignedMath.toBigInteger(longEngine.encode(value, rounding, DecimalCoding.BINARY_INTEGER_DECIMAL, flags));
+		
+		if(int128Engine != null) {
+			long[] hiLo = new long[2];
+			
+			int128Engine.encode(value, rounding, DecimalCoding.BINARY_INTEGER_DECIMAL, flags, hiLo);
+			
+			return UnsignedMath.toBigInteger(hiLo[0], hiLo[1]);
+		}
+		
+		EncodeInfo info = encodeCommon(value, rounding, flags);
 		
 		if(info.special())
 			return info.value();
@@ -189,28 +763,56 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	 * @return the encoded binary representation
 	 */
 	public BigInteger encodeDPD(T value) {
-		EncodeInfo info = encodeCommon(value);
+		return encodeDPD(value, getOptions().rounding(), null);
+	}
+	
+	private BigInteger encodeDPD(T value, Rounding rounding, StatusFlags flags) {
+		BigInteger lazy = getLazyBits(value, DecimalCoding.DENSLY_PACKED_DECIMAL);
+		
+		if(lazy != null)
+			return lazy;
+		
+		if(longEngine != null)
+			return UnsignedMath.toBigInteger(longEngine.encode(value, rounding, DecimalCoding.DENSLY_PACKED_DECIMAL, flags));
+		
+		if(int128Engine != null) {
+			long[] hiLo = new long[2];
+			
+			int128Engine.encode(value, rounding, DecimalCoding.DENSLY_PACKED_DECIMAL, flags, hiLo);
+			
+			return UnsignedMath.toBigInteger(hiLo[0], hiLo[1]);
+		}
+		
+		EncodeInfo info = encodeCommon(value, rounding, flags);
 		
 		if(info.special())
 			return info.value();
 		
-		BigInteger unscaled = info.value().abs();
+		// split into the most significant digit and the digits encoded in declets
+		BigInteger[] divrem = info.value().abs().divideAndRemainder(declets);
+		
+		int mostSignificant = divrem[0].intValue();
+		
+		BigInteger unscaled = divrem[1];
 		BigInteger encoded = BigInteger.ZERO;
 		
-		for(int i = 0; i < significand; i += 10) {
-			int[] digs = getLeastSignificantDigits(unscaled);
+		for(int i = 0; i < significand; i += CHUNK_BITS) {
+			// encode up to 6 declets (18 digits) at once using primitive arithmetic
+			divrem = unscaled.divideAndRemainder(CHUNK);
+			
+			unscaled = divrem[0];
 			
-			unscaled = unscaled.divide(THOUSAND);
+			long chunk = divrem[1].longValue();
+			long block = 0;
 			
-			encoded = encoded.or(
-				BigInteger.valueOf(
-					encodeDPDBlock(digs[2], digs[1], digs[0])
-				).shiftLeft(i)
-			);
+			for(int j = 0; j < CHUNK_BITS && i + j < significand; j += 10) {
+				block |= (long) DPDTables.encode((int) (chunk % 1000)) << j;
+				chunk /= 1000;
+			}
+			
+			encoded = encoded.or(BigInteger.valueOf(block).shiftLeft(i));
 		}
 		
-		int mostSignificant = getLeastSignificantDigits(unscaled)[0];
-		
 		int scale = info.scale() + getBias();
 		
 		BigInteger expHigh = BigInteger.valueOf(scale >> (combination - 5));
@@ -234,65 +836,11 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 		return encoded;
 	}
 	
-	// returns the 3 least significant base-10 digits
-	private int[] getLeastSignificantDigits(BigInteger value) {
-		int[] digs = new int[3];
-		
-		for(int i = 0; i < 3; ++i) {
-			// least significant digit = value - 10 * floor(value / 10)
-			
-			BigInteger cleared = value.divide(BigInteger.TEN);
-			
-			digs[i] = value.subtract(cleared.multiply(BigInteger.TEN)).intValue();
-			
-			value = cleared;
-		}
-		
-		return digs;
-	}
-	
-	private static final int[] DPD_MASKS = {
-		// s = small digit (0-7), l = large digit (8-9)
-		0b0000000,	// sss 		xx 0xx
-		0b0001000,	// ssl		xx 100
-		0b0001010,	// sls		xx 101
-		0b1001110,	// sll		10 111
-		0b0001100,	// lss		xx 110
-		0b0101110,	// lsl		01 111
-		0b0001110,	// lls		00 111
-		0b1101110,	// lll		11 111
-	};
-
-	private int encodeDPDBlock(int a, int b, int c) {
-		boolean largeA = a > 7;
-		boolean largeB = b > 7;
-		boolean largeC = c > 7;
-		
-		a &= 7;
-		b &= 7;
-		c &= 7;
+	// if present, the flags are raised according to the result
+	private EncodeInfo encodeCommon(T value, Rounding rounding, StatusFlags flags) {
+		if(flags == null) // avoid null checks below
+			flags = new StatusFlags();
 		
-		int encoded = a << 7;
-		
-		if(!largeA && !largeB && !largeC)
-			return encoded| (b << 4) | c;
-		
-		encoded |= (c & 1) | ((b & 1) << 4);
-
-		if(!largeC)
-			encoded |= (c & 0b110) << (largeA ? 7 : 4);
-		
-		if(!largeB)
-			encoded |= (b & 0b110) << (largeA && largeC ? 7 : 4);
-
-		return encoded | DPD_MASKS[
-			(largeA ? 0b100 : 0) |
-			(largeB ? 0b010 : 0) |
-			(largeC ? 0b001 : 0)
-		];
-	}
-	
-	private EncodeInfo encodeCommon(T value) {
 		BigInteger result;
 		int scale = 0;
 		boolean special;
@@ -311,8 +859,10 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 			else if(value.isQuietNaN())
 				result = getQuietNaN(signum);
 				
-			else if(value.isSignalingNaN())
+			else if(value.isSignalingNaN()) {
+				flags.raise(StatusFlags.INVALID);
 				result = getSignalingNaN(signum);
+			}
 			
 			else result = getZero(signum);
 		}
@@ -326,8 +876,11 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 			int prec = bigdec.precision();
 			int max = getSignificandDigits();
 			
-			if(prec > max) { // truncate least significant digits
-				bigdec = truncateLeastSignificant(bigdec, prec - max);
+			if(prec > max) { // truncate least significant digits (which are not all zero)
+				// tiny if below the minimum normal value (10^(max - 1 - bias)) before rounding
+				flags.raise(prec - scale < max - getBias() ? StatusFlags.UNDERFLOW | StatusFlags.INEXACT : StatusFlags.INEXACT);
+				
+				bigdec = truncateLeastSignificant(bigdec, prec - max, rounding);
 				
 				scale = bigdec.scale();
 				prec = bigdec.precision();
@@ -336,18 +889,27 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 			result = bigdec.unscaledValue();
 			scale = -scale;
 			
-			int maxExp = getExponentSpan() >> 1;
-			int minExp = 2 - maxExp - max;
+			int maxExp = getExponentSpan() - 1 - getBias();
+			int minExp = -getBias();
 			
-			if(scale > maxExp) { // overflow => infinity
-				special = true;
-				result = value.getSignum() == -1
-					? getNegativeInfinity()
-					: getPositiveInfinity();
+			if(scale > maxExp) {
+				if(scale - maxExp + prec > max) { // overflow => infinity
+					flags.raise(StatusFlags.OVERFLOW | StatusFlags.INEXACT);
+					special = true;
+					result = value.getSignum() == -1
+						? getNegativeInfinity()
+						: getPositiveInfinity();
+				}
+				else { // exponent is too large to be encoded, pad the coefficient with zeros instead
+					result = result.multiply(Powers.pow10(scale - maxExp));
+					scale = maxExp;
+				}
 			}
-			else if(scale < 2 - maxExp - max) {
-				// truncate least significant digits
-				bigdec = truncateLeastSignificant(bigdec, minExp - scale);
+			else if(scale < minExp) {
+				// truncate least significant digits (which are not all zero)
+				flags.raise(StatusFlags.UNDERFLOW | StatusFlags.INEXACT);
+				
+				bigdec = truncateLeastSignificant(bigdec, minExp - scale, rounding);
 				
 				result = bigdec.unscaledValue();
 				scale = -bigdec.scale();
@@ -358,14 +920,11 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	}
 	
 	// truncate the n least significant digits of the value
-	private BigDecimal truncateLeastSignificant(BigDecimal value, int n) {
-		BigDecimal precise = new BigDecimal(
-			value.unscaledValue()
-			.divide(BigInteger.TEN.pow(n - 1))
-		).divide(BigDecimal.TEN);
+	private BigDecimal truncateLeastSignificant(BigDecimal value, int n, Rounding rounding) {
+		BigDecimal precise = new BigDecimal(value.unscaledValue(), n);
 		
 		return new BigDecimal(
-			Rounding.DEFAULT_ROUNDING
+			rounding
 				.roundDecimal(precise)
 				.toBigInteger(),
 			value.scale() - n
@@ -373,14 +932,76 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	}
 
 	/**
-	 * Decodes the floating point's binary representation using the representation method specified by {@link Decimal#DEFAULT_CODING}.
+	 * Decodes the floating point's binary representation using the representation method specified by the
+	 * {@link #getOptions() options} (which default to {@link Decimal#DEFAULT_CODING}).
 	 * 
 	 * @param value the binary representation
 	 * @return the decoded floating point number
 	 */
 	@Override
 	public T decode(BigInteger value) {
-		return Decimal.DEFAULT_CODING == DecimalCoding.DENSLY_PACKED_DECIMAL
+		return decode(value, getOptions());
+	}
+	
+	/**
+	 * Decodes the floating point's binary representation using the representation method specified by the given options
+	 * 
+	 * @param value the binary representation
+	 * @param options the options
+	 * @return the decoded floating point number
+	 */
+	@Override
+	public T decode(@NonNull BigInteger value, @NonNull CodecOptions options) {
+		return options.coding() == DecimalCoding.DENSLY_PACKED_DECIMAL
+			? decodeDPD(value)
+			: decodeBID(value);
+	}
+
+	/**
+	 * Lazily decodes the floating point's binary representation using the representation method specified by the
+	 * {@link #getOptions() options} (which default to {@link Decimal#DEFAULT_CODING}).
+	 * 
+	 * @param value the binary representation
+	 * @return the (possibly not yet decoded) floating point number
+	 * @see FloatingCodec#decodeLazy(BigInteger)
+	 */
+	@Override
+	public T decodeLazy(BigInteger value) {
+		return decodeLazy(value, getOptions().coding());
+	}
+
+	/**
+	 * Lazily decodes the floating point's binary representation using the binary integer decimal representation method
+	 * 
+	 * @param value the binary representation
+	 * @return the (possibly not yet decoded) floating point number
+	 * @see FloatingCodec#decodeLazy(BigInteger)
+	 */
+	public T decodeBIDLazy(BigInteger value) {
+		return decodeLazy(value, DecimalCoding.BINARY_INTEGER_DECIMAL);
+	}
+
+	/**
+	 * Lazily decodes the floating point's binary representation using the densly packed decimal representation method
+	 * 
+	 * @param value the binary representation
+	 * @return the (possibly not yet decoded) floating point number
+	 * @see FloatingCodec#decodeLazy(BigInteger)
+	 */
+	public T decodeDPDLazy(BigInteger value) {
+		return decodeLazy(value, DecimalCoding.DENSLY_PACKED_DECIMAL);
+	}
+	
+	private T decodeLazy(BigInteger value, DecimalCoding coding) {
+		T lazy = null;
+		
+		if(!isInfinity(value) && !isNaN(value) && factory instanceof DecimalFactory<T> decimalFactory)
+			lazy = decimalFactory.createLazy(isNegative(value) ? -1 : +1, value, coding);
+		
+		if(lazy != null)
+			return lazy;
+		
+		return coding == DecimalCoding.DENSLY_PACKED_DECIMAL
 			? decodeDPD(value)
 			: decodeBID(value);
 	}
@@ -392,6 +1013,12 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	 * @return the decoded floating point number
 	 */
 	public T decodeBID(BigInteger value) {
+		if(longEngine != null)
+			return longEngine.decode(value.longValue(), DecimalCoding.BINARY_INTEGER_DECIMAL);
+		
+		if(int128Engine != null)
+			return int128Engine.decode(value.shiftRight(64).longValue(), value.longValue(), DecimalCoding.BINARY_INTEGER_DECIMAL);
+		
 		// extract sign (most significant bit)
 		boolean sign = isNegative(value);
 		
@@ -439,8 +1066,7 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 			significand = BigInteger.ZERO; // treat significand as 0 if out of range
 		
 		// 10^(exponent-bias) * significand
-		BigDecimal result = new BigDecimal(significand)
-			.multiply(pow10(exponent - getBias()))
+		BigDecimal result = new BigDecimal(significand, getBias() - exponent)
 			.stripTrailingZeros();
 		
 		if(sign)
@@ -456,6 +1082,12 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	 * @return the decoded floating point number
 	 */
 	public T decodeDPD(BigInteger value) {
+		if(longEngine != null)
+			return longEngine.decode(value.longValue(), DecimalCoding.DENSLY_PACKED_DECIMAL);
+		
+		if(int128Engine != null)
+			return int128Engine.decode(value.shiftRight(64).longValue(), value.longValue(), DecimalCoding.DENSLY_PACKED_DECIMAL);
+		
 		// extract sign (most significant bit)
 		boolean sign = isNegative(value);
 		
@@ -509,20 +1141,23 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 		
 		BigInteger trueSignificand = BigInteger.valueOf(digit);
 		
-		for(int i = 0; i < this.significand; i += 10)
+		for(int i = this.significand; i > 0; i -= CHUNK_BITS) {
+			// decode up to 6 declets (18 digits) at once using primitive arithmetic
+			int bits = Math.min(i, CHUNK_BITS);
+			
+			long block = significand.shiftRight(i - bits).longValue();
+			long chunk = 0;
+			
+			for(int j = bits - 10; j >= 0; j -= 10)
+				chunk = chunk * 1000 + DPDTables.decode((int) (block >>> j));
+			
 			trueSignificand = trueSignificand
-				.multiply(BigInteger.valueOf(1000))
-				.add(BigInteger.valueOf(
-					decodeDPDBlock(
-						significand.shiftRight(this.significand - i - 10)
-							.and(mask(10))
-							.intValue()
-					)
-				));
+				.multiply(bits == CHUNK_BITS ? CHUNK : Powers.pow10(bits / 10 * 3))
+				.add(BigInteger.valueOf(chunk));
+		}
 		
 		// 10^(exponent-bias) * significand
-		BigDecimal result = new BigDecimal(trueSignificand)
-			.multiply(pow10(exponent - getBias()))
+		BigDecimal result = new BigDecimal(trueSignificand, getBias() - exponent)
 			.stripTrailingZeros();
 		
 		if(sign)
@@ -531,41 +1166,6 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 		return factory.create(sign ? -1 : +1, result);
 	}
 	
-	private int decodeDPDBlock(int block) {
-		if((block & 0b1000) == 0)
-			return (block & 7)
-				+ 10 * ((block >> 4) & 7)
-				+ 100 * ((block >> 7) & 7);
-		
-		int c = block & 1;
-		int b = (block >> 4) & 1;
-		int a = (block >> 7) & 1;
-
-		int modeC = (block >> 1) & 3;
-		int modeB = (block >> 5) & 3;
-		
-		int part1 = modeB << 1;
-		int part2 = ((block >> 8) & 3) << 1;
-		
-		if(modeC == 1)
-			c |= part1;
-		else if(modeC == 2 || (modeC == 3 && modeB == 0))
-			c |= part2;
-		else c |= 8;
-		
-		if((modeC & 1) == 0)
-			b |= part1;
-		else if(modeC == 3 && modeB == 1)
-			b |= part2;
-		else b |= 8;
-		
-		if((modeC & 2) == 0 || (modeC == 3 && modeB == 2))
-			a |= part2;
-		else a |= 8;
-		
-		return 100 * a + 10 * b + c;
-	}
-	
 	// decode NaN and Infinity
 	private DecodeInfo<T> decodeCommon(BigInteger combination, boolean sign) {
 		
@@ -595,20 +1195,52 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 		return new DecodeInfo<T>(high, special, specialValue);
 	}
 	
-	// create a bit mask with n bits set (e.g. n=4 returns 0b1111)
-	private BigInteger mask(int n) {
-		return BigInteger.ONE.shiftLeft(n).subtract(BigInteger.ONE);
+	/*
+	 * returns the binary representation a lazily decoded value was created from (which is exact, so the rounding mode
+	 * does not matter), or null if there is none, it uses a different coding or it was created by a codec of a different format
+	 */
+	private BigInteger getLazyBits(T value, DecimalCoding coding) {
+		BigInteger encoded = FloatingCodec.getLazyEncoding(value);
+		
+		if(encoded == null || value.getLazyCoding() != coding)
+			return null;
+		
+		return value.getCodec() == this || value.getCodec() instanceof DecimalCodec<?> codec
+			&& codec.combination == combination && codec.significand == significand
+			? encoded
+			: null;
 	}
 	
-	// computes 10^n
-	private BigDecimal pow10(int n) {
-		if(n == 0)
-			return BigDecimal.ONE;
+	// checks whether the binary representation of a finite value encodes 0, without decoding it
+	boolean isZero(BigInteger value, DecimalCoding coding) {
+		BigInteger combination = getCombination(value);
+		BigInteger combId = combination.shiftRight(this.combination - 6);
+		BigInteger significand = getSignificand(value);
+		
+		if(combId.and(MASK_SPECIAL).compareTo(MASK_SPECIAL) == 0)
+			return false;
+		
+		// the most significant digit is either 8 or 9
+		boolean high = combId.and(MASK_HIGH).compareTo(MASK_HIGH) == 0;
+		
+		if(coding == DecimalCoding.DENSLY_PACKED_DECIMAL)
+			return !high
+				&& !combId.testBit(1) && !combId.testBit(2) && !combId.testBit(3)
+				&& significand.signum() == 0;
+		
+		BigInteger coefficient = high
+			? BigInteger.valueOf(0b1000 | (combination.testBit(0) ? 1 : 0))
+			: combination.and(BigInteger.valueOf(0b111));
 		
-		if(n < 0)
-			return BigDecimal.ONE.divide(pow10(-n));
+		coefficient = coefficient.shiftLeft(this.significand).or(significand);
 		
-		return BigDecimal.TEN.pow(n);
+		// coefficients exceeding the precision are treated as 0
+		return coefficient.signum() == 0 || getDigits(coefficient) > getSignificandDigits();
+	}
+	
+	// create a bit mask with n bits set (e.g. n=4 returns 0b1111)
+	private BigInteger mask(int n) {
+		return BigInteger.ONE.shiftLeft(n).subtract(BigInteger.ONE);
 	}
 	
 	// returns the number of digits
@@ -621,6 +1253,30 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 		return dec.precision() - dec.scale();
 	}
 	
+	/** {@inheritDoc} */
+	@Override
+	public int getWidth() {
+		return combination + significand + 1;
+	}
+	
+	// checks whether coefficient * 10^exponent is exactly representable, i.e. it is neither rounded, nor overflows or underflows
+	boolean isRepresentable(long coefficient, int exponent) {
+		if(coefficient == 0)
+			return true;
+		
+		// remove trailing zeros (they can be added again, if the exponent is too large)
+		while(coefficient % 10 == 0) {
+			coefficient /= 10;
+			++exponent;
+		}
+		
+		int length = LongDecimalEngine.getDigits(coefficient);
+		
+		return length <= digits
+			&& exponent >= -bias
+			&& (long) exponent + length - digits <= maxExponent;
+	}
+	
 	// returns the number of encodable exponents
 	private int getExponentSpan() {
 		return BigInteger.TWO.pow(combination - 5)
@@ -634,13 +1290,7 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	 * @return the bias
 	 */
 	public int getBias() {
-		// floor(log10(10 * 2^significand - 1)) + floor(3 * 2^(combination - 5) / 2) - 2
-		return memoize(
-			MEMOIZE_EXPBIAS,
-			() -> BigInteger.valueOf(getSignificandDigits() - 2) // floor(log10(...)) - 2
-				.add(BigInteger.valueOf(getExponentSpan() >> 1))
-				.intValue()
-		);
+		return bias;
 	}
 	
 	/**
@@ -649,10 +1299,7 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	 * @return the maximum number of decimal digits
 	 */
 	public int getSignificandDigits() {
-		return memoize(
-			MEMOIZE_SIGDIGS,
-			() -> 1 + significand / 10 * 3
-		);
+		return digits;
 	}
 
 	/**
@@ -713,22 +1360,13 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	/** {@inheritDoc} */
 	@Override
 	public BigInteger getPositiveInfinity() {
-		return memoize(
-			MEMOIZE_POS_INF,
-			() -> MASK_INFINITY
-				.shiftLeft(combination - 5 + significand)
-		);
+		return positiveInfinity;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public BigInteger getNegativeInfinity() {
-		return memoize(
-			MEMOIZE_NEG_INF,
-			() -> MASK_INFINITY
-				.or(MASK_NEGATIVE)
-				.shiftLeft(combination - 5 + significand)
-		);
+		return negativeInfinity;
 	}
 
 	/** {@inheritDoc} */
@@ -788,75 +1426,51 @@ public class DecimalCodec<T extends Decimal<T>> extends FloatingCodec<T> {
 	/** {@inheritDoc} */
 	@Override
 	public T getMinSubnormalValue() {
-		return memoize(
-			MEMOIZE_SMINVAL,
-			() -> decodeBID(BigInteger.ONE)
-		);
+		return minSubnormalValue;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public T getMinValue() {
-		return memoize(
-			MEMOIZE_MIN_VAL,
-			() -> decodeDPD(BigInteger.ONE.shiftLeft(significand + combination - 5))
-		);
+		return minValue;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public T getMaxValue() {
-		return memoize(
-			MEMOIZE_MAX_VAL,
-			() -> decodeDPD(
-				BigInteger.valueOf(0b111)
-					.shiftLeft(significand + combination - 3)
-					.or(mask(significand + combination - 4))
-			)
-		);
+		return maxValue;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public BigDecimal getEpsilon() {
-		return memoize(
-			MEMOIZE_EPSILON,
-			() -> {
-				int bias = getBias() - getSignificandDigits() + 1;
-				
-				int lo = bias & mask(combination - 5).intValue();
-				int hi = bias >> (combination - 5);
-				
-				// smallest number larger than 1
-				BigInteger value = BigInteger.valueOf(hi)
-					.shiftLeft(3)
-					.or(BigInteger.ONE)
-					.shiftLeft(combination - 5)
-					.or(BigInteger.valueOf(lo))
-					.shiftLeft(significand)
-					.or(BigInteger.ONE);
-				
-				return decodeDPD(value)
-					.getBigDecimal()
-					.subtract(BigDecimal.ONE);
-			}
-		);
+		return epsilon;
+	}
+	
+	private BigDecimal computeEpsilon() {
+		int bias = this.bias - digits + 1;
+		
+		int lo = bias & mask(combination - 5).intValue();
+		int hi = bias >> (combination - 5);
+		
+		// smallest number larger than 1
+		BigInteger value = BigInteger.valueOf(hi)
+			.shiftLeft(3)
+			.or(BigInteger.ONE)
+			.shiftLeft(combination - 5)
+			.or(BigInteger.valueOf(lo))
+			.shiftLeft(significand)
+			.or(BigInteger.ONE);
+		
+		return decodeDPD(value)
+			.getBigDecimal()
+			.subtract(BigDecimal.ONE);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public Map.Entry<Integer, Integer> getExponentRange() {
-		return memoize(
-			MEMOIZE_EXRANGE,
-			() -> {
-				int span = getExponentSpan() >> 1;
-				
-				return Map.entry(
-					2 - span,
-					1 + span
-				);
-			}
-		);
+		return exponentRange;
 	}
 
 	private static record EncodeInfo(boolean special, BigInteger value, int scale) { }
@@ -0,0 +1,63 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.decimal;
+
+import java.math.BigInteger;
+
+import at.syntaxerror.ieee754.Floating;
+import at.syntaxerror.ieee754.FloatingFactory;
+
+/**
+ * This class is used to create new {@link Decimal} objects
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public interface DecimalFactory<T extends Decimal<T>> extends FloatingFactory<T> {
+
+	/**
+	 * Creates a new finite {@link Decimal} with the value {@code signum * coefficient * 10^exponent}
+	 * (see {@link Decimal#Decimal(int, long, int)}).
+	 * 
+	 * @param signum the signum (either -1 or 1)
+	 * @param coefficient the (non-negative) coefficient
+	 * @param exponent the decimal exponent
+	 * @return the new Decimal
+	 * @throws IllegalArgumentException if the value is not exactly representable by the format
+	 */
+	T create(int signum, long coefficient, int exponent);
+
+	/**
+	 * Creates a new finite {@link Decimal} backed by its binary representation, whose value is only decoded when needed
+	 * (see {@link Floating#Floating(int, BigInteger)}).
+	 * <p>Since the coding method must always be specified, the inherited {@link #createLazy(int, BigInteger)} (which returns {@code null}) is not supported
+	 * for decimals.
+	 * 
+	 * @param signum the signum (either -1 or 1)
+	 * @param encoded the binary representation
+	 * @param coding the coding method used by the binary representation
+	 * @return the new Decimal, or {@code null} if not supported
+	 */
+	T createLazy(int signum, BigInteger encoded, DecimalCoding coding);
+	
+}
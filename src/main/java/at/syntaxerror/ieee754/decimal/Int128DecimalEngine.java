@@ -0,0 +1,588 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.decimal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import at.syntaxerror.ieee754.FloatingFactory;
+import at.syntaxerror.ieee754.FloatingType;
+import at.syntaxerror.ieee754.StatusFlags;
+import at.syntaxerror.ieee754.internal.ParsedDecimal;
+import at.syntaxerror.ieee754.internal.Powers;
+import at.syntaxerror.ieee754.internal.UnsignedMath;
+import at.syntaxerror.ieee754.rounding.Rounding;
+
+/**
+ * This class implements encoding and decoding of IEEE 754 decimal floating point numbers
+ * whose binary representation fits into 128 bits (stored as a pair of {@code long}s),
+ * using only primitive arithmetic for all but very precise values.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class Int128DecimalEngine<T extends Decimal<T>> {
+
+	// 10^n for n = 0..18 (10^18 is the largest power of 10 below 2^63)
+	private static final long[] POW10 = new long[19];
+	
+	// 10^n for n = 0..38 (10^38 is the largest power of 10 below 2^127), high and low 64 bits
+	private static final long[] POW10_HI = new long[39];
+	private static final long[] POW10_LO = new long[39];
+	
+	private static final int CHUNK_DIGITS = 18; // the number of digits processed at once
+	private static final int CHUNK_DECLETS = CHUNK_DIGITS / 3;
+	
+	static {
+		POW10[0] = 1;
+		
+		for(int i = 1; i < POW10.length; ++i)
+			POW10[i] = POW10[i - 1] * 10;
+		
+		for(int i = 0; i < POW10_HI.length; ++i) {
+			BigInteger pow = Powers.pow10(i);
+			
+			POW10_HI[i] = pow.shiftRight(64).longValue();
+			POW10_LO[i] = pow.longValue();
+		}
+	}
+	
+	private final int combination;
+	private final int significand;
+	
+	private final FloatingFactory<T> factory;
+	
+	private final int digits;			// maximum number of decimal digits
+	private final int declets;			// number of declets (DPD)
+	private final int bias;
+	private final int minExponent;		// exponent of the least significant digit of the minimum subnormal value
+	private final int maxExponent;		// exponent of the least significant digit of the maximum value
+	private final int signShift;		// position of the sign bit
+	
+	private final long combinationMask;
+	private final long exponentMask;
+	private final long expLowMask;		// exponent bits following the 5 most significant combination bits (DPD)
+	
+	Int128DecimalEngine(int combination, int significand, FloatingFactory<T> factory) {
+		this.combination = combination;
+		this.significand = significand;
+		this.factory = factory;
+		
+		int span = 3 << (combination - 5);
+		
+		declets = significand / 10;
+		digits = 1 + declets * 3;
+		bias = digits - 2 + (span >> 1);
+		minExponent = -bias;
+		maxExponent = span - 1 - bias;
+		signShift = combination + significand;
+		
+		combinationMask = (1L << combination) - 1;
+		exponentMask = (1L << (combination - 3)) - 1;
+		expLowMask = (1L << (combination - 5)) - 1;
+	}
+	
+	/**
+	 * Checks whether the binary representation of a codec fits into 128 bits
+	 * 
+	 * @param combination the number of combination bits
+	 * @param significand the number of significand bits
+	 * @return whether this engine supports the codec
+	 */
+	static boolean isSupported(int combination, int significand) {
+		return combination + significand + 1 <= 128
+			&& 1 + significand / 10 * 3 < POW10_HI.length;
+	}
+	
+	void encode(T value, Rounding rounding, DecimalCoding coding, StatusFlags flags, long[] hiLo) {
+		boolean sign = value.isNegative();
+		
+		if(!value.isFinite()) {
+			
+			if(value.isSignalingNaN()) {
+				if(flags != null)
+					flags.raise(StatusFlags.INVALID);
+				
+				setSignalingNaN(sign, hiLo);
+			}
+			
+			else if(value.isQuietNaN())
+				setQuietNaN(sign, hiLo);
+			
+			else setInfinity(sign, hiLo);
+			
+			return;
+		}
+		
+		if(value.isZero()) {
+			setZero(sign, hiLo);
+			return;
+		}
+		
+		if(value.isCompact()) { // value = coefficient * 10^exponent
+			encode(sign, 0, value.getCompactCoefficient(), value.getCompactExponent(), false, rounding, coding, flags, hiLo);
+			return;
+		}
+		
+		encode(sign, value.getBigDecimal(), rounding, coding, flags, hiLo);
+	}
+	
+	// encodes the finite, non-zero value
+	void encode(boolean sign, BigDecimal bigdec, Rounding rounding, DecimalCoding coding, StatusFlags flags, long[] hiLo) {
+		BigInteger unscaled = bigdec.unscaledValue().abs();
+		long exponent = -(long) bigdec.scale();
+		boolean sticky = false;
+		
+		if(unscaled.bitLength() >= 128) {
+			// keep the 38 most significant digits, the remaining digits only affect rounding
+			int drop = bigdec.precision() - (POW10_HI.length - 1);
+			
+			BigInteger[] divrem = unscaled.divideAndRemainder(Powers.pow10(drop));
+			
+			unscaled = divrem[0];
+			sticky = divrem[1].signum() != 0;
+			exponent += drop;
+		}
+		
+		encode(sign, unscaled.shiftRight(64).longValue(), unscaled.longValue(), exponent, sticky, rounding, coding, flags, hiLo);
+	}
+	
+	void parse(ParsedDecimal decimal, CharSequence text, Rounding rounding, DecimalCoding coding, long[] hiLo) {
+		boolean sign = decimal.negative();
+		
+		if(decimal.type() == FloatingType.INFINITE)
+			setInfinity(sign, hiLo);
+		
+		else if(decimal.type() == FloatingType.QUIET_NAN)
+			setQuietNaN(sign, hiLo);
+		
+		else if(decimal.isZero())
+			setZero(sign, hiLo);
+		
+		// the dropped digits are only taken into account if the coefficient is rounded anyway
+		else if(decimal.truncated() && Math.max(getDigits(0, decimal.significand()) - digits, minExponent - decimal.exponent()) <= 0)
+			encode(sign, decimal.toBigDecimal(text, minExponent - 1, maxExponent + digits), rounding, coding, null, hiLo);
+		
+		else encode(sign, 0, decimal.significand(), decimal.exponent(), decimal.truncated(), rounding, coding, null, hiLo);
+	}
+	
+	/* 
+	 * encodes the value (coefficient * 10^exponent), rounding it to the precision of the format.
+	 * the coefficient is given by its high and low 64 bits.
+	 * the sticky flag indicates whether the value was inexact (i.e. whether there are
+	 * any non-zero digits following the least significant digit of 'coefficient').
+	 * if present, the flags are raised according to the result
+	 */
+	private void encode(boolean sign, long hi, long lo, long exponent, boolean sticky, Rounding rounding, DecimalCoding coding,
+			StatusFlags flags, long[] hiLo) {
+		if(hi == 0 && lo == 0 && !sticky) {
+			setZero(sign, hiLo);
+			return;
+		}
+		
+		int count = getDigits(hi, lo);
+		long drop = Math.max(count - digits, minExponent - exponent);
+		
+		if(drop > 0) {
+			// tiny if below the minimum normal value (10^(digits - 1) * 10^minExponent) before rounding
+			boolean tiny = count + exponent < minExponent + digits;
+			
+			int digit = 0; // first discarded digit
+			
+			if(drop > count) { // all digits are discarded
+				sticky |= hi != 0 || lo != 0;
+				hi = lo = 0;
+			}
+			else {
+				// discard up to 18 digits at once, starting with the least significant digits
+				for(int remaining = (int) drop; remaining > 0; ) {
+					int n = Math.min(remaining, CHUNK_DIGITS);
+					long pow = POW10[n];
+					
+					long quotientLo = UnsignedMath.divide(Long.remainderUnsigned(hi, pow), lo, pow);
+					long remainder = lo - quotientLo * pow;
+					
+					hi = Long.divideUnsigned(hi, pow);
+					lo = quotientLo;
+					
+					remaining -= n;
+					
+					if(remaining == 0) {
+						digit = (int) (remainder / POW10[n - 1]);
+						sticky |= remainder % POW10[n - 1] != 0;
+					}
+					else sticky |= remainder != 0;
+				}
+			}
+			
+			// the round bit is set if the discarded digits are at least half an ULP,
+			// the sticky bit is set if the discarded digits are not exactly 0 or half an ULP
+			boolean round = digit >= 5;
+			
+			if(rounding.roundBinary(sign, (lo & 1) != 0, round, sticky || digit != (round ? 5 : 0)) && ++lo == 0)
+				++hi;
+			
+			if((digit != 0 || sticky) && flags != null)
+				flags.raise(tiny ? StatusFlags.UNDERFLOW | StatusFlags.INEXACT : StatusFlags.INEXACT);
+			
+			if(hi == 0 && lo == 0) { // underflow
+				setZero(sign, hiLo);
+				return;
+			}
+			
+			exponent += drop;
+		}
+		
+		// use the representation with the least number of digits
+		while((lo & 1) == 0) { // only even numbers are divisible by 10
+			long quotientLo = UnsignedMath.divide(Long.remainderUnsigned(hi, 10), lo, 10);
+			
+			if(lo - quotientLo * 10 != 0)
+				break;
+			
+			hi = Long.divideUnsigned(hi, 10);
+			lo = quotientLo;
+			++exponent;
+		}
+		
+		if(exponent > maxExponent) {
+			// exponent is too large to be encoded, pad the coefficient with zeros instead
+			long pad = exponent - maxExponent;
+			
+			if(pad + getDigits(hi, lo) > digits) { // overflow
+				if(flags != null)
+					flags.raise(StatusFlags.OVERFLOW | StatusFlags.INEXACT);
+				
+				if(rounding.roundBinary(sign, true, true, true))
+					setInfinity(sign, hiLo);
+				
+				else setMaxValue(sign, coding, hiLo);
+				
+				return;
+			}
+			
+			for(int remaining = (int) pad; remaining > 0; ) {
+				int n = Math.min(remaining, CHUNK_DIGITS);
+				long pow = POW10[n];
+				
+				hi = hi * pow + Math.unsignedMultiplyHigh(lo, pow);
+				lo *= pow;
+				
+				remaining -= n;
+			}
+			
+			exponent = maxExponent;
+		}
+		
+		if(coding == DecimalCoding.DENSLY_PACKED_DECIMAL)
+			packDPD(sign, hi, lo, (int) exponent, hiLo);
+		
+		else packBID(sign, hi, lo, (int) exponent, hiLo);
+	}
+	
+	// returns the number of decimal digits
+	private static int getDigits(long hi, long lo) {
+		int bits = 128 - UnsignedMath.numberOfLeadingZeros(hi, lo);
+		
+		// floor(bits * log10(2)), which is either the number of digits or one less
+		int n = (bits * 1233) >>> 12;
+		
+		return compare(hi, lo, POW10_HI[n], POW10_LO[n]) >= 0
+			? n + 1
+			: Math.max(n, 1);
+	}
+	
+	// compares two unsigned 128-bit integers
+	private static int compare(long aHi, long aLo, long bHi, long bLo) {
+		return aHi != bHi
+			? Long.compareUnsigned(aHi, bHi)
+			: Long.compareUnsigned(aLo, bLo);
+	}
+	
+	private void packBID(boolean sign, long hi, long lo, int exponent, long[] hiLo) {
+		long biased = exponent + bias;
+		
+		if(UnsignedMath.shiftRightLow(hi, lo, significand) > 7) { // most significant digit is 8 or 9, '100' is implied
+			hiLo[0] = mask(hi, lo, significand + 1, 0);
+			hiLo[1] = mask(hi, lo, significand + 1, 1);
+			
+			or(0b11L, significand + combination - 2, hiLo);
+			or(biased, significand + 1, hiLo);
+		}
+		else {
+			hiLo[0] = hi;
+			hiLo[1] = lo;
+			
+			or(biased, significand + 3, hiLo);
+		}
+		
+		if(sign)
+			or(1, signShift, hiLo);
+	}
+	
+	private void packDPD(boolean sign, long hi, long lo, int exponent, long[] hiLo) {
+		hiLo[0] = hiLo[1] = 0;
+		
+		// encode up to 6 declets (18 digits) at once, starting with the least significant digits
+		for(int i = 0; i < declets; i += CHUNK_DECLETS) {
+			int n = Math.min(declets - i, CHUNK_DECLETS);
+			long pow = POW10[3 * n];
+			
+			long quotientLo = UnsignedMath.divide(Long.remainderUnsigned(hi, pow), lo, pow);
+			long chunk = lo - quotientLo * pow;
+			
+			hi = Long.divideUnsigned(hi, pow);
+			lo = quotientLo;
+			
+			long block = 0;
+			
+			for(int j = 0; j < n; ++j) {
+				block |= (long) DPDTables.encode((int) (chunk % 1000)) << (10 * j);
+				chunk /= 1000;
+			}
+			
+			or(block, 10 * i, hiLo);
+		}
+		
+		// coefficient now only consists of the most significant digit
+		
+		int biased = exponent + bias;
+		int expHigh = biased >>> (combination - 5);
+		
+		long field = lo > 7 // most significant digit is 8 or 9, '100' is implied
+			? 0b11000 | (expHigh << 1) | (lo & 1)
+			: (expHigh << 3) | lo;
+		
+		or(field, significand + combination - 5, hiLo);
+		or(biased & expLowMask, significand, hiLo);
+		
+		if(sign)
+			or(1, signShift, hiLo);
+	}
+	
+	// returns the high (index = 0) or low (index = 1) 64 bits of the n least significant bits
+	private static long mask(long hi, long lo, int n, int index) {
+		if(index == 1)
+			return n < 64 ? lo & ((1L << n) - 1) : lo;
+		
+		return n <= 64 ? 0 : hi & (n < 128 ? (1L << (n - 64)) - 1 : -1L);
+	}
+	
+	// performs a bitwise OR with (value << shift)
+	private static void or(long value, int shift, long[] hiLo) {
+		hiLo[0] |= UnsignedMath.shiftLeftHigh(0, value, shift);
+		hiLo[1] |= UnsignedMath.shiftLeftLow(0, value, shift);
+	}
+	
+	T decode(long hi, long lo, DecimalCoding coding) {
+		boolean sign = (UnsignedMath.shiftRightLow(hi, lo, signShift) & 1) != 0;
+		int signum = sign ? -1 : +1;
+		
+		int combination = getCombination(hi, lo);
+		
+		if(isSpecial(combination)) { // Infinity or NaN
+			
+			if(((combination >>> (this.combination - 5)) & 1) == 0)
+				return factory.create(signum, FloatingType.INFINITE);
+			
+			return factory.create(
+				signum,
+				((combination >>> (this.combination - 6)) & 1) != 0
+					? FloatingType.SIGNALING_NAN
+					: FloatingType.QUIET_NAN
+			);
+		}
+		
+		long[] coefficient = new long[2];
+		int exponent;
+		
+		if(coding == DecimalCoding.DENSLY_PACKED_DECIMAL) {
+			getCoefficientDPD(hi, lo, combination, coefficient);
+			exponent = getExponentDPD(combination);
+		}
+		else {
+			getCoefficient(hi, lo, combination, coefficient);
+			exponent = getExponent(combination);
+		}
+		
+		hi = coefficient[0];
+		lo = coefficient[1];
+		
+		if(hi == 0 && lo == 0)
+			return factory.create(signum, BigDecimal.ZERO);
+		
+		// strip trailing zeros
+		while((lo & 1) == 0) { // only even numbers are divisible by 10
+			long quotientLo = UnsignedMath.divide(Long.remainderUnsigned(hi, 10), lo, 10);
+			
+			if(lo - quotientLo * 10 != 0)
+				break;
+			
+			hi = Long.divideUnsigned(hi, 10);
+			lo = quotientLo;
+			++exponent;
+		}
+		
+		BigDecimal result = hi == 0 && lo >= 0
+			? BigDecimal.valueOf(lo, -exponent)
+			: new BigDecimal(UnsignedMath.toBigInteger(hi, lo), -exponent);
+		
+		if(sign)
+			result = result.negate();
+		
+		return factory.create(signum, result);
+	}
+	
+	void decodeCoefficient(long hi, long lo, long[] coefficient) {
+		int combination = getCombination(hi, lo);
+		
+		if(isSpecial(combination))
+			coefficient[0] = coefficient[1] = 0;
+		
+		else getCoefficient(hi, lo, combination, coefficient);
+	}
+	
+	int decodeExponent(long hi, long lo) {
+		int combination = getCombination(hi, lo);
+		
+		if(isSpecial(combination))
+			return 0;
+		
+		return getExponent(combination);
+	}
+	
+	private int getCombination(long hi, long lo) {
+		return (int) (UnsignedMath.shiftRightLow(hi, lo, significand) & combinationMask);
+	}
+	
+	// if combination's 4 MSB are 1111, the value is Infinity or NaN
+	private boolean isSpecial(int combination) {
+		return (combination >>> (this.combination - 4)) == 0b1111;
+	}
+	
+	// if combination's 2 MSB are 11, the most significant digit is 8 or 9
+	private boolean isLarge(int combination) {
+		return (combination >>> (this.combination - 2)) == 0b11;
+	}
+	
+	private void getCoefficient(long hi, long lo, int combination, long[] coefficient) {
+		long digit = isLarge(combination)
+			? 0b1000 | (combination & 1)
+			: combination & 0b111;
+		
+		long coefficientHi = mask(hi, lo, significand, 0) | UnsignedMath.shiftLeftHigh(0, digit, significand);
+		long coefficientLo = mask(hi, lo, significand, 1) | UnsignedMath.shiftLeftLow(0, digit, significand);
+		
+		if(compare(coefficientHi, coefficientLo, POW10_HI[digits], POW10_LO[digits]) >= 0)
+			coefficientHi = coefficientLo = 0; // treat significand as 0 if out of range
+		
+		coefficient[0] = coefficientHi;
+		coefficient[1] = coefficientLo;
+	}
+	
+	private void getCoefficientDPD(long hi, long lo, int combination, long[] coefficient) {
+		int field = combination >>> (this.combination - 5);
+		
+		long coefficientHi = 0;
+		long coefficientLo = isLarge(combination)
+			? 0b1000 | (field & 1)
+			: field & 0b111;
+		
+		// decode up to 6 declets (18 digits) at once, starting with the most significant digits
+		for(int i = declets; i > 0; i -= CHUNK_DECLETS) {
+			int n = Math.min(i, CHUNK_DECLETS);
+			
+			long block = UnsignedMath.shiftRightLow(hi, lo, 10 * (i - n));
+			long chunk = 0;
+			
+			for(int j = n - 1; j >= 0; --j)
+				chunk = chunk * 1000 + DPDTables.decode((int) (block >>> (10 * j)));
+			
+			// coefficient = coefficient * 10^(3n) + chunk
+			long pow = POW10[3 * n];
+			
+			coefficientHi = coefficientHi * pow + Math.unsignedMultiplyHigh(coefficientLo, pow);
+			coefficientLo *= pow;
+			
+			coefficientLo += chunk;
+			
+			if(Long.compareUnsigned(coefficientLo, chunk) < 0) // carry
+				++coefficientHi;
+		}
+		
+		coefficient[0] = coefficientHi;
+		coefficient[1] = coefficientLo;
+	}
+	
+	private int getExponent(int combination) {
+		return (int) ((combination >>> (isLarge(combination) ? 1 : 3)) & exponentMask) - bias;
+	}
+	
+	private int getExponentDPD(int combination) {
+		int expHigh = isLarge(combination)
+			? (combination >>> (this.combination - 4)) & 0b11
+			: combination >>> (this.combination - 2);
+		
+		return ((expHigh << (this.combination - 5)) | (int) (combination & expLowMask)) - bias;
+	}
+	
+	private void setSpecial(boolean sign, long value, int shift, long[] hiLo) {
+		hiLo[0] = hiLo[1] = 0;
+		
+		or(value, shift, hiLo);
+		
+		if(sign)
+			or(1, signShift, hiLo);
+	}
+	
+	void setZero(boolean sign, long[] hiLo) {
+		setSpecial(sign, 0, 0, hiLo);
+	}
+	
+	void setInfinity(boolean sign, long[] hiLo) {
+		setSpecial(sign, 0b11110L, significand + combination - 5, hiLo);
+	}
+	
+	void setMaxValue(boolean sign, DecimalCoding coding, long[] hiLo) {
+		long hi = POW10_HI[digits];
+		long lo = POW10_LO[digits];
+		
+		// 10^digits - 1
+		if(lo-- == 0)
+			--hi;
+		
+		if(coding == DecimalCoding.DENSLY_PACKED_DECIMAL)
+			packDPD(sign, hi, lo, maxExponent, hiLo);
+		
+		else packBID(sign, hi, lo, maxExponent, hiLo);
+	}
+	
+	void setQuietNaN(boolean sign, long[] hiLo) {
+		setSpecial(sign, 0b11111L, significand + combination - 5, hiLo);
+	}
+	
+	void setSignalingNaN(boolean sign, long[] hiLo) {
+		setSpecial(sign, 0b111111L, significand + combination - 6, hiLo);
+	}
+	
+}
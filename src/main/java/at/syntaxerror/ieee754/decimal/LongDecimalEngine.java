@@ -0,0 +1,458 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.decimal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import at.syntaxerror.ieee754.FloatingFactory;
+import at.syntaxerror.ieee754.FloatingType;
+import at.syntaxerror.ieee754.StatusFlags;
+import at.syntaxerror.ieee754.internal.ParsedDecimal;
+import at.syntaxerror.ieee754.internal.Powers;
+import at.syntaxerror.ieee754.rounding.Rounding;
+
+/**
+ * This class implements encoding and decoding of IEEE 754 decimal floating point numbers
+ * whose binary representation fits into a {@code long}, using only primitive arithmetic
+ * for all but very precise values.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+final class LongDecimalEngine<T extends Decimal<T>> {
+
+	// 10^n for n = 0..18 (10^18 is the largest power of 10 below 2^63)
+	static final long[] POW10 = new long[19];
+	
+	static {
+		POW10[0] = 1;
+		
+		for(int i = 1; i < POW10.length; ++i)
+			POW10[i] = POW10[i - 1] * 10;
+	}
+	
+	private final int combination;
+	private final int significand;
+	
+	private final FloatingFactory<T> factory;
+	
+	private final int digits;			// maximum number of decimal digits
+	private final int bias;
+	private final int minExponent;		// exponent of the least significant digit of the minimum subnormal value
+	private final int maxExponent;		// exponent of the least significant digit of the maximum value
+	private final int signShift;		// position of the sign bit
+	
+	private final long maxCoefficient;
+	private final long combinationMask;
+	private final long exponentMask;
+	private final long expLowMask;		// exponent bits following the 5 most significant combination bits (DPD)
+	private final long significandMask;
+	private final long largeMask;		// significand including the least significant bit of a large most significant digit
+	
+	LongDecimalEngine(int combination, int significand, FloatingFactory<T> factory) {
+		this.combination = combination;
+		this.significand = significand;
+		this.factory = factory;
+		
+		int span = 3 << (combination - 5);
+		
+		digits = 1 + significand / 10 * 3;
+		bias = digits - 2 + (span >> 1);
+		minExponent = -bias;
+		maxExponent = span - 1 - bias;
+		signShift = combination + significand;
+		
+		maxCoefficient = POW10[digits] - 1;
+		combinationMask = (1L << combination) - 1;
+		exponentMask = (1L << (combination - 3)) - 1;
+		expLowMask = (1L << (combination - 5)) - 1;
+		significandMask = (1L << significand) - 1;
+		largeMask = (1L << (significand + 1)) - 1;
+	}
+	
+	/**
+	 * Checks whether the binary representation of a codec fits into a {@code long}
+	 * 
+	 * @param combination the number of combination bits
+	 * @param significand the number of significand bits
+	 * @return whether this engine supports the codec
+	 */
+	static boolean isSupported(int combination, int significand) {
+		return combination + significand + 1 <= 64
+			&& 1 + significand / 10 * 3 < POW10.length;
+	}
+	
+	long encode(T value, Rounding rounding, DecimalCoding coding, StatusFlags flags) {
+		boolean sign = value.isNegative();
+		
+		if(!value.isFinite()) {
+			
+			if(value.isSignalingNaN()) {
+				if(flags != null)
+					flags.raise(StatusFlags.INVALID);
+				
+				return getSignalingNaN(sign);
+			}
+			
+			if(value.isQuietNaN())
+				return getQuietNaN(sign);
+			
+			return getInfinity(sign);
+		}
+		
+		if(value.isZero())
+			return getZero(sign);
+		
+		if(value.isCompact()) // value = coefficient * 10^exponent
+			return encode(sign, value.getCompactCoefficient(), value.getCompactExponent(), false, rounding, coding, flags);
+		
+		return encode(sign, value.getBigDecimal(), rounding, coding, flags);
+	}
+	
+	// encodes the finite, non-zero value
+	long encode(boolean sign, BigDecimal bigdec, Rounding rounding, DecimalCoding coding, StatusFlags flags) {
+		BigInteger unscaled = bigdec.unscaledValue().abs();
+		long exponent = -(long) bigdec.scale();
+		
+		if(unscaled.bitLength() < 64)
+			return encode(sign, unscaled.longValue(), exponent, false, rounding, coding, flags);
+
+		// keep the 18 most significant digits, the remaining digits only affect rounding
+		int drop = bigdec.precision() - (POW10.length - 1);
+		
+		BigInteger[] divrem = unscaled.divideAndRemainder(Powers.pow10(drop));
+		
+		return encode(sign, divrem[0].longValue(), exponent + drop, divrem[1].signum() != 0, rounding, coding, flags);
+	}
+	
+	long encode(long coefficient, int exponent, Rounding rounding, StatusFlags flags) {
+		if(coefficient == Long.MIN_VALUE) // cannot be negated, drop the least significant digit (8)
+			return encode(true, -(coefficient / 10), exponent + 1L, true, rounding, DecimalCoding.BINARY_INTEGER_DECIMAL, flags);
+		
+		return encode(coefficient < 0, Math.abs(coefficient), exponent, false, rounding, DecimalCoding.BINARY_INTEGER_DECIMAL, flags);
+	}
+	
+	long parse(ParsedDecimal decimal, CharSequence text, Rounding rounding, DecimalCoding coding) {
+		boolean sign = decimal.negative();
+		
+		if(decimal.type() == FloatingType.INFINITE)
+			return getInfinity(sign);
+		
+		if(decimal.type() == FloatingType.QUIET_NAN)
+			return getQuietNaN(sign);
+		
+		if(decimal.isZero())
+			return getZero(sign);
+		
+		long coefficient = decimal.significand();
+		long exponent = decimal.exponent();
+		boolean sticky = decimal.truncated();
+		
+		if(coefficient < 0) { // 19 digits exceeding 2^63, drop the least significant digit
+			sticky |= Long.remainderUnsigned(coefficient, 10) != 0;
+			coefficient = Long.divideUnsigned(coefficient, 10);
+			++exponent;
+		}
+		
+		// the dropped digits are only taken into account if the coefficient is rounded anyway
+		if(sticky && Math.max(getDigits(coefficient) - digits, minExponent - exponent) <= 0)
+			return encode(sign, decimal.toBigDecimal(text, minExponent - 1, maxExponent + digits), rounding, coding, null);
+		
+		return encode(sign, coefficient, exponent, sticky, rounding, coding, null);
+	}
+	
+	/* 
+	 * encodes the value (coefficient * 10^exponent), rounding it to the precision of the format.
+	 * the sticky flag indicates whether the value was inexact (i.e. whether there are
+	 * any non-zero digits following the least significant digit of 'coefficient').
+	 * if present, the flags are raised according to the result
+	 */
+	private long encode(boolean sign, long coefficient, long exponent, boolean sticky, Rounding rounding, DecimalCoding coding, StatusFlags flags) {
+		if(coefficient == 0 && !sticky)
+			return getZero(sign);
+		
+		long drop = Math.max(getDigits(coefficient) - digits, minExponent - exponent);
+		
+		if(drop > 0) {
+			// tiny if below the minimum normal value (10^(digits - 1) * 10^minExponent) before rounding
+			boolean tiny = getDigits(coefficient) + exponent < minExponent + digits;
+			
+			long quotient;
+			int digit; // first discarded digit
+			
+			if(drop < POW10.length) {
+				long pow = POW10[(int) drop];
+				long remainder = coefficient % pow;
+				
+				pow /= 10;
+				
+				quotient = coefficient / (pow * 10);
+				digit = (int) (remainder / pow);
+				sticky |= remainder % pow != 0;
+			}
+			else {
+				long pow = POW10[POW10.length - 1];
+				
+				quotient = 0;
+				digit = drop == POW10.length ? (int) (coefficient / pow) : 0;
+				sticky |= drop == POW10.length ? coefficient % pow != 0 : coefficient != 0;
+			}
+			
+			// the round bit is set if the discarded digits are at least half an ULP,
+			// the sticky bit is set if the discarded digits are not exactly 0 or half an ULP
+			boolean round = digit >= 5;
+			
+			if(rounding.roundBinary(sign, (quotient & 1) != 0, round, sticky || digit != (round ? 5 : 0)))
+				++quotient;
+			
+			if((digit != 0 || sticky) && flags != null)
+				flags.raise(tiny ? StatusFlags.UNDERFLOW | StatusFlags.INEXACT : StatusFlags.INEXACT);
+			
+			if(quotient == 0) // underflow
+				return getZero(sign);
+			
+			coefficient = quotient;
+			exponent += drop;
+		}
+		
+		// use the representation with the least number of digits
+		while(coefficient % 10 == 0) {
+			coefficient /= 10;
+			++exponent;
+		}
+		
+		if(exponent > maxExponent) {
+			// exponent is too large to be encoded, pad the coefficient with zeros instead
+			long pad = exponent - maxExponent;
+			
+			if(pad + getDigits(coefficient) > digits) { // overflow
+				if(flags != null)
+					flags.raise(StatusFlags.OVERFLOW | StatusFlags.INEXACT);
+				
+				return rounding.roundBinary(sign, true, true, true)
+					? getInfinity(sign)
+					: getMaxValue(sign, coding);
+			}
+			
+			coefficient *= POW10[(int) pad];
+			exponent = maxExponent;
+		}
+		
+		return coding == DecimalCoding.DENSLY_PACKED_DECIMAL
+			? packDPD(sign, coefficient, (int) exponent)
+			: packBID(sign, coefficient, (int) exponent);
+	}
+	
+	// returns the number of decimal digits
+	static int getDigits(long value) {
+		int n = 1;
+		
+		while(n < POW10.length && value >= POW10[n])
+			++n;
+		
+		return n;
+	}
+	
+	private long packBID(boolean sign, long coefficient, int exponent) {
+		long biased = exponent + bias;
+		
+		if((coefficient >>> significand) > 7) // most significant digit is 8 or 9, '100' is implied
+			return signBit(sign)
+				| (0b11L << (significand + combination - 2))
+				| (biased << (significand + 1))
+				| (coefficient & largeMask);
+		
+		return signBit(sign)
+			| (biased << (significand + 3))
+			| coefficient;
+	}
+	
+	private long packDPD(boolean sign, long coefficient, int exponent) {
+		long declets = 0;
+		
+		for(int i = 0; i < significand; i += 10) {
+			declets |= (long) DPDTables.encode((int) (coefficient % 1000)) << i;
+			coefficient /= 1000;
+		}
+		
+		// coefficient now only consists of the most significant digit
+		
+		int biased = exponent + bias;
+		int expHigh = biased >>> (combination - 5);
+		
+		long field = coefficient > 7 // most significant digit is 8 or 9, '100' is implied
+			? 0b11000 | (expHigh << 1) | (coefficient & 1)
+			: (expHigh << 3) | coefficient;
+		
+		return signBit(sign)
+			| (field << (significand + combination - 5))
+			| ((biased & expLowMask) << significand)
+			| declets;
+	}
+	
+	T decode(long value, DecimalCoding coding) {
+		boolean sign = ((value >>> signShift) & 1) != 0;
+		int signum = sign ? -1 : +1;
+		
+		int combination = (int) ((value >>> significand) & combinationMask);
+		
+		if(isSpecial(combination)) { // Infinity or NaN
+			
+			if(((combination >>> (this.combination - 5)) & 1) == 0)
+				return factory.create(signum, FloatingType.INFINITE);
+			
+			return factory.create(
+				signum,
+				((combination >>> (this.combination - 6)) & 1) != 0
+					? FloatingType.SIGNALING_NAN
+					: FloatingType.QUIET_NAN
+			);
+		}
+		
+		long coefficient;
+		int exponent;
+		
+		if(coding == DecimalCoding.DENSLY_PACKED_DECIMAL) {
+			coefficient = getCoefficientDPD(value, combination);
+			exponent = getExponentDPD(combination);
+		}
+		else {
+			coefficient = getCoefficient(value, combination);
+			exponent = getExponent(combination);
+		}
+		
+		if(coefficient == 0)
+			return factory.create(signum, BigDecimal.ZERO);
+		
+		// strip trailing zeros
+		while(coefficient % 10 == 0) {
+			coefficient /= 10;
+			++exponent;
+		}
+		
+		if(factory instanceof DecimalFactory<T> decimalFactory)
+			return decimalFactory.create(signum, coefficient, exponent);
+		
+		return factory.create(
+			signum,
+			BigDecimal.valueOf(sign ? -coefficient : coefficient, -exponent)
+		);
+	}
+	
+	long decodeCoefficient(long value) {
+		int combination = (int) ((value >>> significand) & combinationMask);
+		
+		if(isSpecial(combination))
+			return 0;
+		
+		long coefficient = getCoefficient(value, combination);
+		
+		return ((value >>> signShift) & 1) != 0
+			? -coefficient
+			: coefficient;
+	}
+	
+	int decodeExponent(long value) {
+		int combination = (int) ((value >>> significand) & combinationMask);
+		
+		if(isSpecial(combination))
+			return 0;
+		
+		return getExponent(combination);
+	}
+	
+	// if combination's 4 MSB are 1111, the value is Infinity or NaN
+	private boolean isSpecial(int combination) {
+		return (combination >>> (this.combination - 4)) == 0b1111;
+	}
+	
+	// if combination's 2 MSB are 11, the most significant digit is 8 or 9
+	private boolean isLarge(int combination) {
+		return (combination >>> (this.combination - 2)) == 0b11;
+	}
+	
+	private long getCoefficient(long value, int combination) {
+		long digit = isLarge(combination)
+			? 0b1000 | (combination & 1)
+			: combination & 0b111;
+		
+		long coefficient = (digit << significand) | (value & significandMask);
+		
+		return coefficient > maxCoefficient
+			? 0 // treat significand as 0 if out of range
+			: coefficient;
+	}
+	
+	private int getExponent(int combination) {
+		return (int) ((combination >>> (isLarge(combination) ? 1 : 3)) & exponentMask) - bias;
+	}
+	
+	private long getCoefficientDPD(long value, int combination) {
+		int field = combination >>> (this.combination - 5);
+		
+		long coefficient = isLarge(combination)
+			? 0b1000 | (field & 1)
+			: field & 0b111;
+		
+		for(int i = significand - 10; i >= 0; i -= 10)
+			coefficient = coefficient * 1000 + DPDTables.decode((int) (value >>> i));
+		
+		return coefficient;
+	}
+	
+	private int getExponentDPD(int combination) {
+		int expHigh = isLarge(combination)
+			? (combination >>> (this.combination - 4)) & 0b11
+			: combination >>> (this.combination - 2);
+		
+		return ((expHigh << (this.combination - 5)) | (int) (combination & expLowMask)) - bias;
+	}
+	
+	private long signBit(boolean sign) {
+		return sign ? 1L << signShift : 0;
+	}
+	
+	long getZero(boolean sign) {
+		return signBit(sign);
+	}
+	
+	long getInfinity(boolean sign) {
+		return signBit(sign) | (0b11110L << (significand + combination - 5));
+	}
+	
+	long getMaxValue(boolean sign, DecimalCoding coding) {
+		return coding == DecimalCoding.DENSLY_PACKED_DECIMAL
+			? packDPD(sign, maxCoefficient, maxExponent)
+			: packBID(sign, maxCoefficient, maxExponent);
+	}
+	
+	long getQuietNaN(boolean sign) {
+		return signBit(sign) | (0b11111L << (significand + combination - 5));
+	}
+	
+	long getSignalingNaN(boolean sign) {
+		return signBit(sign) | (0b111111L << (significand + combination - 6));
+	}
+	
+}
@@ -0,0 +1,203 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.internal;
+
+import java.math.BigDecimal;
+
+import at.syntaxerror.ieee754.FloatingType;
+
+/**
+ * This class represents a decimal string which has been split into its sign, significand and exponent, so that it can
+ * be encoded without constructing a {@link BigDecimal} first.
+ * <p>
+ * The value is {@code significand * 10^exponent}, where the significand holds (at most) the 19 most significant digits
+ * as an unsigned {@code long}. If the string has more significant digits, the remaining digits are dropped (and the exponent is adjusted
+ * accordingly); {@code truncated} indicates whether any of them is non-zero, i.e. whether the significand is inexact.
+ * 
+ * @param negative whether there is a minus sign
+ * @param type the type (either finite, infinite or quiet NaN)
+ * @param significand the (unsigned) significand
+ * @param digits the number of digits of the significand ({@code 0} if the value is zero)
+ * @param exponent the exponent (saturated at {@code +/-2^40})
+ * @param truncated whether any of the dropped digits is non-zero
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public record ParsedDecimal(boolean negative, FloatingType type, long significand, int digits, long exponent, boolean truncated) {
+	
+	// the maximum number of digits stored in the significand (10^19 - 1 < 2^64)
+	private static final int MAX_DIGITS = 19;
+	
+	// larger exponents cannot be represented by any format anyway
+	private static final long MAX_EXPONENT = 1L << 40;
+	
+	/**
+	 * Parses the string, which must either be a decimal number (an optional sign, followed by digits with an optional decimal point
+	 * and an optional exponent, see {@link BigDecimal#BigDecimal(String)}), or {@code Infinity} or {@code NaN} (with an optional sign)
+	 * 
+	 * @param text the string
+	 * @return the parsed decimal
+	 * @throws NumberFormatException if the string is not a valid number
+	 */
+	public static ParsedDecimal parse(CharSequence text) {
+		int length = text.length();
+		int i = 0;
+		
+		boolean negative = false;
+		
+		if(length > 0 && (text.charAt(0) == '+' || text.charAt(0) == '-')) {
+			negative = text.charAt(0) == '-';
+			++i;
+		}
+		
+		if(matches(text, i, "Infinity"))
+			return new ParsedDecimal(negative, FloatingType.INFINITE, 0, 0, 0, false);
+		
+		if(matches(text, i, "NaN"))
+			return new ParsedDecimal(negative, FloatingType.QUIET_NAN, 0, 0, 0, false);
+		
+		long significand = 0;
+		int digits = 0;
+		long exponent = 0;
+		
+		boolean truncated = false;
+		boolean point = false;
+		boolean empty = true;
+		
+		for(; i < length; ++i) {
+			char c = text.charAt(i);
+			
+			if(c == '.') {
+				if(point)
+					throw malformed(text);
+				
+				point = true;
+				continue;
+			}
+			
+			if(c < '0' || c > '9')
+				break;
+			
+			empty = false;
+			
+			if(point)
+				--exponent;
+			
+			if(digits < MAX_DIGITS) {
+				if(digits != 0 || c != '0') { // skip leading zeros
+					significand = significand * 10 + (c - '0');
+					++digits;
+				}
+			}
+			else { // drop the digit
+				++exponent;
+				truncated |= c != '0';
+			}
+		}
+		
+		if(empty)
+			throw malformed(text);
+		
+		if(i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+			++i;
+			
+			boolean negativeExponent = false;
+			
+			if(i < length && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+				negativeExponent = text.charAt(i) == '-';
+				++i;
+			}
+			
+			if(i == length)
+				throw malformed(text);
+			
+			long value = 0;
+			
+			for(; i < length; ++i) {
+				char c = text.charAt(i);
+				
+				if(c < '0' || c > '9')
+					throw malformed(text);
+				
+				if(value < MAX_EXPONENT)
+					value = value * 10 + (c - '0');
+			}
+			
+			exponent += negativeExponent ? -value : value;
+		}
+		
+		if(i != length)
+			throw malformed(text);
+		
+		exponent = Math.max(-MAX_EXPONENT, Math.min(exponent, MAX_EXPONENT));
+		
+		return new ParsedDecimal(negative, FloatingType.FINITE, significand, digits, exponent, truncated);
+	}
+	
+	private static boolean matches(CharSequence text, int offset, String expected) {
+		return text.length() - offset == expected.length()
+			&& expected.contentEquals(text.subSequence(offset, text.length()));
+	}
+	
+	private static NumberFormatException malformed(CharSequence text) {
+		return new NumberFormatException("Malformed number: " + text);
+	}
+	
+	/**
+	 * Returns whether the value is (a signed) zero
+	 * 
+	 * @return whether the value is zero
+	 */
+	public boolean isZero() {
+		return type == FloatingType.FINITE && digits == 0;
+	}
+	
+	/**
+	 * Returns the exact (absolute) value of the finite, non-zero number.
+	 * <p>If the value is less than {@code 10^min} or at least {@code 10^max}, {@code 10^(min - 1)} or {@code 10^max}
+	 * is returned instead, respectively. This way, huge exponents do not need to be computed for values
+	 * which are rounded to zero (or the smallest value) or infinity (or the largest value) anyway.
+	 * 
+	 * @param text the string this decimal was parsed from
+	 * @param min the minimum exponent
+	 * @param max the maximum exponent
+	 * @return the value
+	 */
+	public BigDecimal toBigDecimal(CharSequence text, int min, int max) {
+		// 10^(magnitude - 1) <= value < 10^magnitude
+		long magnitude = exponent + digits;
+		
+		if(magnitude <= min)
+			return BigDecimal.ONE.scaleByPowerOfTen(min - 1);
+		
+		if(magnitude > max)
+			return BigDecimal.ONE.scaleByPowerOfTen(max);
+		
+		if(truncated)
+			return new BigDecimal(text.toString()).abs();
+		
+		return new BigDecimal(UnsignedMath.toBigInteger(significand), (int) -exponent);
+	}
+	
+}
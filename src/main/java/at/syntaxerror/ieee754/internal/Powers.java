@@ -0,0 +1,180 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * This class provides shared tables of powers of 5 and 10 (and, derived from them, exact powers of 2)
+ * used by all codecs.
+ * <p>
+ * Small powers are stored in a table which is grown lazily up to a fixed size. Larger powers are
+ * composed of a small power and lazily computed squares (which are kept once computed, i.e. at most one
+ * per bit of the largest exponent used). The most recently used large powers are kept in a small cache,
+ * unless they are too large (more than 2<sup>16</sup> bits), so that the cache occupies at most
+ * a few megabytes.
+ * All methods are thread-safe; lookups of already computed powers do not require synchronization.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public final class Powers {
+	
+	private static final int DENSE_BITS = 10;
+	private static final int DENSE_LIMIT = 1 << DENSE_BITS;
+	
+	private static final int RECENT_SIZE = 256;
+	private static final int RECENT_MAX_BITS = 1 << 16;
+	
+	private static final Table FIVE = new Table(BigInteger.valueOf(5));
+	private static final Table TEN = new Table(BigInteger.TEN);
+	
+	private Powers() { }
+	
+	/**
+	 * Computes 5 to the power of n
+	 * 
+	 * @param n the exponent ({@code >= 0})
+	 * @return 5<sup>n</sup>
+	 */
+	public static BigInteger pow5(int n) {
+		return FIVE.pow(n);
+	}
+	
+	/**
+	 * Computes 10 to the power of n
+	 * 
+	 * @param n the exponent ({@code >= 0})
+	 * @return 10<sup>n</sup>
+	 */
+	public static BigInteger pow10(int n) {
+		return TEN.pow(n);
+	}
+	
+	/**
+	 * Computes the exact value of 2 to the power of n.
+	 * <p>For negative exponents, the result has {@code -n} decimal places.
+	 * 
+	 * @param n the exponent
+	 * @return 2<sup>n</sup>
+	 */
+	public static BigDecimal pow2(int n) {
+		if(n >= 0)
+			return new BigDecimal(BigInteger.ONE.shiftLeft(n));
+		
+		// 2^-n = 5^n * 10^-n
+		return new BigDecimal(pow5(-n), -n);
+	}
+	
+	private static final class Table {
+		
+		private final BigInteger base;
+		
+		// base^i for i < dense.length, grows up to DENSE_LIMIT entries
+		private volatile BigInteger[] dense;
+		
+		// base^(DENSE_LIMIT * 2^i)
+		private final AtomicReferenceArray<BigInteger> squares = new AtomicReferenceArray<>(Integer.SIZE - DENSE_BITS);
+		
+		// recently computed large powers (up to RECENT_MAX_BITS bits), indexed by the exponent's least significant bits
+		private final AtomicReferenceArray<Entry> recent = new AtomicReferenceArray<>(RECENT_SIZE);
+		
+		Table(BigInteger base) {
+			this.base = base;
+			dense = new BigInteger[] { BigInteger.ONE, base };
+		}
+		
+		BigInteger pow(int n) {
+			if(n < 0)
+				throw new ArithmeticException("Negative exponent");
+			
+			if(n < DENSE_LIMIT) {
+				BigInteger[] table = dense;
+				
+				if(n >= table.length)
+					table = grow(n);
+				
+				return table[n];
+			}
+			
+			int index = n & (RECENT_SIZE - 1);
+			
+			Entry entry = recent.get(index);
+			
+			if(entry != null && entry.exponent() == n)
+				return entry.value();
+			
+			// base^n = base^(n mod DENSE_LIMIT) * product of base^(DENSE_LIMIT * 2^i) for every bit i set in (n / DENSE_LIMIT)
+			BigInteger result = pow(n & (DENSE_LIMIT - 1));
+			
+			for(int i = 0, m = n >>> DENSE_BITS; m != 0; ++i, m >>>= 1)
+				if((m & 1) != 0)
+					result = result.multiply(square(i));
+			
+			if(result.bitLength() <= RECENT_MAX_BITS)
+				recent.set(index, new Entry(n, result));
+			
+			return result;
+		}
+		
+		private synchronized BigInteger[] grow(int n) {
+			BigInteger[] table = dense;
+			
+			if(n < table.length) // already grown by another thread
+				return table;
+			
+			BigInteger[] grown = Arrays.copyOf(table, Math.min(DENSE_LIMIT, Math.max(n + 1, table.length * 2)));
+			
+			for(int i = table.length; i < grown.length; ++i)
+				grown[i] = grown[i - 1].multiply(base);
+			
+			dense = grown;
+			
+			return grown;
+		}
+		
+		private BigInteger square(int i) {
+			BigInteger value = squares.get(i);
+			
+			if(value != null)
+				return value;
+			
+			value = i == 0
+				? pow(DENSE_LIMIT - 1).multiply(base)
+				: square(i - 1).pow(2);
+			
+			// another thread might have computed the (same) value concurrently
+			if(!squares.compareAndSet(i, null, value))
+				value = squares.get(i);
+			
+			return value;
+		}
+		
+	}
+	
+	private static record Entry(int exponent, BigInteger value) { }
+	
+}
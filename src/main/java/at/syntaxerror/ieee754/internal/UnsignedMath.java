@@ -0,0 +1,285 @@
+/* MIT License
+ * 
+ * Copyright (c) 2023 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.ieee754.internal;
+
+import java.math.BigInteger;
+
+/**
+ * This class contains helper methods for unsigned 128-bit integer arithmetic on pairs of {@code long}s.
+ * <p>
+ * A 128-bit integer is represented by its high and low 64 bits, both of which are treated as unsigned.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public final class UnsignedMath {
+	
+	private static final long BASE = 1L << 32;
+	private static final long LOW_MASK = 0xFFFFFFFFL;
+	
+	private UnsignedMath() { }
+	
+	/**
+	 * Divides the unsigned 128-bit integer {@code hi:lo} by the unsigned 64-bit divisor.
+	 * <p>
+	 * The quotient must fit into 64 bits, which is the case if (and only if) {@code hi < divisor} (unsigned).
+	 * The remainder can be computed via {@code lo - quotient * divisor}.
+	 * 
+	 * @param hi the high 64 bits of the dividend
+	 * @param lo the low 64 bits of the dividend
+	 * @param divisor the divisor (must not be {@code 0})
+	 * @return the (unsigned) quotient
+	 */
+	public static long divide(long hi, long lo, long divisor) {
+		if(Long.compareUnsigned(hi, divisor) >= 0)
+			throw new ArithmeticException("Quotient overflow");
+		
+		// long division with 32-bit digits, see Hacker's Delight (2nd edition), figure 9-3
+		
+		int shift = Long.numberOfLeadingZeros(divisor);
+		
+		// normalize divisor so that its most significant bit is set
+		divisor <<= shift;
+		
+		long divHi = divisor >>> 32;
+		long divLo = divisor & LOW_MASK;
+		
+		long num32 = shift == 0
+			? hi
+			: (hi << shift) | (lo >>> (64 - shift));
+		
+		long num10 = lo << shift;
+		
+		long num1 = num10 >>> 32;
+		long num0 = num10 & LOW_MASK;
+		
+		// first quotient digit
+		long q1 = Long.divideUnsigned(num32, divHi);
+		long rem = num32 - q1 * divHi;
+		
+		while(Long.compareUnsigned(q1, BASE) >= 0
+			|| Long.compareUnsigned(q1 * divLo, (rem << 32) | num1) > 0) {
+			--q1;
+			rem += divHi;
+			
+			if(Long.compareUnsigned(rem, BASE) >= 0)
+				break;
+		}
+		
+		long num21 = (num32 << 32) + num1 - q1 * divisor;
+		
+		// second quotient digit
+		long q0 = Long.divideUnsigned(num21, divHi);
+		rem = num21 - q0 * divHi;
+		
+		while(Long.compareUnsigned(q0, BASE) >= 0
+			|| Long.compareUnsigned(q0 * divLo, (rem << 32) | num0) > 0) {
+			--q0;
+			rem += divHi;
+			
+			if(Long.compareUnsigned(rem, BASE) >= 0)
+				break;
+		}
+		
+		return (q1 << 32) | q0;
+	}
+	
+	/**
+	 * Returns the high 64 bits of the unsigned 128-bit integer {@code hi:lo} shifted to the left
+	 * 
+	 * @param hi the high 64 bits
+	 * @param lo the low 64 bits
+	 * @param n the number of bits to shift ({@code >= 0})
+	 * @return the high 64 bits of the result
+	 */
+	public static long shiftLeftHigh(long hi, long lo, int n) {
+		if(n == 0)
+			return hi;
+		
+		if(n < 64)
+			return (hi << n) | (lo >>> (64 - n));
+		
+		return n < 128 ? lo << (n - 64) : 0;
+	}
+
+	/**
+	 * Returns the low 64 bits of the unsigned 128-bit integer {@code hi:lo} shifted to the left
+	 * 
+	 * @param hi the high 64 bits
+	 * @param lo the low 64 bits
+	 * @param n the number of bits to shift ({@code >= 0})
+	 * @return the low 64 bits of the result
+	 */
+	public static long shiftLeftLow(long hi, long lo, int n) {
+		return n < 64 ? lo << n : 0;
+	}
+
+	/**
+	 * Returns the high 64 bits of the unsigned 128-bit integer {@code hi:lo} shifted to the right
+	 * 
+	 * @param hi the high 64 bits
+	 * @param lo the low 64 bits
+	 * @param n the number of bits to shift ({@code >= 0})
+	 * @return the high 64 bits of the result
+	 */
+	public static long shiftRightHigh(long hi, long lo, int n) {
+		return n < 64 ? hi >>> n : 0;
+	}
+
+	/**
+	 * Returns the low 64 bits of the unsigned 128-bit integer {@code hi:lo} shifted to the right
+	 * 
+	 * @param hi the high 64 bits
+	 * @param lo the low 64 bits
+	 * @param n the number of bits to shift ({@code >= 0})
+	 * @return the low 64 bits of the result
+	 */
+	public static long shiftRightLow(long hi, long lo, int n) {
+		if(n == 0)
+			return lo;
+		
+		if(n < 64)
+			return (lo >>> n) | (hi << (64 - n));
+		
+		return n < 128 ? hi >>> (n - 64) : 0;
+	}
+	
+	/**
+	 * Checks whether any of the {@code n} least significant bits of the unsigned 128-bit integer {@code hi:lo} are set
+	 * 
+	 * @param hi the high 64 bits
+	 * @param lo the low 64 bits
+	 * @param n the number of bits ({@code >= 0})
+	 * @return whether any of the bits are set
+	 */
+	public static boolean testLowBits(long hi, long lo, int n) {
+		if(n < 64)
+			return (lo & ((1L << n) - 1)) != 0;
+		
+		if(lo != 0)
+			return true;
+		
+		return n < 128
+			? (hi & ((1L << (n - 64)) - 1)) != 0
+			: hi != 0;
+	}
+	
+	/**
+	 * Returns the number of leading zero bits of the unsigned 128-bit integer {@code hi:lo}
+	 * 
+	 * @param hi the high 64 bits
+	 * @param lo the low 64 bits
+	 * @return the number of leading zeros
+	 */
+	public static int numberOfLeadingZeros(long hi, long lo) {
+		return hi != 0
+			? Long.numberOfLeadingZeros(hi)
+			: 64 + Long.numberOfLeadingZeros(lo);
+	}
+	
+	/**
+	 * Returns the number of trailing zero bits of the unsigned 128-bit integer {@code hi:lo}
+	 * 
+	 * @param hi the high 64 bits
+	 * @param lo the low 64 bits
+	 * @return the number of trailing zeros
+	 */
+	public static int numberOfTrailingZeros(long hi, long lo) {
+		return lo != 0
+			? Long.numberOfTrailingZeros(lo)
+			: 64 + Long.numberOfTrailingZeros(hi);
+	}
+	
+	/**
+	 * Converts the unsigned 64-bit integer into a {@link BigInteger}
+	 * 
+	 * @param value the value
+	 * @return the {@link BigInteger}
+	 */
+	public static BigInteger toBigInteger(long value) {
+		if(value >= 0)
+			return BigInteger.valueOf(value);
+		
+		return BigInteger.valueOf(value >>> 1)
+			.shiftLeft(1)
+			.or(BigInteger.valueOf(value & 1));
+	}
+	
+	/**
+	 * Converts the unsigned 128-bit integer {@code hi:lo} into a {@link BigInteger}
+	 * 
+	 * @param hi the high 64 bits
+	 * @param lo the low 64 bits
+	 * @return the {@link BigInteger}
+	 */
+	public static BigInteger toBigInteger(long hi, long lo) {
+		if(hi == 0)
+			return toBigInteger(lo);
+		
+		return toBigInteger(hi)
+			.shiftLeft(64)
+			.or(toBigInteger(lo));
+	}
+	
+	/**
+	 * Converts the unsigned integer consisting of {@code length} 64-bit words (most significant word first) into a {@link BigInteger}
+	 * 
+	 * @param words the words
+	 * @param offset the index of the most significant word
+	 * @param length the number of words
+	 * @return the {@link BigInteger}
+	 */
+	public static BigInteger toBigInteger(long[] words, int offset, int length) {
+		if(length == 1)
+			return toBigInteger(words[offset]);
+		
+		if(length == 2)
+			return toBigInteger(words[offset], words[offset + 1]);
+		
+		byte[] bytes = new byte[length * 8 + 1]; // leading zero byte, so that the value is positive
+		
+		for(int i = 0; i < length; ++i) {
+			long word = words[offset + i];
+			
+			for(int j = 0; j < 8; ++j)
+				bytes[1 + i * 8 + j] = (byte) (word >>> (56 - j * 8));
+		}
+		
+		return new BigInteger(bytes);
+	}
+	
+	/**
+	 * Converts the unsigned {@link BigInteger} into {@code words.length} 64-bit words (most significant word first).
+	 * Excess bits are discarded.
+	 * 
+	 * @param value the (non-negative) value
+	 * @param words the array where the words are stored
+	 */
+	public static void toWords(BigInteger value, long[] words) {
+		for(int i = words.length - 1; i >= 0; --i) {
+			words[i] = value.longValue();
+			value = value.shiftRight(64);
+		}
+	}
+	
+}
@@ -87,6 +87,9 @@ public abstract class Rounding {
 	
 	/**
 	 * The rounding method used by {@link FloatingCodec#encode(at.syntaxerror.ieee754.Floating)} and its descendents.
+	 * <p>
+	 * This only applies to codecs without bound options. Use {@link FloatingCodec#withOptions(at.syntaxerror.ieee754.CodecOptions)}
+	 * to use a different rounding mode without affecting other threads.
 	 */
 	@NonNull
 	public static Rounding DEFAULT_ROUNDING = Rounding.TIES_EVEN;
@@ -22,13 +22,36 @@
  */
 package at.syntaxerror.ieee754.unittest;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 
+import at.syntaxerror.ieee754.CodecOptions;
+import at.syntaxerror.ieee754.FloatingDataInputStream;
+import at.syntaxerror.ieee754.FloatingDataOutputStream;
+import at.syntaxerror.ieee754.FloatingFactory;
+import at.syntaxerror.ieee754.FloatingType;
+import at.syntaxerror.ieee754.MappedFloatingArray;
+import at.syntaxerror.ieee754.StatusFlags;
 import at.syntaxerror.ieee754.binary.Binary;
 import at.syntaxerror.ieee754.binary.Binary128;
 import at.syntaxerror.ieee754.binary.Binary16;
@@ -37,6 +60,8 @@ import at.syntaxerror.ieee754.binary.Binary32;
 import at.syntaxerror.ieee754.binary.Binary64;
 import at.syntaxerror.ieee754.binary.Binary80;
 import at.syntaxerror.ieee754.binary.BinaryCodec;
+import at.syntaxerror.ieee754.binary.BinaryFactory;
+import at.syntaxerror.ieee754.rounding.Rounding;
 
 /**
  * @author Thomas Kasper
@@ -71,6 +96,14 @@ class BinaryTest {
 	
 	private static final int[] SIGNUMS = { NEGATIVE, POSITIVE };
 	
+	private static final Rounding[] ROUNDINGS = {
+		Rounding.TIES_EVEN,
+		Rounding.TIES_AWAY,
+		Rounding.TOWARD_ZERO,
+		Rounding.TOWARD_POSITIVE,
+		Rounding.TOWARD_NEGATIVE
+	};
+	
 	private static final BigInteger[][] INFINITIES = { // [0] = -Infinity, [1] = +Infinity
 		// binary16
 		{
@@ -369,4 +402,1273 @@ class BinaryTest {
 		}
 	}
 
+	// returns a random value in the range of finite doubles, which is usually not representable as a double
+	private static BigDecimal randomDecimal() {
+		double a = Double.longBitsToDouble(RANDOM.nextLong(1, 0x7FEFFFFFFFFFFFFFL));
+		double b = Math.nextUp(a);
+		
+		BigDecimal lo = new BigDecimal(a);
+		BigDecimal hi = new BigDecimal(b);
+		
+		BigDecimal value = switch(RANDOM.nextInt(4)) {
+		case 0 -> lo; // exact
+		case 1 -> lo.add(hi).divide(BigDecimal.TWO); // tie
+		case 2 -> lo.add(hi.subtract(lo).multiply(BigDecimal.valueOf(RANDOM.nextDouble()))); // random
+		default -> new BigDecimal(RANDOM.nextLong()).scaleByPowerOfTen(RANDOM.nextInt(-40, 40)); // decimal
+		};
+		
+		return RANDOM.nextBoolean() ? value.negate() : value;
+	}
+	
+	// rounds the value to a double according to the rounding mode
+	private static double roundDouble(BigDecimal value, Rounding rounding) {
+		double nearest = value.doubleValue(); // round to nearest, ties to even
+		
+		int cmp = new BigDecimal(nearest).compareTo(value);
+		
+		if(cmp == 0)
+			return nearest;
+		
+		double lo = cmp > 0 ? Math.nextDown(nearest) : nearest;
+		double hi = cmp < 0 ? Math.nextUp(nearest) : nearest;
+		
+		boolean negative = value.signum() < 0;
+		
+		if(rounding == Rounding.TIES_AWAY) {
+			BigDecimal mid = new BigDecimal(lo).add(new BigDecimal(hi)).divide(BigDecimal.TWO);
+			
+			return value.compareTo(mid) == 0
+				? negative ? lo : hi
+				: nearest;
+		}
+		
+		if(rounding == Rounding.TOWARD_ZERO)
+			return negative ? hi : lo;
+		
+		if(rounding == Rounding.TOWARD_POSITIVE)
+			return hi;
+		
+		if(rounding == Rounding.TOWARD_NEGATIVE)
+			return lo;
+		
+		return nearest;
+	}
+	
+	@Test
+	void testLong() {
+		assertTrue(Binary16.CODEC.isLongSupported());
+		assertTrue(Binary32.CODEC.isLongSupported());
+		assertTrue(Binary64.CODEC.isLongSupported());
+		assertTrue(!Binary80.CODEC.isLongSupported());
+		
+		for(Rounding rounding : ROUNDINGS) {
+			BinaryCodec<Binary64> codec = Binary64.CODEC.withOptions(CodecOptions.defaults().withRounding(rounding));
+			
+			for(int i = 0; i < RANDOM_COUNT * 100; ++i) {
+				BigDecimal value = randomDecimal();
+				
+				double expected = roundDouble(value, rounding);
+				
+				if(Double.isInfinite(expected) || expected == 0)
+					continue;
+				
+				long encoded = codec.encodeToLong(Binary64.FACTORY.create(value));
+				
+				assertTrue(
+					encoded == Double.doubleToRawLongBits(expected),
+					value + " encoding doesn't match (got 0x" + Long.toHexString(encoded) + ") @ binary64/" + rounding
+				);
+				
+				assertTrue(
+					compare(codec.encode(Binary64.FACTORY.create(value)), new BigInteger(Long.toUnsignedString(encoded))),
+					value + " encoding doesn't match long encoding @ binary64/" + rounding
+				);
+				
+				BigDecimal decoded = codec.decodeLong(encoded).getBigDecimal();
+				
+				assertTrue(
+					decoded.compareTo(new BigDecimal(expected)) == 0,
+					"0x" + Long.toHexString(encoded) + " does not decode properly (got " + decoded + ") @ binary64"
+				);
+			}
+		}
+		
+		for(int i = 0; i < RANDOM_COUNT * 100; ++i) {
+			float value = Float.intBitsToFloat(RANDOM.nextInt(0, 0x7F800000));
+			
+			long encoded = Binary32.CODEC.encodeToLong(Binary32.FACTORY.create(value));
+			
+			assertTrue(
+				encoded == Float.floatToRawIntBits(value),
+				value + " encoding doesn't match (got 0x" + Long.toHexString(encoded) + ") @ binary32"
+			);
+			
+			assertTrue(
+				Binary32.CODEC.decodeLong(encoded).floatValue() == value,
+				"0x" + Long.toHexString(encoded) + " does not decode properly @ binary32"
+			);
+		}
+	}
+	
+	@Test
+	void testLongPair() {
+		assertTrue(Binary64.CODEC.isLongPairSupported());
+		assertTrue(Binary80.CODEC.isLongPairSupported());
+		assertTrue(Binary128.CODEC.isLongPairSupported());
+		assertTrue(!Binary256.CODEC.isLongPairSupported());
+		
+		long[] hiLo = new long[2];
+		
+		for(int i = 0; i < RANDOM_COUNT * 100; ++i) {
+			double value = Double.longBitsToDouble(RANDOM.nextLong(0x0010000000000000L, 0x7FF0000000000000L));
+			
+			if(RANDOM.nextBoolean())
+				value = -value;
+			
+			long bits = Double.doubleToRawLongBits(value);
+			
+			// widen the normalized double to binary128
+			long exponent = ((bits >>> 52) & 0x7FF) - 1023 + 16383;
+			long fraction = bits & 0xFFFFFFFFFFFFFL;
+			
+			long hi = (bits & Long.MIN_VALUE) | (exponent << 48) | (fraction >>> 4);
+			long lo = fraction << 60;
+			
+			Binary128.CODEC.encodeTo(Binary128.FACTORY.create(value), hiLo);
+			
+			assertTrue(
+				hiLo[0] == hi && hiLo[1] == lo,
+				value + " encoding doesn't match (got 0x" + Long.toHexString(hiLo[0]) + " " + Long.toHexString(hiLo[1]) + ") @ binary128"
+			);
+			
+			assertTrue(
+				Binary128.CODEC.decode(hi, lo).doubleValue() == value,
+				"0x" + Long.toHexString(hi) + " " + Long.toHexString(lo) + " does not decode properly @ binary128"
+			);
+		}
+		
+		for(int i = 0; i < RANDOM_COUNT * 100; ++i) {
+			// random sign and exponent, explicit bit set so that the number is normalized
+			long hi = RANDOM.nextLong(0, 0xFFFF) & ~0x7FFFL | RANDOM.nextLong(1, 0x7FFF);
+			long lo = RANDOM.nextLong() | Long.MIN_VALUE;
+			
+			Binary80 value = Binary80.CODEC.decode(hi, lo);
+			
+			Binary80.CODEC.encodeTo(value, hiLo);
+			
+			assertTrue(
+				hiLo[0] == hi && hiLo[1] == lo,
+				"0x" + Long.toHexString(hi) + " " + Long.toHexString(lo) + " re-encoding doesn't match (got 0x"
+					+ Long.toHexString(hiLo[0]) + " " + Long.toHexString(hiLo[1]) + ") @ binary80"
+			);
+			
+			assertTrue(
+				compare(value.encode(), new BigInteger(Long.toHexString(hi) + String.format("%016x", lo), 16)),
+				"0x" + Long.toHexString(hi) + " " + Long.toHexString(lo) + " encoding doesn't match long pair encoding @ binary80"
+			);
+		}
+	}
+	
+	@Test
+	void testDecodeExact() {
+		var codec = Binary256.CODEC;
+		
+		int sig = codec.getSignificandBits();
+		int exp = codec.getExponentBits();
+		int bias = codec.getBias();
+		
+		for(int i = 0; i < RANDOM_COUNT; ++i) {
+			// random exponent around 1, random significand
+			int exponent = RANDOM.nextInt(bias - 2000, bias + 2000);
+			BigInteger fraction = new BigInteger(sig, RANDOM);
+			
+			BigInteger bits = BigInteger.valueOf(exponent)
+				.shiftLeft(sig)
+				.or(fraction);
+			
+			// value = significand * 2^(exponent - bias - sig)
+			BigInteger significand = fraction.setBit(sig);
+			int power = exponent - bias - sig;
+			
+			BigDecimal expected = power >= 0
+				? new BigDecimal(significand.shiftLeft(power))
+				: new BigDecimal(significand).divide(new BigDecimal(BigInteger.ONE.shiftLeft(-power)));
+			
+			BigDecimal decoded = codec.decode(bits).getBigDecimal();
+			
+			assertTrue(
+				decoded.compareTo(expected) == 0,
+				"0x" + bits.toString(16) + " does not decode exactly @ binary256"
+			);
+			
+			assertTrue(
+				codec.decode(bits.setBit(exp + sig)).getBigDecimal().compareTo(expected.negate()) == 0,
+				"-0x" + bits.toString(16) + " does not decode exactly @ binary256"
+			);
+		}
+	}
+	
+	@Test
+	void testEncodeExact() {
+		var codec = Binary256.CODEC;
+		
+		for(int i = 0; i < RANDOM_COUNT * 4; ++i) {
+			BigDecimal value = new BigDecimal(
+				new BigInteger(RANDOM.nextInt(1, 400), RANDOM).add(BigInteger.ONE),
+				RANDOM.nextInt(-400, 400)
+			);
+			
+			BigInteger encoded = Binary256.FACTORY.create(value).encode();
+			
+			// the encoded value must be at least as close as its neighbors
+			BigDecimal error = codec.decode(encoded).getBigDecimal().subtract(value).abs();
+			BigDecimal lower = codec.decode(encoded.subtract(BigInteger.ONE)).getBigDecimal().subtract(value).abs();
+			BigDecimal upper = codec.decode(encoded.add(BigInteger.ONE)).getBigDecimal().subtract(value).abs();
+			
+			assertTrue(
+				error.compareTo(lower) <= 0 && error.compareTo(upper) <= 0,
+				value + " is not rounded correctly (got 0x" + encoded.toString(16) + ") @ binary256"
+			);
+		}
+	}
+	
+	@Test
+	void testRange() {
+		testRange(Binary32.CODEC, Binary32.FACTORY);
+		testRange(Binary64.CODEC, Binary64.FACTORY);
+		testRange(Binary256.CODEC, Binary256.FACTORY);
+	}
+	
+	private <T extends Binary<T>> void testRange(BinaryCodec<T> codec, FloatingFactory<T> factory) {
+		BigDecimal max = codec.getMaxValue().getBigDecimal();
+		BigDecimal min = codec.getMinSubnormalValue().getBigDecimal();
+		
+		BigDecimal ulp = BigDecimal.ONE.scaleByPowerOfTen(-max.scale() - 1);
+		
+		for(int signum : SIGNUMS) {
+			BigDecimal sign = BigDecimal.valueOf(signum);
+			
+			assertTrue(factory.create(max.multiply(sign)).isFinite(), "max value overflows @ " + formatCodec(codec));
+			assertTrue(factory.create(max.add(ulp).multiply(sign)).isInfinity(), "max value + ulp does not overflow @ " + formatCodec(codec));
+			assertTrue(factory.create(max.movePointRight(1).multiply(sign)).isInfinity(), "10 * max value does not overflow @ " + formatCodec(codec));
+			assertTrue(factory.create(max.movePointLeft(1).multiply(sign)).isFinite(), "max value / 10 overflows @ " + formatCodec(codec));
+			
+			assertTrue(!factory.create(min.multiply(sign)).isZero(), "min value underflows @ " + formatCodec(codec));
+			assertTrue(factory.create(min.subtract(min.ulp()).multiply(sign)).isZero(), "min value - ulp does not underflow @ " + formatCodec(codec));
+			assertTrue(factory.create(min.movePointLeft(1).multiply(sign)).isZero(), "min value / 10 does not underflow @ " + formatCodec(codec));
+			assertTrue(!factory.create(min.movePointRight(1).multiply(sign)).isZero(), "10 * min value underflows @ " + formatCodec(codec));
+		}
+	}
+
+	@Test
+	void testLazy() {
+		for(var codec : CODECS)
+			testLazy(codec);
+	}
+	
+	private <T extends Binary<T>> void testLazy(BinaryCodec<T> codec) {
+		int bits = codec.getPositiveInfinity().bitLength() + 1;
+		
+		for(int i = 0; i < RANDOM_COUNT * 20; ++i) {
+			BigInteger value = new BigInteger(bits, RANDOM);
+			
+			if(codec.isNaN(value) || codec.isInfinity(value))
+				continue;
+			
+			T lazy = codec.decodeLazy(value);
+			
+			// checked before anything decodes the value
+			assertTrue(
+				lazy.isZero() == codec.decode(value).isZero(),
+				"0x" + value.toString(16) + " lazy zero check doesn't match @ " + formatCodec(codec)
+			);
+			
+			byte[] bytes = new byte[codec.getBytesPerValue()];
+			codec.encodeAll(List.of(lazy), bytes, 0);
+			
+			assertTrue(
+				codec.encode(lazy).equals(value) && new BigInteger(1, bytes).equals(value),
+				"0x" + value.toString(16) + " lazy codec encoding doesn't match @ " + formatCodec(codec)
+			);
+			
+			// encode must return the original binary representation, even for non-canonical (e.g. unnormal binary80) values
+			assertTrue(
+				lazy.encode().equals(value),
+				"0x" + value.toString(16) + " lazy re-encoding doesn't match (got 0x" + lazy.encode().toString(16) + ") @ " + formatCodec(codec)
+			);
+			
+			T decoded = codec.decode(value);
+			
+			assertTrue(
+				lazy.getBigDecimal().compareTo(decoded.getBigDecimal()) == 0 && lazy.getSignum() == decoded.getSignum(),
+				"0x" + value.toString(16) + " lazy decoding doesn't match (got " + lazy + ") @ " + formatCodec(codec)
+			);
+		}
+	}
+
+	@Test
+	void testDyadic() {
+		for(var codec : CODECS)
+			testDyadic(codec);
+	}
+	
+	private <T extends Binary<T>> void testDyadic(BinaryCodec<T> codec) {
+		int bits = codec.getPositiveInfinity().bitLength() + 1;
+		
+		T previous = null;
+		
+		for(int i = 0; i < RANDOM_COUNT * 20; ++i) {
+			BigInteger value = new BigInteger(bits, RANDOM);
+			
+			if(codec.isNaN(value) || codec.isInfinity(value))
+				continue;
+			
+			T decoded = codec.decode(value);
+			
+			assertTrue(
+				Double.compare(decoded.doubleValue(), decoded.getBigDecimal().doubleValue()) == 0,
+				decoded + " double value doesn't match (got " + decoded.doubleValue() + ") @ " + formatCodec(codec)
+			);
+			
+			if(previous != null)
+				assertTrue(
+					Integer.signum(decoded.compareTo(previous)) == decoded.getBigDecimal().compareTo(previous.getBigDecimal()),
+					decoded + " comparison with " + previous + " doesn't match @ " + formatCodec(codec)
+				);
+			
+			previous = decoded;
+		}
+	}
+
+	@Test
+	void testBulk() {
+		testBulk(Binary16.CODEC, Binary16.FACTORY);
+		testBulk(Binary32.CODEC, Binary32.FACTORY);
+		testBulk(Binary64.CODEC, Binary64.FACTORY);
+		testBulk(Binary80.CODEC, Binary80.FACTORY);
+		testBulk(Binary128.CODEC, Binary128.FACTORY);
+		testBulk(Binary256.CODEC, Binary256.FACTORY);
+	}
+	
+	private <T extends Binary<T>> void testBulk(BinaryCodec<T> codec, FloatingFactory<T> factory) {
+		int count = RANDOM_COUNT * 4;
+		
+		int longs = codec.getLongsPerValue();
+		int bytes = codec.getBytesPerValue();
+		
+		int maxExp = codec.getExponentRange().getValue();
+		int minExp = codec.getExponentRange().getKey() - codec.getSignificandBits();
+		
+		// random values, including zero, overflowing and underflowing values
+		BigDecimal[] values = new BigDecimal[count];
+		
+		for(int i = 0; i < count; ++i)
+			values[i] = i == 0
+				? BigDecimal.ZERO
+				: new BigDecimal(BigInteger.valueOf(RANDOM.nextLong()))
+					.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(RANDOM.nextInt(0, maxExp + 8))))
+					.movePointLeft(RANDOM.nextInt(0, (int) (-minExp * 0.31) + 8));
+		
+		long[] packed = new long[count * longs + 1];
+		byte[] packedBytes = new byte[count * bytes + 1];
+		
+		codec.encodeAll(values, 0, count, packed, 1);
+		codec.encodeAll(values, 0, count, packedBytes, 1);
+		
+		List<T> decoded = codec.decodeAll(packed, 1, count);
+		List<T> decodedBytes = codec.decodeAll(packedBytes, 1, count);
+		
+		for(int i = 0; i < count; ++i) {
+			BigInteger expected = codec.encode(factory.create(values[i]));
+			
+			long[] words = Arrays.copyOfRange(packed, 1 + i * longs, 1 + (i + 1) * longs);
+			
+			BigInteger actual = BigInteger.ZERO;
+			
+			for(long word : words)
+				actual = actual.shiftLeft(64).or(new BigInteger(Long.toUnsignedString(word)));
+			
+			assertTrue(
+				actual.equals(expected),
+				values[i] + " bulk encoding doesn't match (got 0x" + actual.toString(16) + ") @ " + formatCodec(codec)
+			);
+			
+			actual = new BigInteger(1, Arrays.copyOfRange(packedBytes, 1 + i * bytes, 1 + (i + 1) * bytes));
+			
+			assertTrue(
+				actual.equals(expected),
+				values[i] + " bulk byte encoding doesn't match (got 0x" + actual.toString(16) + ") @ " + formatCodec(codec)
+			);
+			
+			assertTrue(
+				decoded.get(i).encode().equals(expected) && decodedBytes.get(i).encode().equals(expected),
+				values[i] + " bulk decoding doesn't match @ " + formatCodec(codec)
+			);
+		}
+		
+		// re-encode the decoded values
+		long[] reencoded = new long[count * longs];
+		
+		codec.encodeAll(decoded, reencoded, 0);
+		
+		assertTrue(
+			Arrays.equals(reencoded, 0, reencoded.length, packed, 1, packed.length),
+			"bulk re-encoding doesn't match @ " + formatCodec(codec)
+		);
+	}
+	
+	@Test
+	void testByteOrder() {
+		for(var codec : CODECS)
+			testByteOrder(codec);
+	}
+	
+	private <T extends Binary<T>> void testByteOrder(BinaryCodec<T> codec) {
+		int bytes = codec.getBytesPerValue();
+		int width = codec.getWidth();
+		
+		ByteBuffer buffer = ByteBuffer.allocate(RANDOM_COUNT * bytes + 1);
+		
+		for(ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			boolean bigEndian = order == ByteOrder.BIG_ENDIAN;
+			
+			BigInteger[] expected = new BigInteger[RANDOM_COUNT];
+			
+			buffer.clear().order(order).put((byte) 0x5A);
+			
+			for(int i = 0; i < RANDOM_COUNT; ++i) {
+				// NaN payloads are not retained, compare against the canonical encoding
+				T value = codec.decode(new BigInteger(width, RANDOM));
+				
+				expected[i] = codec.encode(value);
+				
+				codec.encodeTo(value, buffer);
+			}
+			
+			assertTrue(
+				buffer.position() == buffer.capacity() && buffer.get(0) == 0x5A,
+				"buffer position doesn't match @ " + formatCodec(codec)
+			);
+			
+			byte[] array = buffer.array();
+			
+			for(int i = 0; i < RANDOM_COUNT; ++i) {
+				byte[] raw = Arrays.copyOfRange(array, 1 + i * bytes, 1 + (i + 1) * bytes);
+				
+				if(!bigEndian)
+					for(int j = 0; j < bytes / 2; ++j) {
+						byte tmp = raw[j];
+						raw[j] = raw[bytes - 1 - j];
+						raw[bytes - 1 - j] = tmp;
+					}
+				
+				BigInteger actual = new BigInteger(1, raw);
+				
+				assertTrue(
+					actual.equals(expected[i]),
+					"0x" + expected[i].toString(16) + " " + order + " encoding doesn't match (got 0x" + actual.toString(16) + ") @ " + formatCodec(codec)
+				);
+				
+				byte[] copy = new byte[bytes + 1];
+				
+				codec.encodeTo(codec.decodeFrom(array, 1 + i * bytes, order), copy, 1, order);
+				
+				assertTrue(
+					Arrays.equals(copy, 1, bytes + 1, array, 1 + i * bytes, 1 + (i + 1) * bytes),
+					"0x" + expected[i].toString(16) + " " + order + " array re-encoding doesn't match @ " + formatCodec(codec)
+				);
+			}
+			
+			buffer.position(1);
+			
+			for(int i = 0; i < RANDOM_COUNT; ++i)
+				assertTrue(
+					codec.encode(codec.decodeFrom(buffer)).equals(expected[i]),
+					"0x" + expected[i].toString(16) + " " + order + " decoding doesn't match @ " + formatCodec(codec)
+				);
+			
+			assertTrue(
+				!buffer.hasRemaining(),
+				"buffer position doesn't match after decoding @ " + formatCodec(codec)
+			);
+		}
+	}
+	
+	@Test
+	void testMapped() throws IOException {
+		for(var codec : CODECS)
+			testMapped(codec);
+	}
+	
+	private <T extends Binary<T>> void testMapped(BinaryCodec<T> codec) throws IOException {
+		Path path = Files.createTempFile("ieee754", ".bin");
+		
+		try {
+			BigInteger[] expected = new BigInteger[RANDOM_COUNT];
+			
+			try(var array = MappedFloatingArray.open(codec, path, RANDOM_COUNT, ByteOrder.LITTLE_ENDIAN)) {
+				for(int i = 0; i < RANDOM_COUNT; ++i) {
+					T value = codec.decode(new BigInteger(codec.getWidth(), RANDOM));
+					
+					expected[i] = codec.encode(value);
+					
+					array.set(i, value);
+				}
+			}
+			
+			assertTrue(
+				Files.size(path) == (long) RANDOM_COUNT * codec.getBytesPerValue(),
+				"mapped file size doesn't match @ " + formatCodec(codec)
+			);
+			
+			var array = MappedFloatingArray.open(codec, path, ByteOrder.LITTLE_ENDIAN);
+			
+			try(array) {
+				long[] words = new long[codec.getLongsPerValue()];
+				
+				for(int i = 0; i < RANDOM_COUNT; ++i) {
+					array.getBits(i, words);
+					
+					BigInteger bits = BigInteger.ZERO;
+					
+					for(long word : words)
+						bits = bits.shiftLeft(64).or(new BigInteger(Long.toUnsignedString(word)));
+					
+					assertTrue(
+						bits.equals(expected[i]) && codec.encode(array.get(i)).equals(expected[i])
+							&& (!codec.isLongSupported() || array.getLong(i) == expected[i].longValue()),
+						"0x" + expected[i].toString(16) + " mapped element doesn't match (got 0x" + bits.toString(16) + ") @ " + formatCodec(codec)
+					);
+				}
+				
+				assertTrue(
+					array.length() == RANDOM_COUNT && !array.isWritable(),
+					"mapped array properties don't match @ " + formatCodec(codec)
+				);
+			}
+			
+			assertThrows(IllegalStateException.class, () -> array.get(0), "closed mapped array is accessible @ " + formatCodec(codec));
+		}
+		finally {
+			Files.delete(path);
+		}
+	}
+	
+	@Test
+	void testStreams() throws IOException {
+		for(ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			
+			BigInteger[][] expected = new BigInteger[CODECS.length][RANDOM_COUNT];
+			
+			// small buffer, so that values span across buffer boundaries
+			try(var out = new FloatingDataOutputStream(bytes, order, 7)) {
+				for(int j = 0; j < RANDOM_COUNT; ++j)
+					for(int i = 0; i < CODECS.length; ++i)
+						expected[i][j] = writeRandom(CODECS[i], out);
+			}
+			
+			byte[] data = bytes.toByteArray();
+			
+			try(var in = new FloatingDataInputStream(new ByteArrayInputStream(data), order, 7)) {
+				for(int j = 0; j < RANDOM_COUNT; ++j)
+					for(int i = 0; i < CODECS.length; ++i)
+						assertTrue(
+							readEncoded(CODECS[i], in).equals(expected[i][j]),
+							"0x" + expected[i][j].toString(16) + " " + order + " stream decoding doesn't match @ " + formatCodec(CODECS[i])
+						);
+				
+				assertTrue(in.read() == -1, "stream has trailing data");
+			}
+			
+			// the stream matches the codec's byte array encoding
+			int offset = 0;
+			
+			for(int j = 0; j < RANDOM_COUNT; ++j)
+				for(int i = 0; i < CODECS.length; ++i) {
+					assertTrue(
+						reencode(CODECS[i], data, offset, order).equals(expected[i][j]),
+						"0x" + expected[i][j].toString(16) + " " + order + " stream encoding doesn't match @ " + formatCodec(CODECS[i])
+					);
+					
+					offset += CODECS[i].getBytesPerValue();
+				}
+		}
+	}
+	
+	private <T extends Binary<T>> BigInteger writeRandom(BinaryCodec<T> codec, FloatingDataOutputStream out) throws IOException {
+		T value = codec.decode(new BigInteger(codec.getWidth(), RANDOM));
+		
+		out.write(value);
+		
+		return codec.encode(value);
+	}
+	
+	@Test
+	void testParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		
+		try {
+			for(var codec : CODECS)
+				testParallel(codec, pool);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+	
+	private <T extends Binary<T>> void testParallel(BinaryCodec<T> codec, ForkJoinPool pool) {
+		int count = 4096;
+		
+		int longs = codec.getLongsPerValue();
+		int bytes = codec.getBytesPerValue();
+		
+		BigDecimal[] values = new BigDecimal[count];
+		
+		// finite for all codecs, so that the values can be decoded into BigDecimals
+		for(int i = 0; i < count; ++i)
+			values[i] = BigDecimal.valueOf(RANDOM.nextInt(), RANDOM.nextInt(5, 12));
+		
+		long[] expected = new long[count * longs];
+		long[] actual = new long[count * longs];
+		
+		codec.encodeAll(values, 0, count, expected, 0);
+		codec.encodeAllParallel(values, 0, count, actual, 0, null, pool);
+		
+		assertTrue(Arrays.equals(expected, actual), "parallel encoding doesn't match @ " + formatCodec(codec));
+		
+		List<T> decoded = codec.decodeAllParallel(expected, 0, count, pool);
+		
+		Arrays.fill(actual, 0);
+		codec.encodeAllParallel(decoded, actual, 0, null, pool);
+		
+		assertTrue(Arrays.equals(expected, actual), "parallel decoding doesn't match @ " + formatCodec(codec));
+		
+		byte[] expectedBytes = new byte[count * bytes];
+		byte[] actualBytes = new byte[count * bytes];
+		
+		codec.encodeAll(values, 0, count, expectedBytes, 0);
+		codec.encodeAllParallel(values, 0, count, actualBytes, 0, null, pool);
+		
+		assertTrue(Arrays.equals(expectedBytes, actualBytes), "parallel byte encoding doesn't match @ " + formatCodec(codec));
+		
+		List<T> decodedBytes = codec.decodeAllParallel(expectedBytes, 0, count, pool);
+		
+		Arrays.fill(actualBytes, (byte) 0);
+		codec.encodeAllParallel(decodedBytes, actualBytes, 0, null, pool);
+		
+		assertTrue(Arrays.equals(expectedBytes, actualBytes), "parallel byte decoding doesn't match @ " + formatCodec(codec));
+		
+		// the flags of all values are raised, regardless of the task that encoded them
+		StatusFlags sequentialFlags = new StatusFlags();
+		StatusFlags parallelFlags = new StatusFlags();
+		
+		codec.encodeAll(values, 0, count, expected, 0, sequentialFlags);
+		codec.encodeAllParallel(values, 0, count, actual, 0, parallelFlags, pool);
+		
+		assertTrue(
+			Arrays.equals(expected, actual) && sequentialFlags.getFlags() == parallelFlags.getFlags(),
+			"parallel encoding raised " + parallelFlags + " instead of " + sequentialFlags + " @ " + formatCodec(codec)
+		);
+		
+		parallelFlags.clear();
+		codec.encodeAllParallel(decodedBytes, actualBytes, 0, parallelFlags, pool);
+		
+		assertTrue(
+			Arrays.equals(expectedBytes, actualBytes) && parallelFlags.isClear(),
+			"parallel byte encoding raised " + parallelFlags + " @ " + formatCodec(codec)
+		);
+		
+		BigDecimal[] sequential = new BigDecimal[count];
+		BigDecimal[] parallel = new BigDecimal[count];
+		
+		codec.decodeAll(expected, 0, count, sequential, 0);
+		codec.decodeAllParallel(expected, 0, count, parallel, 0, pool);
+		
+		assertTrue(Arrays.equals(sequential, parallel), "parallel value decoding doesn't match @ " + formatCodec(codec));
+		
+		Arrays.fill(parallel, null);
+		codec.decodeAllParallel(expectedBytes, 0, count, parallel, 0, pool);
+		
+		assertTrue(Arrays.equals(sequential, parallel), "parallel byte decoding doesn't match @ " + formatCodec(codec));
+	}
+	
+	@Test
+	void testHalfPrecision() {
+		// every binary16 value
+		short[] halves = new short[1 << 16];
+		float[] floats = new float[halves.length];
+		
+		for(int i = 0; i < halves.length; ++i)
+			halves[i] = (short) i;
+		
+		Binary16.toFloats(halves, 0, floats, 0, halves.length);
+		
+		for(int i = 0; i < halves.length; ++i) {
+			Binary16 value = Binary16.CODEC.decode(BigInteger.valueOf(i));
+			
+			assertTrue(
+				value.isNaN()
+					? Float.isNaN(floats[i])
+					: Float.compare(floats[i], value.isFinite() ? value.getBigDecimal().floatValue() : value.floatValue()) == 0
+						|| (value.isZero() && floats[i] == 0 && (Float.floatToRawIntBits(floats[i]) < 0) == value.isNegative()),
+				"0x" + Integer.toHexString(i) + " binary16 to float conversion doesn't match (got " + floats[i] + ")"
+			);
+		}
+		
+		// converting back yields the same binary representation (except for NaNs, which become quiet)
+		short[] reconverted = new short[halves.length];
+		
+		Binary16.fromFloats(floats, 0, reconverted, 0, floats.length);
+		
+		for(int i = 0; i < halves.length; ++i)
+			assertTrue(
+				reconverted[i] == halves[i] || (Float.isNaN(floats[i]) && reconverted[i] == (short) (halves[i] | 0x200)),
+				"0x" + Integer.toHexString(i) + " binary16 round trip doesn't match (got 0x" + Integer.toHexString(reconverted[i] & 0xFFFF) + ")"
+			);
+		
+		// random floats (incl. subnormal results, ties and overflows), odd length to cover the scalar tail
+		int count = RANDOM_COUNT * 40 + 3;
+		
+		floats = new float[count];
+		halves = new short[count];
+		
+		for(int i = 0; i < count; ++i)
+			floats[i] = switch(i % 3) {
+			case 0 -> Float.intBitsToFloat(RANDOM.nextInt(0x32000000, 0x47900000) | (RANDOM.nextBoolean() ? 0x80000000 : 0));
+			case 1 -> Float.intBitsToFloat(RANDOM.nextInt(0x33000000, 0x477FF001) & ~0xFFF | 0x1000); // ties
+			default -> (float) RANDOM.nextGaussian();
+			};
+		
+		Binary16.fromFloats(floats, 0, halves, 0, count);
+		
+		ShortBuffer buffer = ShortBuffer.allocate(count);
+		
+		Binary16.fromFloats(FloatBuffer.wrap(floats).asReadOnlyBuffer(), buffer);
+		
+		for(int i = 0; i < count; ++i) {
+			float abs = Math.abs(floats[i]);
+			
+			/*
+			 * Binary16.FACTORY flushes values below the smallest subnormal value to zero,
+			 * whereas the conversion rounds them to nearest (ties to even)
+			 */
+			int expected = abs < 0x1p-24f
+				? (floats[i] < 0 ? 0x8000 : 0) | (abs > 0x1p-25f ? 1 : 0)
+				: Binary16.CODEC.encode(Binary16.FACTORY.create(new BigDecimal(floats[i]))).intValue();
+			
+			assertTrue(
+				(halves[i] & 0xFFFF) == expected && buffer.get(i) == halves[i],
+				floats[i] + " float to binary16 conversion doesn't match (got 0x" + Integer.toHexString(halves[i] & 0xFFFF) + ")"
+			);
+		}
+	}
+	
+	@Test
+	void testOptions() {
+		assertTrue(Binary64.CODEC.getOptions().equals(CodecOptions.defaults()), "unbound codec doesn't use the default options");
+		
+		// encode concurrently using different rounding modes, without changing Rounding.DEFAULT_ROUNDING
+		Arrays.stream(ROUNDINGS).parallel().forEach(rounding -> {
+			CodecOptions options = CodecOptions.defaults().withRounding(rounding);
+			BinaryCodec<Binary64> codec = Binary64.CODEC.withOptions(options);
+			
+			long[] bulk = new long[1];
+			
+			for(int i = 0; i < RANDOM_COUNT * 100; ++i) {
+				BigDecimal value = randomDecimal();
+				
+				double expected = roundDouble(value, rounding);
+				
+				if(Double.isInfinite(expected) || expected == 0)
+					continue;
+				
+				Binary64 number = Binary64.FACTORY.create(value);
+				
+				long encoded = codec.encodeToLong(number);
+				
+				assertTrue(
+					encoded == Double.doubleToRawLongBits(expected),
+					value + " encoding doesn't match (got 0x" + Long.toHexString(encoded) + ") @ binary64/" + rounding
+				);
+				
+				assertTrue(
+					compare(Binary64.CODEC.encode(number, options), new BigInteger(Long.toUnsignedString(encoded))),
+					value + " encoding with options doesn't match @ binary64/" + rounding
+				);
+				
+				codec.encodeAll(new BigDecimal[] { value }, 0, 1, bulk, 0);
+				
+				assertTrue(bulk[0] == encoded, value + " bulk encoding doesn't match @ binary64/" + rounding);
+			}
+		});
+		
+		testOptions(Binary16.CODEC, Binary16.FACTORY);
+		testOptions(Binary32.CODEC, Binary32.FACTORY);
+		testOptions(Binary64.CODEC, Binary64.FACTORY);
+		testOptions(Binary80.CODEC, Binary80.FACTORY);
+		testOptions(Binary128.CODEC, Binary128.FACTORY);
+		testOptions(Binary256.CODEC, Binary256.FACTORY);
+	}
+	
+	private <T extends Binary<T>> void testOptions(BinaryCodec<T> codec, FloatingFactory<T> factory) {
+		for(Rounding rounding : ROUNDINGS) {
+			CodecOptions options = CodecOptions.defaults().withRounding(rounding);
+			BinaryCodec<T> bound = codec.withOptions(options);
+			
+			for(int i = 0; i < RANDOM_COUNT; ++i) {
+				T value = factory.create(BigDecimal.valueOf(RANDOM.nextLong(), RANDOM.nextInt(5, 40)));
+				
+				BigInteger expected = codec.encode(value, options);
+				
+				assertTrue(
+					compare(bound.encode(value), expected),
+					value + " encoding with bound options doesn't match @ " + formatCodec(codec) + "/" + rounding
+				);
+			}
+		}
+	}
+	
+	@Test
+	void testFlags() {
+		testFlags(Binary16.CODEC, (BinaryFactory<Binary16>) Binary16.FACTORY);
+		testFlags(Binary32.CODEC, (BinaryFactory<Binary32>) Binary32.FACTORY);
+		testFlags(Binary64.CODEC, (BinaryFactory<Binary64>) Binary64.FACTORY);
+		testFlags(Binary80.CODEC, (BinaryFactory<Binary80>) Binary80.FACTORY);
+		testFlags(Binary128.CODEC, (BinaryFactory<Binary128>) Binary128.FACTORY);
+		testFlags(Binary256.CODEC, (BinaryFactory<Binary256>) Binary256.FACTORY);
+		
+		BinaryCodec<Binary64> codec = Binary64.CODEC;
+		
+		BigDecimal[] values = new BigDecimal[RANDOM_COUNT];
+		StatusFlags combined = new StatusFlags();
+		
+		for(int i = 0; i < RANDOM_COUNT; ++i) {
+			BigDecimal value = BigDecimal.valueOf(RANDOM.nextLong(), RANDOM.nextInt(-320, 340));
+			values[i] = value;
+			
+			StatusFlags flags = new StatusFlags();
+			
+			long encoded = codec.encodeToLong(Binary64.FACTORY.create(value, flags), flags);
+			double result = Double.longBitsToDouble(encoded);
+			
+			int expectedFlags = 0;
+			
+			if(Double.isInfinite(result))
+				expectedFlags = StatusFlags.OVERFLOW | StatusFlags.INEXACT;
+			
+			else if(new BigDecimal(result).compareTo(value) != 0) {
+				expectedFlags = StatusFlags.INEXACT;
+				
+				if(value.abs().compareTo(BigDecimal.valueOf(Double.MIN_NORMAL)) < 0)
+					expectedFlags |= StatusFlags.UNDERFLOW;
+			}
+			
+			assertTrue(
+				flags.getFlags() == expectedFlags,
+				value + " raised " + flags + " @ binary64"
+			);
+			
+			combined.merge(flags);
+		}
+		
+		StatusFlags bulk = new StatusFlags();
+		
+		codec.encodeAll(values, 0, values.length, new long[values.length], 0, bulk);
+		
+		assertTrue(bulk.getFlags() == combined.getFlags(), "bulk encoding raised " + bulk + " instead of " + combined + " @ binary64");
+	}
+	
+	private <T extends Binary<T>> void testFlags(BinaryCodec<T> codec, BinaryFactory<T> factory) {
+		int minExponent = 1 - codec.getBias();
+		int significand = codec.getSignificandBits();
+		
+		// exact, normal
+		testFlags(codec, factory.create(POSITIVE, BigInteger.ONE, 0), 0);
+		testFlags(codec, factory.create(NEGATIVE, BigInteger.ONE, minExponent), 0);
+		
+		// exact, subnormal
+		testFlags(codec, factory.create(POSITIVE, BigInteger.ONE, minExponent - significand), 0);
+		
+		// values which are not representable cannot be created from a significand and an exponent
+		assertThrows(
+			IllegalArgumentException.class,
+			() -> factory.create(POSITIVE, BigInteger.ONE.shiftLeft(significand + 1).add(BigInteger.ONE), 0),
+			"creating an inexact value doesn't fail @ " + formatCodec(codec)
+		);
+		
+		// one bit more than the precision
+		testFlags(codec, factory, new BigDecimal(BigInteger.ONE.shiftLeft(significand + 1).add(BigInteger.ONE)), StatusFlags.INEXACT);
+		
+		// inexact, subnormal
+		testFlags(
+			codec,
+			factory,
+			pow2(minExponent - significand - 1).multiply(BigDecimal.valueOf(-3)),
+			StatusFlags.UNDERFLOW | StatusFlags.INEXACT
+		);
+		
+		// rounded to zero (when the value is created)
+		testFlags(
+			codec,
+			factory,
+			pow2(minExponent - significand - 2),
+			StatusFlags.UNDERFLOW | StatusFlags.INEXACT
+		);
+		
+		// rounded to infinity (when the value is created)
+		testFlags(
+			codec,
+			factory,
+			pow2(codec.getBias() + 1),
+			StatusFlags.OVERFLOW | StatusFlags.INEXACT
+		);
+		
+		for(int signum : SIGNUMS) {
+			testFlags(codec, factory.create(signum, FloatingType.INFINITE), 0);
+			testFlags(codec, factory.create(signum, FloatingType.QUIET_NAN), 0);
+			testFlags(codec, factory.create(signum, FloatingType.SIGNALING_NAN), StatusFlags.INVALID);
+			
+			StatusFlags flags = new StatusFlags();
+			codec.decode(codec.getSignalingNaN(signum), flags);
+			
+			assertTrue(flags.isInvalid(), "decoding sNaN didn't raise invalid @ " + formatCodec(codec));
+			
+			flags = new StatusFlags();
+			codec.decode(codec.getQuietNaN(signum), flags);
+			
+			assertTrue(flags.isClear(), "decoding qNaN raised " + flags + " @ " + formatCodec(codec));
+		}
+	}
+	
+	private <T extends Binary<T>> void testFlags(BinaryCodec<T> codec, T value, int expected) {
+		StatusFlags flags = new StatusFlags();
+		
+		codec.encode(value, flags);
+		
+		assertTrue(flags.getFlags() == expected, value + " raised " + flags + " @ " + formatCodec(codec));
+	}
+	
+	private <T extends Binary<T>> void testFlags(BinaryCodec<T> codec, FloatingFactory<T> factory, BigDecimal value, int expected) {
+		StatusFlags flags = new StatusFlags();
+		
+		codec.encode(factory.create(value, flags), flags);
+		
+		assertTrue(flags.getFlags() == expected, value + " raised " + flags + " @ " + formatCodec(codec));
+	}
+	
+	// exact value of 2^n
+	private static BigDecimal pow2(int n) {
+		return n >= 0
+			? new BigDecimal(BigInteger.ONE.shiftLeft(n))
+			: new BigDecimal(BigInteger.valueOf(5).pow(-n), -n);
+	}
+	
+	@Test
+	void testFormat() {
+		for(int i = 0; i < RANDOM_COUNT * 40; ++i) {
+			long bits = RANDOM.nextLong();
+			
+			double d = Double.longBitsToDouble(bits);
+			float f = Float.intBitsToFloat((int) bits);
+			
+			assertTrue(
+				Binary64.CODEC.format(Binary64.CODEC.decodeLong(bits)).equals(Double.toString(d)),
+				d + " formatting doesn't match @ binary64"
+			);
+			
+			assertTrue(
+				Binary32.CODEC.decodeLong(bits & 0xFFFFFFFFL).toShortString().equals(Float.toString(f)),
+				f + " formatting doesn't match @ binary32"
+			);
+		}
+		
+		assertTrue(Binary16.CODEC.decodeLong(0x2E66).toShortString().equals("0.1"), "0.1 formatting doesn't match @ binary16");
+		assertTrue(Binary16.CODEC.decodeLong(0x0001).toShortString().equals("6.0E-8"), "6.0E-8 formatting doesn't match @ binary16");
+		assertTrue(Binary16.CODEC.decodeLong(0xFBFF).toShortString().equals("-65500.0"), "-65500.0 formatting doesn't match @ binary16");
+		
+		assertTrue(Binary128.FACTORY.create(BigDecimal.ONE).toShortString().equals("1.0"), "1.0 formatting doesn't match @ binary128");
+		assertTrue(Binary128.FACTORY.create(new BigDecimal("0.1")).toShortString().equals("0.1"), "0.1 formatting doesn't match @ binary128");
+		
+		for(int i = 0; i < 1 << 15; ++i)
+			testFormat(Binary16.CODEC, Binary16.FACTORY, BigInteger.valueOf(i));
+		
+		testFormat(Binary80.CODEC, Binary80.FACTORY);
+		testFormat(Binary128.CODEC, Binary128.FACTORY);
+		testFormat(Binary256.CODEC, Binary256.FACTORY);
+	}
+	
+	private <T extends Binary<T>> void testFormat(BinaryCodec<T> codec, FloatingFactory<T> factory) {
+		for(int i = 0; i < RANDOM_COUNT; ++i) {
+			BigInteger bits = new BigInteger(codec.getWidth(), RANDOM);
+			
+			if(!codec.isImplicit()) // the explicit bit is only set for normalized numbers
+				bits = codec.getExponent(bits).signum() == 0
+					? bits.clearBit(codec.getSignificandBits())
+					: bits.setBit(codec.getSignificandBits());
+			
+			testFormat(codec, factory, bits);
+		}
+	}
+	
+	private <T extends Binary<T>> void testFormat(BinaryCodec<T> codec, FloatingFactory<T> factory, BigInteger bits) {
+		T value = codec.decode(bits);
+		
+		if(!value.isFinite())
+			return;
+		
+		String string = value.toShortString();
+		BigDecimal parsed = new BigDecimal(string);
+		
+		assertTrue(
+			compare(codec.encode(factory.create(parsed)), bits) || (value.isZero() && parsed.signum() == 0),
+			string + " doesn't round-trip (0x" + bits.toString(16) + ") @ " + formatCodec(codec)
+		);
+		
+		int digits = parsed.stripTrailingZeros().precision();
+		
+		if(digits < 3) // a single digit might be extended to two digits
+			return;
+		
+		for(RoundingMode mode : new RoundingMode[] { RoundingMode.FLOOR, RoundingMode.CEILING }) {
+			BigDecimal shorter = parsed.round(new MathContext(digits - 1, mode));
+			
+			assertTrue(
+				!compare(codec.encode(factory.create(shorter)), bits),
+				string + " is not the shortest representation (" + shorter + " round-trips) @ " + formatCodec(codec)
+			);
+		}
+	}
+	
+	@Test
+	void testParse() {
+		String[] strings = {
+			"0.1", "-2.5e-3", "+1E+10", "123456789012345678901234567890", "4.9E-324", "2.4703282292062328E-324",
+			"2.4703282292062327E-324", "1.7976931348623157E308", "1.7976931348623158E308", "1.8E308", "9007199254740993",
+			"3.4028235E38", "3.4028236E38", "1.4E-45", "7.0E-46", "0.000000000000000000000000000000000000000000001",
+			"1e-400", "1e400", "Infinity", "-Infinity", "-0.0", "0e500"
+		};
+		
+		for(String string : strings)
+			testParse(string);
+		
+		for(int i = 0; i < RANDOM_COUNT * 40; ++i) {
+			long bits = RANDOM.nextLong();
+			
+			testParse(Double.toString(Double.longBitsToDouble(bits)));
+			testParse(Float.toString(Float.intBitsToFloat((int) bits)));
+			
+			// random digits, possibly exceeding 19 digits
+			StringBuilder sb = new StringBuilder(RANDOM.nextBoolean() ? "-" : "");
+			
+			int digits = RANDOM.nextInt(1, RANDOM.nextBoolean() ? 20 : 40);
+			
+			for(int j = 0; j < digits; ++j)
+				sb.append((char) ('0' + RANDOM.nextInt(10)));
+			
+			testParse(sb.append('e').append(RANDOM.nextInt(-350, 330)).toString());
+			
+			// halfway between two adjacent values, and slightly above or below
+			double value = Math.abs(Double.longBitsToDouble(bits));
+			
+			if(Double.isFinite(value) && value != 0) {
+				BigDecimal halfway = new BigDecimal(value).add(new BigDecimal(Math.ulp(value) / 2));
+				BigDecimal delta = BigDecimal.ONE.movePointLeft(RANDOM.nextInt(400, 800));
+				
+				testParse(halfway.toString());
+				testParse(halfway.add(delta).toString());
+				testParse(halfway.subtract(delta).toString());
+			}
+		}
+		
+		for(int i = 0; i < 1 << 15; ++i) {
+			Binary16 value = Binary16.CODEC.decodeLong(i);
+			
+			if(value.isFinite())
+				assertTrue(
+					Binary16.CODEC.parseToLong(value.toShortString()) == i || value.isZero(),
+					value + " doesn't round-trip (0x" + Integer.toHexString(i) + ") @ binary16"
+				);
+		}
+		
+		testParse(Binary16.CODEC, Binary16.FACTORY);
+		testParse(Binary80.CODEC, Binary80.FACTORY);
+		testParse(Binary128.CODEC, Binary128.FACTORY);
+		
+		for(Rounding rounding : List.of(Rounding.TIES_AWAY, Rounding.TOWARD_ZERO, Rounding.TOWARD_POSITIVE, Rounding.TOWARD_NEGATIVE)) {
+			CodecOptions options = Binary64.CODEC.getOptions().withRounding(rounding);
+			
+			testParse(Binary64.CODEC.withOptions(options), Binary64.FACTORY);
+			testParse(Binary32.CODEC.withOptions(options), Binary32.FACTORY);
+		}
+		
+		assertTrue(Binary64.CODEC.parse("NaN").isQuietNaN(), "NaN is not parsed as qNaN @ binary64");
+		
+		for(String string : new String[] { "", "-", "1e", "1.2.3", "e5", "0x10", "1_000", "inf", " 1" }) {
+			assertThrows(NumberFormatException.class, () -> Binary64.CODEC.parse(string), "'" + string + "' is parsed @ binary64");
+			assertThrows(NumberFormatException.class, () -> Binary128.CODEC.parseBits(string), "'" + string + "' is parsed @ binary128");
+		}
+	}
+	
+	private void testParse(String string) {
+		if(string.equals("NaN")) // the payload of the quiet NaN differs from Java's canonical NaN
+			return;
+		
+		long expected = Double.doubleToRawLongBits(Double.parseDouble(string));
+		
+		assertTrue(Binary64.CODEC.parseToLong(string) == expected, string + " is not parsed correctly @ binary64");
+		assertTrue(compare(Binary64.CODEC.parse(string), Binary64.CODEC.decodeLong(expected)), string + " is not parsed correctly @ binary64");
+		
+		expected = Float.floatToRawIntBits(Float.parseFloat(string)) & 0xFFFFFFFFL;
+		
+		assertTrue(Binary32.CODEC.parseToLong(string) == expected, string + " is not parsed correctly @ binary32");
+		assertTrue(Binary32.CODEC.parseBits(string).longValue() == expected, string + " is not parsed correctly @ binary32");
+	}
+	
+	private <T extends Binary<T>> void testParse(BinaryCodec<T> codec, FloatingFactory<T> factory) {
+		// values which are neither flushed to zero nor infinity by the factory
+		BigDecimal min = codec.getMinSubnormalValue().getBigDecimal();
+		BigDecimal max = codec.getMaxValue().getBigDecimal();
+		
+		for(int i = 0; i < RANDOM_COUNT * 4; ++i) {
+			BigDecimal value = new BigDecimal(
+				new BigInteger(RANDOM.nextInt(1, 150), RANDOM).multiply(BigInteger.valueOf(RANDOM.nextBoolean() ? 1 : -1)),
+				RANDOM.nextInt(-max.precision() + max.scale(), min.scale())
+			);
+			
+			if(value.signum() == 0 || value.abs().compareTo(min) < 0 || value.abs().compareTo(max) > 0)
+				continue;
+			
+			String string = value.toString();
+			
+			assertTrue(
+				compare(codec.parseBits(string), codec.encode(factory.create(value))),
+				string + " is not parsed correctly @ " + formatCodec(codec)
+			);
+		}
+	}
+	
+	@Test
+	void testHex() {
+		for(int i = 0; i < RANDOM_COUNT * 40; ++i) {
+			long bits = RANDOM.nextLong();
+			
+			if(RANDOM.nextBoolean()) // subnormal
+				bits &= 0x800FFFFF_FFFFFFFFL;
+			
+			double d = Double.longBitsToDouble(bits);
+			float f = Float.intBitsToFloat((int) bits);
+			
+			if(!Double.isNaN(d)) {
+				String hex = Binary64.CODEC.formatHexBits(new BigInteger(Long.toUnsignedString(bits)));
+				
+				assertTrue(hex.equals(Double.toHexString(d)), hex + " doesn't match " + Double.toHexString(d) + " @ binary64");
+				assertTrue(Binary64.CODEC.parseHexBits(hex).longValue() == bits, hex + " doesn't round-trip @ binary64");
+			}
+			
+			if(!Float.isNaN(f)) {
+				String hex = Binary32.CODEC.formatHexBits(BigInteger.valueOf(bits & 0xFFFFFFFFL));
+				
+				assertTrue(hex.equals(Float.toHexString(f)), hex + " doesn't match " + Float.toHexString(f) + " @ binary32");
+				assertTrue(Binary32.CODEC.parseHexBits(hex).longValue() == (bits & 0xFFFFFFFFL), hex + " doesn't round-trip @ binary32");
+			}
+			
+			// random digits, possibly exceeding the precision
+			StringBuilder sb = new StringBuilder(RANDOM.nextBoolean() ? "-0x" : "0X");
+			
+			int digits = RANDOM.nextInt(1, RANDOM.nextBoolean() ? 8 : 40);
+			int point = RANDOM.nextInt(digits + 1);
+			
+			for(int j = 0; j < digits; ++j) {
+				if(j == point)
+					sb.append('.');
+				
+				sb.append("0123456789abcdefABCDEF".charAt(RANDOM.nextInt(22)));
+			}
+			
+			String string = sb.append('p').append(RANDOM.nextInt(-1200, 1200)).toString();
+			
+			assertTrue(
+				Binary64.CODEC.parseHexBits(string).longValue() == Double.doubleToRawLongBits(Double.parseDouble(string)),
+				string + " is not parsed correctly @ binary64"
+			);
+			
+			assertTrue(
+				Binary32.CODEC.parseHexBits(string).longValue() == (Float.floatToRawIntBits(Float.parseFloat(string)) & 0xFFFFFFFFL),
+				string + " is not parsed correctly @ binary32"
+			);
+		}
+		
+		for(int i = 0; i < 1 << 16; ++i) {
+			BigInteger bits = BigInteger.valueOf(i);
+			
+			if(!Binary16.CODEC.isNaN(bits))
+				testHex(Binary16.CODEC, bits);
+		}
+		
+		testHex(Binary80.CODEC);
+		testHex(Binary128.CODEC);
+		testHex(Binary256.CODEC);
+		
+		// explicit bit
+		assertTrue(compare(Binary80.CODEC.parseHexBits("0x1p0"), hex("3FFF 8000000000000000")), "0x1p0 is not parsed correctly @ binary80");
+		assertTrue(compare(Binary80.CODEC.parseHexBits("0x1p-16382"), hex("0001 8000000000000000")), "0x1p-16382 is not parsed correctly @ binary80");
+		assertTrue(compare(Binary80.CODEC.parseHexBits("0x0.8p-16382"), hex("0000 4000000000000000")), "0x0.8p-16382 is not parsed correctly @ binary80");
+		assertTrue(Binary80.CODEC.formatHexBits(hex("0000 8000000000000000")).equals("0x1.0p-16382"), "pseudo-denormal is not formatted correctly @ binary80");
+		assertTrue(Binary80.FACTORY.create(BigDecimal.valueOf(-12)).toHexString().equals("-0x1.8p3"), "-12 is not formatted correctly @ binary80");
+		
+		// rounding
+		assertTrue(Binary32.CODEC.parseHexBits("0x1.ffffffp0").longValue() == 0x40000000L, "0x1.ffffffp0 is not rounded to nearest @ binary32");
+		assertTrue(
+			Binary32.CODEC.withOptions(Binary32.CODEC.getOptions().withRounding(Rounding.TOWARD_ZERO))
+				.parseHexBits("0x1.ffffffp0").longValue() == 0x3FFFFFFFL,
+			"0x1.ffffffp0 is not rounded toward zero @ binary32"
+		);
+		assertTrue(
+			Binary16.CODEC.withOptions(Binary16.CODEC.getOptions().withRounding(Rounding.TOWARD_ZERO))
+				.parseHexBits("0x1p16").longValue() == 0x7BFFL,
+			"0x1p16 is not rounded to the maximum value @ binary16"
+		);
+		
+		assertTrue(Binary128.CODEC.parseHex("-NaN").isQuietNaN(), "-NaN is not parsed as qNaN @ binary128");
+		assertTrue(Binary128.CODEC.parseHex("-Infinity").isNegativeInfinity(), "-Infinity is not parsed correctly @ binary128");
+		
+		for(String string : new String[] { "", "0x", "0x1", "0x1.8", "1p3", "0x.p1", "0x1p", "0x1p+", "0x1.8.p1", "0xgp1", "0x1p1.5" }) {
+			assertThrows(NumberFormatException.class, () -> Binary64.CODEC.parseHexBits(string), "'" + string + "' is parsed @ binary64");
+			assertThrows(NumberFormatException.class, () -> Binary80.CODEC.parseHex(string), "'" + string + "' is parsed @ binary80");
+		}
+	}
+	
+	private <T extends Binary<T>> void testHex(BinaryCodec<T> codec) {
+		for(int i = 0; i < RANDOM_COUNT * 4; ++i) {
+			BigInteger bits = new BigInteger(codec.getWidth(), RANDOM);
+			
+			if(!codec.isImplicit()) // the explicit bit is only set for normalized numbers
+				bits = codec.getExponent(bits).signum() == 0
+					? bits.clearBit(codec.getSignificandBits())
+					: bits.setBit(codec.getSignificandBits());
+			
+			if(!codec.isNaN(bits))
+				testHex(codec, bits);
+		}
+	}
+	
+	private <T extends Binary<T>> void testHex(BinaryCodec<T> codec, BigInteger bits) {
+		String hex = codec.formatHexBits(bits);
+		
+		assertTrue(compare(codec.parseHexBits(hex), bits), hex + " doesn't round-trip (0x" + bits.toString(16) + ") @ " + formatCodec(codec));
+		
+		T value = codec.decode(bits);
+		
+		assertTrue(compare(codec.parseHex(value.toHexString()), value), value + " doesn't round-trip @ " + formatCodec(codec));
+	}
+	
+	private <T extends Binary<T>> BigInteger readEncoded(BinaryCodec<T> codec, FloatingDataInputStream in) throws IOException {
+		return codec.encode(in.read(codec));
+	}
+	
+	private <T extends Binary<T>> BigInteger reencode(BinaryCodec<T> codec, byte[] data, int offset, ByteOrder order) {
+		return codec.encode(codec.decodeFrom(data, offset, order));
+	}
+
 }
@@ -22,19 +22,40 @@
  */
 package at.syntaxerror.ieee754.unittest;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 
+import at.syntaxerror.ieee754.CodecOptions;
+import at.syntaxerror.ieee754.FloatingDataInputStream;
+import at.syntaxerror.ieee754.FloatingDataOutputStream;
+import at.syntaxerror.ieee754.FloatingFactory;
+import at.syntaxerror.ieee754.FloatingType;
+import at.syntaxerror.ieee754.StatusFlags;
 import at.syntaxerror.ieee754.decimal.Decimal;
 import at.syntaxerror.ieee754.decimal.Decimal128;
 import at.syntaxerror.ieee754.decimal.Decimal32;
 import at.syntaxerror.ieee754.decimal.Decimal64;
 import at.syntaxerror.ieee754.decimal.DecimalCodec;
 import at.syntaxerror.ieee754.decimal.DecimalCoding;
+import at.syntaxerror.ieee754.decimal.DecimalFactory;
+import at.syntaxerror.ieee754.rounding.Rounding;
 
 /**
  * @author Thomas Kasper
@@ -63,6 +84,22 @@ class DecimalTest {
 	
 	private static final int[] SIGNUMS = { NEGATIVE, POSITIVE };
 	
+	private static final Rounding[] ROUNDINGS = {
+		Rounding.TIES_EVEN,
+		Rounding.TIES_AWAY,
+		Rounding.TOWARD_ZERO,
+		Rounding.TOWARD_POSITIVE,
+		Rounding.TOWARD_NEGATIVE
+	};
+	
+	private static final RoundingMode[] ROUNDING_MODES = {
+		RoundingMode.HALF_EVEN,
+		RoundingMode.HALF_UP,
+		RoundingMode.DOWN,
+		RoundingMode.CEILING,
+		RoundingMode.FLOOR
+	};
+	
 	private static final BigInteger[][] INFINITIES = { // [0] = -Infinity, [1] = +Infinity
 		// decimal32
 		{
@@ -136,8 +173,8 @@ class DecimalTest {
 	
 	private static String formatCodec(DecimalCodec<?> codec) {
 		for(int i = 0; i < CODECS.length; ++i)
-			if(CODECS[i] == codec)
-				return CODEC_NAMES[i] + "#" + Decimal.DEFAULT_CODING;
+			if(CODECS[i].getBytesPerValue() == codec.getBytesPerValue()) // also matches codecs bound to other options
+				return CODEC_NAMES[i] + "#" + codec.getOptions().coding();
 		
 		return "<unknown codec>";
 	}
@@ -150,6 +187,12 @@ class DecimalTest {
 		test.run();
 	}
 	
+	private void testBoundCodings(Consumer<CodecOptions> test) {
+		// bind the coding to the codecs instead of changing Decimal.DEFAULT_CODING
+		for(DecimalCoding coding : DecimalCoding.values())
+			test.accept(CodecOptions.defaults().withCoding(coding));
+	}
+	
 	private <T extends Decimal<T>> void testInfinity(DecimalCodec<T> codec, int signum, BigInteger expectation) {
 		testCodings(() -> {
 			BigInteger inf = signum == NEGATIVE
@@ -402,6 +445,678 @@ class DecimalTest {
 		}
 	}
 	
+	private <T extends Decimal<T>> void testLong(DecimalCodec<T> codec, RoundingMode mode) {
+		int digits = codec.getSignificandDigits();
+		int bias = codec.getBias();
+		int maxExp = (codec.getExponentRange().getValue() - 1) * 2 - 1 - bias;
+		
+		for(int i = 0; i < RANDOM_COUNT * 20; ++i) {
+			// random coefficient with up to 18 digits, random exponent (including subnormal numbers and exponents requiring padding)
+			long coefficient = RANDOM.nextLong(1, 1_000_000_000_000_000_000L) / (long) Math.pow(10, RANDOM.nextInt(18));
+			int exponent = RANDOM.nextInt(-bias - 4, maxExp + 4);
+			
+			if(RANDOM.nextBoolean())
+				coefficient = -coefficient;
+			
+			BigDecimal value = BigDecimal.valueOf(coefficient, -exponent);
+			BigDecimal expected = value.round(new MathContext(digits, mode));
+			
+			if(expected.scale() > bias) // subnormal
+				expected = value.setScale(bias, mode);
+			
+			long encoded = codec.encodeBID(coefficient, exponent);
+			T decoded = codec.decodeBID(encoded);
+			
+			BigDecimal max = codec.getMaxValue().getBigDecimal();
+			
+			if(expected.abs().compareTo(max) > 0) { // overflow
+				boolean negative = expected.signum() < 0;
+				
+				// infinity if the rounding mode rounds away from zero for the sign, the maximum finite value otherwise
+				boolean infinite = switch(mode) {
+				case DOWN -> false;
+				case CEILING -> !negative;
+				case FLOOR -> negative;
+				default -> true;
+				};
+				
+				assertTrue(
+					infinite
+						? decoded.isInfinity() && decoded.isNegative() == negative
+						: decoded.getBigDecimal().compareTo(negative ? max.negate() : max) == 0,
+					value + " does not overflow to " + (infinite ? "infinity" : "the maximum value") + " (got " + decoded + ") @ "
+						+ formatCodec(codec) + "/" + mode
+				);
+				continue;
+			}
+			
+			assertTrue(
+				decoded.getBigDecimal().compareTo(expected) == 0,
+				value + " encoding doesn't match (got " + decoded + ") @ " + formatCodec(codec) + "/" + mode
+			);
+			
+			BigDecimal parts = BigDecimal.valueOf(codec.decodeBIDCoefficient(encoded), -codec.decodeBIDExponent(encoded));
+			
+			assertTrue(
+				parts.compareTo(expected) == 0,
+				"0x" + Long.toHexString(encoded) + " coefficient/exponent don't match (got " + parts + ") @ " + formatCodec(codec)
+			);
+			
+			assertTrue(
+				codec.encodeBIDToLong(decoded) == encoded,
+				"0x" + Long.toHexString(encoded) + " re-encoding doesn't match @ " + formatCodec(codec)
+			);
+			
+			assertTrue(
+				compare(codec.decodeDPD(codec.encodeDPD(decoded)), decoded),
+				decoded + " DPD re-decoding doesn't match @ " + formatCodec(codec)
+			);
+		}
+	}
+	
+	@Test
+	void testLong() {
+		assertTrue(Decimal32.CODEC.isLongSupported());
+		assertTrue(Decimal64.CODEC.isLongSupported());
+		assertTrue(!Decimal128.CODEC.isLongSupported());
+		
+		for(int i = 0; i < ROUNDINGS.length; ++i) {
+			CodecOptions options = CodecOptions.defaults().withRounding(ROUNDINGS[i]);
+			
+			testLong(Decimal32.CODEC.withOptions(options), ROUNDING_MODES[i]);
+			testLong(Decimal64.CODEC.withOptions(options), ROUNDING_MODES[i]);
+		}
+	}
+	
+	@Test
+	void testDPD() {
+		// 1E0 (canonical)
+		assertTrue(Decimal32.CODEC.encodeDPDToLong(Decimal32.FACTORY.create(1)) == 0x22500001L, "1 encoding doesn't match @ decimal32");
+		assertTrue(Decimal64.CODEC.encodeDPDToLong(Decimal64.FACTORY.create(1)) == 0x2238000000000001L, "1 encoding doesn't match @ decimal64");
+		
+		testDPD(Decimal32.CODEC, Decimal32.FACTORY);
+		testDPD(Decimal64.CODEC, Decimal64.FACTORY);
+		testDPD(Decimal128.CODEC, Decimal128.FACTORY);
+	}
+	
+	private <T extends Decimal<T>> void testDPD(DecimalCodec<T> codec, FloatingFactory<T> factory) {
+		int declets = codec.getSignificandBits() / 10;
+		
+		BigInteger max = BigInteger.TEN.pow(codec.getSignificandDigits());
+		
+		// every declet at a random position of the significand
+		for(int digits = 0; digits < 1000; ++digits) {
+			testDPD(codec, factory, BigDecimal.valueOf(digits).scaleByPowerOfTen(3 * RANDOM.nextInt(declets)));
+			testDPD(codec, factory, new BigDecimal(max.subtract(BigInteger.valueOf(digits + 1)), RANDOM.nextInt(-10, 10)));
+		}
+	}
+	
+	private <T extends Decimal<T>> void testDPD(DecimalCodec<T> codec, FloatingFactory<T> factory, BigDecimal value) {
+		T decimal = factory.create(value);
+		
+		T decoded = codec.decodeDPD(codec.encodeDPD(decimal));
+		
+		assertTrue(
+			decoded.getBigDecimal().compareTo(value) == 0,
+			value + " DPD re-decoding doesn't match (got " + decoded + ") @ " + formatCodec(codec)
+		);
+		
+		decoded = codec.decodeBID(codec.encodeBID(decimal));
+		
+		assertTrue(
+			decoded.getBigDecimal().compareTo(value) == 0,
+			value + " BID re-decoding doesn't match (got " + decoded + ") @ " + formatCodec(codec)
+		);
+	}
+	
+	@Test
+	void testLongPair() {
+		assertTrue(Decimal32.CODEC.isLongPairSupported());
+		assertTrue(Decimal64.CODEC.isLongPairSupported());
+		assertTrue(Decimal128.CODEC.isLongPairSupported());
+		
+		var codec = Decimal128.CODEC;
+		
+		int digits = codec.getSignificandDigits();
+		int bias = codec.getBias();
+		
+		BigDecimal min = codec.getMinSubnormalValue().getBigDecimal();
+		BigDecimal max = codec.getMaxValue().getBigDecimal();
+		
+		long[] hiLo = new long[2];
+		long[] coefficient = new long[2];
+		
+		for(int i = 0; i < ROUNDINGS.length; ++i) {
+			DecimalCodec<Decimal128> rounded = codec.withOptions(CodecOptions.defaults().withRounding(ROUNDINGS[i]));
+			
+			for(int j = 0; j < RANDOM_COUNT * 20; ++j) {
+				// random coefficient with up to 50 digits, random exponent (including subnormal numbers and exponents requiring padding)
+				BigInteger unscaled = new BigInteger(RANDOM.nextInt(1, 167), RANDOM).add(BigInteger.ONE);
+				BigDecimal value = new BigDecimal(unscaled, RANDOM.nextInt(-max.scale() - digits, min.scale() + 10));
+				
+				if(RANDOM.nextBoolean())
+					value = value.negate();
+				
+				if(value.abs().compareTo(max) > 0 || value.abs().compareTo(min) < 0)
+					continue;
+				
+				BigDecimal expected = value.round(new MathContext(digits, ROUNDING_MODES[i]));
+				
+				if(expected.scale() > bias) // subnormal
+					expected = value.setScale(bias, ROUNDING_MODES[i]);
+				
+				Decimal128 decimal = Decimal128.FACTORY.create(value);
+				
+				rounded.encodeBIDTo(decimal, hiLo);
+				Decimal128 decoded = codec.decodeBID(hiLo[0], hiLo[1]);
+				
+				assertTrue(
+					decoded.getBigDecimal().compareTo(expected) == 0,
+					value + " encoding doesn't match (got " + decoded + ") @ decimal128/" + ROUNDING_MODES[i]
+				);
+				
+				codec.decodeBIDCoefficient(hiLo[0], hiLo[1], coefficient);
+				
+				BigDecimal parts = new BigDecimal(
+					new BigInteger(Long.toUnsignedString(coefficient[0]))
+						.shiftLeft(64)
+						.add(new BigInteger(Long.toUnsignedString(coefficient[1]))),
+					-codec.decodeBIDExponent(hiLo[0], hiLo[1])
+				);
+				
+				assertTrue(
+					parts.compareTo(expected.abs()) == 0,
+					value + " coefficient/exponent don't match (got " + parts + ") @ decimal128"
+				);
+				
+				rounded.encodeDPDTo(decimal, hiLo);
+				decoded = codec.decodeDPD(hiLo[0], hiLo[1]);
+				
+				assertTrue(
+					decoded.getBigDecimal().compareTo(expected) == 0,
+					value + " DPD encoding doesn't match (got " + decoded + ") @ decimal128/" + ROUNDING_MODES[i]
+				);
+			}
+		}
+		
+		for(int i = 0; i < RANDOM_COUNT * 20; ++i) {
+			Decimal64 value = Decimal64.FACTORY.create(BigDecimal.valueOf(RANDOM.nextLong(), RANDOM.nextInt(-300, 300)));
+			
+			Decimal64.CODEC.encodeBIDTo(value, hiLo);
+			
+			assertTrue(
+				hiLo[0] == 0 && hiLo[1] == Decimal64.CODEC.encodeBIDToLong(value),
+				value + " encoding doesn't match long encoding @ decimal64"
+			);
+		}
+	}
+	
+	@Test
+	void testLazy() {
+		for(var codec : CODECS)
+			testLazy(codec);
+	}
+	
+	private <T extends Decimal<T>> void testLazy(DecimalCodec<T> codec) {
+		int bits = codec.getPositiveInfinity().bitLength() + 1;
+		
+		for(int i = 0; i < RANDOM_COUNT * 20; ++i) {
+			// random bits, including non-canonical significands
+			BigInteger value = new BigInteger(bits, RANDOM);
+			
+			if(codec.isNaN(value) || codec.isInfinity(value))
+				continue;
+			
+			T bid = codec.decodeBIDLazy(value);
+			T dpd = codec.decodeDPDLazy(value);
+			
+			// checked before anything decodes the values
+			assertTrue(
+				bid.isZero() == codec.decodeBID(value).isZero() && dpd.isZero() == codec.decodeDPD(value).isZero(),
+				"0x" + value.toString(16) + " lazy zero check doesn't match @ " + formatCodec(codec)
+			);
+			
+			assertTrue(
+				codec.encodeBID(bid).equals(value) && codec.encodeDPD(dpd).equals(value),
+				"0x" + value.toString(16) + " lazy codec encoding doesn't match @ " + formatCodec(codec)
+			);
+			
+			assertTrue(
+				bid.encodeBID().equals(value) && dpd.encodeDPD().equals(value),
+				"0x" + value.toString(16) + " lazy re-encoding doesn't match @ " + formatCodec(codec)
+			);
+			
+			assertTrue(
+				bid.getBigDecimal().compareTo(codec.decodeBID(value).getBigDecimal()) == 0,
+				"0x" + value.toString(16) + " lazy BID decoding doesn't match (got " + bid + ") @ " + formatCodec(codec)
+			);
+			
+			assertTrue(
+				dpd.getBigDecimal().compareTo(codec.decodeDPD(value).getBigDecimal()) == 0,
+				"0x" + value.toString(16) + " lazy DPD decoding doesn't match (got " + dpd + ") @ " + formatCodec(codec)
+			);
+		}
+	}
+	
+	@Test
+	void testCompact() {
+		testCompact(Decimal32.CODEC, (DecimalFactory<Decimal32>) Decimal32.FACTORY);
+		testCompact(Decimal64.CODEC, (DecimalFactory<Decimal64>) Decimal64.FACTORY);
+	}
+	
+	private <T extends Decimal<T>> void testCompact(DecimalCodec<T> codec, DecimalFactory<T> factory) {
+		int bias = codec.getBias();
+		int maxExp = (codec.getExponentRange().getValue() - 1) * 2 - 1 - bias;
+		long maxCoefficient = (long) Math.pow(10, codec.getSignificandDigits()) - 1;
+		
+		// values which are not representable
+		assertThrows(IllegalArgumentException.class, () -> factory.create(POSITIVE, maxCoefficient * 10 + 1, 0), "inexact value is created @ " + formatCodec(codec));
+		assertThrows(IllegalArgumentException.class, () -> factory.create(POSITIVE, 1, -bias - 1), "underflowing value is created @ " + formatCodec(codec));
+		assertThrows(IllegalArgumentException.class, () -> factory.create(NEGATIVE, maxCoefficient, maxExp + 1), "overflowing value is created @ " + formatCodec(codec));
+		
+		// trailing zeros are removed or added if necessary
+		assertTrue(
+			factory.create(POSITIVE, 10, -bias - 1).getBigDecimal().compareTo(codec.getMinSubnormalValue().getBigDecimal()) == 0
+				&& codec.decode(factory.create(NEGATIVE, 1, maxExp + 1).encode()).getBigDecimal().compareTo(BigDecimal.valueOf(-1, -maxExp - 1)) == 0,
+			"representable value is not created @ " + formatCodec(codec)
+		);
+		
+		T previous = null;
+		
+		for(int i = 0; i < RANDOM_COUNT * 20; ++i) {
+			// random coefficient with up to the maximum number of digits, random exponent (including subnormal numbers)
+			long coefficient = RANDOM.nextLong(1, (long) Math.pow(10, codec.getSignificandDigits()));
+			int exponent = RANDOM.nextInt(-bias, maxExp + 1);
+			int signum = RANDOM.nextBoolean() ? 1 : -1;
+			
+			T value = factory.create(signum, coefficient, exponent);
+			BigDecimal expected = BigDecimal.valueOf(signum * coefficient, -exponent);
+			
+			assertTrue(
+				value.getBigDecimal().compareTo(expected) == 0,
+				expected + " compact value doesn't match (got " + value + ") @ " + formatCodec(codec)
+			);
+			
+			assertTrue(
+				value.encodeBID().longValue() == codec.encodeBID(signum * coefficient, exponent),
+				expected + " compact encoding doesn't match @ " + formatCodec(codec)
+			);
+			
+			T decoded = codec.decodeDPD(value.encodeDPD());
+			
+			assertTrue(
+				decoded.getBigDecimal().compareTo(expected) == 0 && !decoded.isZero(),
+				expected + " compact DPD encoding doesn't match (got " + decoded + ") @ " + formatCodec(codec)
+			);
+			
+			assertTrue(
+				Double.compare(decoded.doubleValue(), expected.doubleValue()) == 0,
+				expected + " double value doesn't match (got " + decoded.doubleValue() + ") @ " + formatCodec(codec)
+			);
+			
+			if(previous != null)
+				assertTrue(
+					Integer.signum(decoded.compareTo(previous)) == expected.compareTo(previous.getBigDecimal()),
+					expected + " comparison with " + previous + " doesn't match @ " + formatCodec(codec)
+				);
+			
+			// same magnitude: a different member of the same cohort and its successor
+			if(coefficient < (long) Math.pow(10, codec.getSignificandDigits() - 1) && exponent > -bias) {
+				T cohort = factory.create(signum, coefficient * 10, exponent - 1);
+				T next = factory.create(signum, coefficient * 10 + 1, exponent - 1);
+				
+				assertTrue(
+					value.compareTo(cohort) == 0 && Integer.signum(value.compareTo(next)) == -signum,
+					expected + " comparison within its cohort doesn't match @ " + formatCodec(codec)
+				);
+			}
+			
+			previous = decoded;
+		}
+	}
+	
+	@Test
+	void testBulk() {
+		testBoundCodings(options -> {
+			testBulk(Decimal32.CODEC.withOptions(options), Decimal32.FACTORY);
+			testBulk(Decimal64.CODEC.withOptions(options), Decimal64.FACTORY);
+			testBulk(Decimal128.CODEC.withOptions(options), Decimal128.FACTORY);
+		});
+	}
+	
+	private <T extends Decimal<T>> void testBulk(DecimalCodec<T> codec, FloatingFactory<T> factory) {
+		int count = RANDOM_COUNT * 4;
+		int bytes = codec.getBytesPerValue();
+		
+		// random values, including zero, overflowing and underflowing values
+		BigDecimal[] values = new BigDecimal[count];
+		
+		for(int i = 0; i < count; ++i)
+			values[i] = new BigDecimal(
+				new BigInteger(RANDOM.nextInt(0, 130), RANDOM).multiply(BigInteger.valueOf(RANDOM.nextBoolean() ? 1 : -1)),
+				RANDOM.nextInt(-codec.getBias() - 40, codec.getBias() + 40)
+			);
+		
+		byte[] packed = new byte[count * bytes];
+		
+		codec.encodeAll(values, 0, count, packed, 0);
+		
+		List<T> decoded = codec.decodeAll(packed, 0, count);
+		
+		for(int i = 0; i < count; ++i) {
+			BigInteger expected = codec.encode(factory.create(values[i]));
+			BigInteger actual = new BigInteger(1, Arrays.copyOfRange(packed, i * bytes, (i + 1) * bytes));
+			
+			assertTrue(
+				actual.equals(expected),
+				values[i] + " bulk encoding doesn't match (got 0x" + actual.toString(16) + ") @ " + formatCodec(codec)
+			);
+			
+			assertTrue(
+				codec.encode(decoded.get(i)).equals(expected),
+				values[i] + " bulk decoding doesn't match (got " + decoded.get(i) + ") @ " + formatCodec(codec)
+			);
+		}
+	}
+	
+	@Test
+	void testByteOrder() {
+		testBoundCodings(options -> {
+			testByteOrder(Decimal32.CODEC.withOptions(options), Decimal32.FACTORY);
+			testByteOrder(Decimal64.CODEC.withOptions(options), Decimal64.FACTORY);
+			testByteOrder(Decimal128.CODEC.withOptions(options), Decimal128.FACTORY);
+		});
+	}
+	
+	private <T extends Decimal<T>> void testByteOrder(DecimalCodec<T> codec, FloatingFactory<T> factory) {
+		int bytes = codec.getBytesPerValue();
+		
+		for(ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			ByteBuffer buffer = ByteBuffer.allocate(bytes).order(order);
+			
+			for(int i = 0; i < RANDOM_COUNT; ++i) {
+				T value = factory.create(new BigDecimal(
+					new BigInteger(RANDOM.nextInt(0, 110), RANDOM),
+					RANDOM.nextInt(-codec.getBias(), codec.getBias())
+				));
+				
+				BigInteger expected = codec.encode(value);
+				
+				codec.encodeTo(value, buffer.clear());
+				
+				byte[] raw = buffer.array().clone();
+				
+				if(order == ByteOrder.LITTLE_ENDIAN)
+					for(int j = 0; j < bytes / 2; ++j) {
+						byte tmp = raw[j];
+						raw[j] = raw[bytes - 1 - j];
+						raw[bytes - 1 - j] = tmp;
+					}
+				
+				BigInteger actual = new BigInteger(1, raw);
+				
+				assertTrue(
+					actual.equals(expected),
+					value + " " + order + " encoding doesn't match (got 0x" + actual.toString(16) + ") @ " + formatCodec(codec)
+				);
+				
+				assertTrue(
+					codec.encode(codec.decodeFrom(buffer.flip())).equals(expected)
+						&& codec.encode(codec.decodeFrom(buffer.array(), 0, order)).equals(expected),
+					value + " " + order + " decoding doesn't match @ " + formatCodec(codec)
+				);
+			}
+		}
+	}
+	
+	@Test
+	void testStreams() {
+		testBoundCodings(options -> {
+			try {
+				testStreams(Decimal32.CODEC.withOptions(options), Decimal32.FACTORY);
+				testStreams(Decimal64.CODEC.withOptions(options), Decimal64.FACTORY);
+				testStreams(Decimal128.CODEC.withOptions(options), Decimal128.FACTORY);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+	
+	private <T extends Decimal<T>> void testStreams(DecimalCodec<T> codec, FloatingFactory<T> factory) throws IOException {
+		for(ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			
+			BigInteger[] expected = new BigInteger[RANDOM_COUNT];
+			
+			try(var out = new FloatingDataOutputStream(bytes, order, 5)) {
+				for(int i = 0; i < RANDOM_COUNT; ++i) {
+					T value = factory.create(new BigDecimal(
+						new BigInteger(RANDOM.nextInt(0, 110), RANDOM),
+						RANDOM.nextInt(-codec.getBias(), codec.getBias())
+					));
+					
+					expected[i] = codec.encode(value);
+					
+					out.write(codec, value);
+				}
+			}
+			
+			try(var in = new FloatingDataInputStream(new ByteArrayInputStream(bytes.toByteArray()), order, 5)) {
+				List<T> values = in.read(codec, RANDOM_COUNT);
+				
+				for(int i = 0; i < RANDOM_COUNT; ++i)
+					assertTrue(
+						codec.encode(values.get(i)).equals(expected[i]),
+						"0x" + expected[i].toString(16) + " " + order + " stream decoding doesn't match @ " + formatCodec(codec)
+					);
+				
+				assertTrue(in.read() == -1, "stream has trailing data");
+			}
+		}
+	}
+	
+	@Test
+	void testOptions() {
+		testOptions(Decimal32.CODEC, Decimal32.FACTORY);
+		testOptions(Decimal64.CODEC, Decimal64.FACTORY);
+		testOptions(Decimal128.CODEC, Decimal128.FACTORY);
+	}
+	
+	private <T extends Decimal<T>> void testOptions(DecimalCodec<T> codec, FloatingFactory<T> factory) {
+		int n = codec.getBytesPerValue();
+		
+		for(DecimalCoding coding : DecimalCoding.values())
+			for(Rounding rounding : ROUNDINGS) {
+				CodecOptions options = new CodecOptions(rounding, coding);
+				DecimalCodec<T> bound = codec.withOptions(options);
+				
+				// only the rounding is bound, the coding is chosen explicitly
+				DecimalCodec<T> rounded = codec.withOptions(CodecOptions.defaults().withRounding(rounding));
+				
+				String name = formatCodec(codec) + "/" + coding + "/" + rounding;
+				
+				for(int i = 0; i < RANDOM_COUNT; ++i) {
+					// more digits than the significand can hold, so that the value is rounded
+					BigDecimal digits = new BigDecimal(
+						new BigInteger(RANDOM.nextInt(0, 130), RANDOM),
+						RANDOM.nextInt(-codec.getBias() / 2, codec.getBias() / 2)
+					);
+					
+					T value = factory.create(RANDOM.nextBoolean() ? digits.negate() : digits);
+					
+					BigInteger expected = coding == DecimalCoding.DENSLY_PACKED_DECIMAL
+						? rounded.encodeDPD(value)
+						: rounded.encodeBID(value);
+					
+					assertTrue(
+						compare(bound.encode(value), expected),
+						value + " encoding with bound options doesn't match @ " + name
+					);
+					
+					assertTrue(
+						compare(codec.encode(value, options), expected),
+						value + " encoding with options doesn't match @ " + name
+					);
+					
+					T decoded = coding == DecimalCoding.DENSLY_PACKED_DECIMAL
+						? codec.decodeDPD(expected)
+						: codec.decodeBID(expected);
+					
+					assertTrue(
+						compare(bound.decode(expected), decoded) && compare(codec.decode(expected, options), decoded),
+						"0x" + expected.toString(16) + " decoding with options doesn't match @ " + name
+					);
+					
+					byte[] bytes = new byte[n];
+					
+					bound.encodeAll(List.of(value), bytes, 0);
+					
+					assertTrue(
+						compare(new BigInteger(1, bytes), expected),
+						value + " bulk encoding with bound options doesn't match @ " + name
+					);
+					
+					assertTrue(
+						compare(bound.decodeAll(bytes, 0, 1).get(0), decoded),
+						"0x" + expected.toString(16) + " bulk decoding with bound options doesn't match @ " + name
+					);
+				}
+			}
+	}
+	
+	@Test
+	void testFlags() {
+		testBoundCodings(options -> {
+			testFlags(Decimal32.CODEC.withOptions(options), Decimal32.FACTORY);
+			testFlags(Decimal64.CODEC.withOptions(options), Decimal64.FACTORY);
+			testFlags(Decimal128.CODEC.withOptions(options), Decimal128.FACTORY);
+		});
+	}
+	
+	private <T extends Decimal<T>> void testFlags(DecimalCodec<T> codec, FloatingFactory<T> factory) {
+		int bytes = codec.getBytesPerValue();
+		
+		BigDecimal[] values = new BigDecimal[RANDOM_COUNT];
+		StatusFlags combined = new StatusFlags();
+		
+		BigDecimal min = codec.getMinValue().getBigDecimal();
+		
+		// random values, including exact, overflowing and underflowing values
+		for(int i = 0; i < RANDOM_COUNT; ++i) {
+			BigDecimal value = new BigDecimal(
+				new BigInteger(RANDOM.nextInt(0, 130), RANDOM).multiply(BigInteger.valueOf(RANDOM.nextBoolean() ? 1 : -1)),
+				RANDOM.nextInt(-codec.getBias() - 40, codec.getBias() + 40)
+			);
+			
+			values[i] = value;
+			
+			StatusFlags flags = new StatusFlags();
+			
+			BigInteger encoded = codec.encode(factory.create(value, flags), flags);
+			T decoded = codec.decode(encoded);
+			
+			int expected = 0;
+			
+			if(decoded.isInfinity())
+				expected = StatusFlags.OVERFLOW | StatusFlags.INEXACT;
+			
+			else if(decoded.getBigDecimal().compareTo(value) != 0) {
+				expected = StatusFlags.INEXACT;
+				
+				if(value.abs().compareTo(min) < 0)
+					expected |= StatusFlags.UNDERFLOW;
+			}
+			
+			assertTrue(flags.getFlags() == expected, value + " raised " + flags + " @ " + formatCodec(codec));
+			
+			combined.merge(flags);
+		}
+		
+		StatusFlags bulk = new StatusFlags();
+		
+		codec.encodeAll(values, 0, values.length, new byte[values.length * bytes], 0, bulk);
+		
+		assertTrue(
+			bulk.getFlags() == combined.getFlags(),
+			"bulk encoding raised " + bulk + " instead of " + combined + " @ " + formatCodec(codec)
+		);
+		
+		for(int signum : SIGNUMS) {
+			StatusFlags flags = new StatusFlags();
+			
+			codec.encode(factory.create(signum, FloatingType.SIGNALING_NAN), flags);
+			codec.decode(codec.getSignalingNaN(signum), flags);
+			
+			assertTrue(flags.getFlags() == StatusFlags.INVALID, "sNaN raised " + flags + " @ " + formatCodec(codec));
+			
+			flags = new StatusFlags();
+			
+			codec.encode(factory.create(signum, FloatingType.QUIET_NAN), flags);
+			codec.decode(codec.getQuietNaN(signum), flags);
+			
+			assertTrue(flags.isClear(), "qNaN raised " + flags + " @ " + formatCodec(codec));
+		}
+	}
+	
+	@Test
+	void testParse() {
+		testBoundCodings(options -> {
+			testParse(Decimal32.CODEC.withOptions(options), Decimal32.FACTORY);
+			testParse(Decimal64.CODEC.withOptions(options), Decimal64.FACTORY);
+			testParse(Decimal128.CODEC.withOptions(options), Decimal128.FACTORY);
+			
+			for(Rounding rounding : List.of(Rounding.TIES_AWAY, Rounding.TOWARD_ZERO, Rounding.TOWARD_POSITIVE, Rounding.TOWARD_NEGATIVE))
+				testParse(Decimal64.CODEC.withOptions(options.withRounding(rounding)), Decimal64.FACTORY);
+		});
+		
+		for(String string : new String[] { "12345678901234567", "-0.000001234567890123456789012345", "1E-398", "5E-399", "9.999999999999999E384" }) {
+			long bid = Decimal64.CODEC.parseBIDToLong(string);
+			long dpd = Decimal64.CODEC.parseDPDToLong(string);
+			
+			assertTrue(compare(Decimal64.CODEC.decodeBID(bid), Decimal64.CODEC.decodeDPD(dpd)), string + " is not parsed consistently @ decimal64");
+			assertTrue(compare(Decimal64.CODEC.parse(string), Decimal64.CODEC.decodeBID(bid)), string + " is not parsed correctly @ decimal64");
+		}
+		
+		assertTrue(Decimal64.CODEC.parse("-Infinity").isNegativeInfinity(), "-Infinity is not parsed correctly @ decimal64");
+		assertTrue(Decimal128.CODEC.parse("NaN").isQuietNaN(), "NaN is not parsed as qNaN @ decimal128");
+		assertTrue(Decimal32.CODEC.parse("-0").isNegative(), "-0 is not parsed as negative zero @ decimal32");
+		
+		for(String string : new String[] { "", "+", "1e+", "1..0", ".e1", "1e5.0", "NaN1" })
+			assertThrows(NumberFormatException.class, () -> Decimal64.CODEC.parseBits(string), "'" + string + "' is parsed @ decimal64");
+	}
+	
+	private <T extends Decimal<T>> void testParse(DecimalCodec<T> codec, FloatingFactory<T> factory) {
+		// values which are neither flushed to zero nor infinity by the factory
+		BigDecimal min = codec.getMinSubnormalValue().getBigDecimal();
+		BigDecimal max = codec.getMaxValue().getBigDecimal();
+		
+		for(int i = 0; i < RANDOM_COUNT * 4; ++i) {
+			StringBuilder sb = new StringBuilder(RANDOM.nextBoolean() ? "-" : "");
+			
+			// up to 19 digits are parsed without creating a BigDecimal, more digits might be truncated
+			int digits = RANDOM.nextInt(1, RANDOM.nextBoolean() ? 20 : 50);
+			
+			for(int j = 0; j < digits; ++j)
+				sb.append((char) ('0' + RANDOM.nextInt(10)));
+			
+			if(RANDOM.nextBoolean())
+				sb.insert(sb.length() - RANDOM.nextInt(digits), '.');
+			
+			sb.append('E').append(RANDOM.nextInt(-codec.getBias() - digits - 5, codec.getBias()));
+			
+			String string = sb.toString();
+			BigDecimal value = new BigDecimal(string);
+			
+			if(value.signum() == 0 || value.abs().compareTo(min) < 0 || value.abs().compareTo(max) > 0)
+				continue;
+			
+			assertTrue(
+				compare(codec.parseBits(string), codec.encode(factory.create(value))),
+				string + " is not parsed correctly @ " + formatCodec(codec)
+			);
+		}
+	}
+	
 	/*
 	 * 1 001101   011 001 110 0   101 000 111 1
 	 * 